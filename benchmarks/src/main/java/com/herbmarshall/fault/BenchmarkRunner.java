@@ -0,0 +1,43 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmarks of this module with the {@link GCProfiler} attached,
+ * so every result is reported with its allocation rate per operation ({@code gc.alloc.rate.norm}).
+ * Each argument is a regular expression selecting benchmarks; with none, every benchmark is run.
+ */
+public final class BenchmarkRunner {
+
+	private static final int FORKS = 2;
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int MEASUREMENT_ITERATIONS = 5;
+	private static final TimeValue ITERATION_TIME = TimeValue.seconds( 1 );
+
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Run the selected benchmarks.
+	 * @param args Regular expressions selecting the benchmarks to run
+	 * @throws RunnerException if JMH fails to run the benchmarks
+	 */
+	public static void main( String[] args ) throws RunnerException {
+		ChainedOptionsBuilder options = new OptionsBuilder()
+			.forks( FORKS )
+			.warmupIterations( WARMUP_ITERATIONS )
+			.warmupTime( ITERATION_TIME )
+			.measurementIterations( MEASUREMENT_ITERATIONS )
+			.measurementTime( ITERATION_TIME )
+			.addProfiler( GCProfiler.class );
+		if ( args.length == 0 ) options.include( BenchmarkRunner.class.getPackageName() + "\\..*Benchmark" );
+		for ( String include : args ) options.include( include );
+		new Runner( options.build() ).run();
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConstructorResolver#resolve()} with the parameter lists {@link Fault#build()} tries,
+ * for types matched by the first list, by a later list, and by none.
+ * Each decision is memoised, so after the first invocation these measure the cached lookup.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class ConstructorResolverBenchmark {
+
+	private static final IllegalStateException CAUSE = new IllegalStateException();
+
+	/** @return The {@code String} constructor of a JDK type. */
+	@Benchmark
+	public Constructor<IllegalStateException> resolveString() {
+		return resolver( IllegalStateException.class ).resolve();
+	}
+
+	/** @return The {@code Object} constructor of a type without a {@code String} one. */
+	@Benchmark
+	public Constructor<ObjectException> resolveObject() {
+		return resolver( ObjectException.class ).resolve();
+	}
+
+	/** @return The error raised for a type without a usable constructor. */
+	@Benchmark
+	public UnsupportedOperationException resolveMissing() {
+		try {
+			resolver( MissingException.class ).resolve();
+			throw new IllegalStateException( "Resolution should have failed" );
+		}
+		catch ( UnsupportedOperationException e ) {
+			return e;
+		}
+	}
+
+	/** @return The {@code (String, Throwable)} constructor of a JDK type. */
+	@Benchmark
+	public Constructor<IllegalStateException> resolveCaused() {
+		return ConstructorResolver.using( IllegalStateException.class )
+			.tryParameters( String.class, Throwable.class )
+			.tryParameters( Object.class, Throwable.class )
+			.resolve();
+	}
+
+	/** @return An instance built by a {@code (String, IllegalStateException)} constructor, found for its cause. */
+	@Benchmark
+	public NarrowCauseException createNarrowCause() {
+		return ConstructorResolver.using( NarrowCauseException.class )
+			.tryParameters( String.class, Throwable.class )
+			.create( "Resource could not be found", CAUSE );
+	}
+
+	private static <T> ConstructorResolver<T> resolver( Class<T> type ) {
+		return ConstructorResolver.using( type )
+			.tryParameters( String.class )
+			.tryParameters( Object.class );
+	}
+
+	/** Only has an {@code Object} message constructor. */
+	public static class ObjectException extends RuntimeException {
+
+		/**
+		 * Create instance.
+		 * @param message The error message
+		 */
+		public ObjectException( Object message ) {
+			super( String.valueOf( message ) );
+		}
+
+	}
+
+	/** Only takes a narrower cause. */
+	public static class NarrowCauseException extends RuntimeException {
+
+		/**
+		 * Create instance.
+		 * @param message The error message
+		 * @param cause The cause
+		 */
+		public NarrowCauseException( String message, IllegalStateException cause ) {
+			super( message, cause );
+		}
+
+	}
+
+	/** Has no constructor taking a message. */
+	public static class MissingException extends RuntimeException {
+
+		/**
+		 * Create instance.
+		 * @param code The error code
+		 */
+		public MissingException( int code ) {
+			super( Integer.toString( code ) );
+		}
+
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/** Measures the per call cost of the {@link Fault} operations. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultBenchmark {
+
+	private static final String MESSAGE = "Resource could not be found";
+	private static final int BATCH_SIZE = 16;
+
+	private final Fault<IllegalStateException> fault = new Fault<>( IllegalStateException.class, MESSAGE );
+	private final Fault<IllegalStateException> same = new Fault<>( IllegalStateException.class, MESSAGE );
+	private final Fault<IllegalStateException> other = new Fault<>( IllegalStateException.class, MESSAGE + "!" );
+	private final Fault<LightweightException> lightweight = new Fault<>( LightweightException.class, MESSAGE );
+	private final FaultTemplate<IllegalStateException> template =
+		new FaultTemplate<>( IllegalStateException.class, "Resource {} could not be found in {}" );
+
+	private final Throwable cause = new RuntimeException();
+	private final IllegalStateException matching = fault.build();
+	private final IllegalStateException mismatched = other.build();
+	private final OutputStream sink = OutputStream.nullOutputStream();
+	private final DedupFaultPrinter dedup = DedupFaultPrinter.to( sink ).build();
+
+	/** @return A new error. */
+	@Benchmark
+	public IllegalStateException build() {
+		return fault.build();
+	}
+
+	/** @return A new error, with a cause. */
+	@Benchmark
+	public IllegalStateException buildWithCause() {
+		return fault.build( cause );
+	}
+
+	/** @return A new error, without a stack trace. */
+	@Benchmark
+	public LightweightException buildLightweight() {
+		return lightweight.buildLightweight();
+	}
+
+	/** @return A new composite error, with a lightweight suppressed error per failure. */
+	@Benchmark
+	public IllegalStateException buildBatch() {
+		FaultBatch<IllegalStateException> batch = fault.batch().lightweight();
+		for ( int i = 0; i < BATCH_SIZE; i++ ) batch.add( lightweight );
+		return batch.build();
+	}
+
+	/** @return The fault, after a successful validation. */
+	@Benchmark
+	public Fault<IllegalStateException> validateSuccess() {
+		return fault.validate( matching, sink );
+	}
+
+	/** @return The error raised by a failed validation. */
+	@Benchmark
+	public AssertionError validateFailure() {
+		try {
+			fault.validate( mismatched, sink );
+			throw new IllegalStateException( "Validation should have failed" );
+		}
+		catch ( AssertionError e ) {
+			return e;
+		}
+	}
+
+	/** Print to a stream that discards its output. */
+	@Benchmark
+	public void print() {
+		fault.print( sink );
+	}
+
+	/** @return false once the first print has opened the window. */
+	@Benchmark
+	public boolean printDeduplicated() {
+		return dedup.print( fault );
+	}
+
+	/** @return The string form of the fault. */
+	@Benchmark
+	public String toStringForm() {
+		return fault.toString();
+	}
+
+	/** @return The hash code of the fault. */
+	@Benchmark
+	public int hashCodeValue() {
+		return fault.hashCode();
+	}
+
+	/** @return The comparison of two equal, distinct faults. */
+	@Benchmark
+	public boolean equalsSame() {
+		return fault.equals( same );
+	}
+
+	/** @return The comparison of two faults with different messages. */
+	@Benchmark
+	public boolean equalsOther() {
+		return fault.equals( other );
+	}
+
+	/** @return A new error, with its message rendered from a template. */
+	@Benchmark
+	public IllegalStateException buildTemplate() {
+		return template.build( "config.yml", "/etc/app" );
+	}
+
+	/** @return The message of a new lazily rendered fault. */
+	@Benchmark
+	public String lazyMessage() {
+		return Fault.lazy( IllegalStateException.class, () -> MESSAGE ).getMessage();
+	}
+
+	/** Exposes the protected constructor {@link Fault#buildLightweight()} uses. */
+	public static class LightweightException extends RuntimeException {
+
+		/**
+		 * Create instance.
+		 * @param message The error message
+		 */
+		public LightweightException( String message ) {
+			super( message );
+		}
+
+		protected LightweightException(
+			String message,
+			Throwable cause,
+			boolean enableSuppression,
+			boolean writableStackTrace
+		) {
+			super( message, cause, enableSuppression, writableStackTrace );
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** Measures {@link FaultCatalog} lookups in a catalog of a few hundred faults. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultCatalogBenchmark {
+
+	private static final int FAULTS = 500;
+
+	private final FaultCatalog catalog = new FaultCatalog();
+	private Fault<IllegalStateException> fault;
+	private Fault<IllegalStateException> equal;
+	private int code;
+
+	/** Populate the catalog. */
+	@Setup
+	public void setUp() {
+		for ( int i = 0; i < FAULTS; i++ ) {
+			fault = catalog.intern( new Fault<>( IllegalStateException.class, "Fault number " + i ) );
+		}
+		equal = new Fault<>( IllegalStateException.class, fault.getMessage() );
+		code = catalog.codeOf( fault );
+	}
+
+	/** @return The fault with a known code. */
+	@Benchmark
+	public Fault<?> byCode() {
+		return catalog.byCode( code );
+	}
+
+	/** @return The fault with a known type and message. */
+	@Benchmark
+	public Fault<IllegalStateException> lookup() {
+		return catalog.lookup( IllegalStateException.class, fault.getMessage() );
+	}
+
+	/** @return The code of a fault equal to a catalogued one. */
+	@Benchmark
+	public int codeOf() {
+		return catalog.codeOf( equal );
+	}
+
+	/** @return The catalogued fault equal to an already interned one. */
+	@Benchmark
+	public Fault<IllegalStateException> intern() {
+		return catalog.intern( equal );
+	}
+
+}
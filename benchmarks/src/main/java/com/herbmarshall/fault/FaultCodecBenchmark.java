@@ -0,0 +1,73 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/** Compares the {@link Fault} encoders with encoding the string form. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultCodecBenchmark {
+
+	private static final int CAPACITY = 1024;
+
+	private final Fault<IllegalStateException> fault =
+		new Fault<>( IllegalStateException.class, "Resource could not be found" )
+			.with( "tenant", "acme" )
+			.with( "request", "6f1c2a" );
+	private final Throwable cause = new IllegalArgumentException( "Bad resource name" );
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect( CAPACITY );
+	private final ByteBuffer binary = ByteBuffer.allocate( CAPACITY );
+	private final ByteBuffer json = ByteBuffer.allocate( CAPACITY );
+
+	/** Fill the buffers read by the decoding benchmarks. */
+	public FaultCodecBenchmark() {
+		BinaryFaultCodec.encode( fault, cause, binary );
+		binary.flip();
+		JsonFaultCodec.encode( fault, cause, json );
+		json.flip();
+	}
+
+	/** @return The number of bytes written. */
+	@Benchmark
+	public int encodeBinary() {
+		buffer.clear();
+		return BinaryFaultCodec.encode( fault, cause, buffer );
+	}
+
+	/** @return The number of bytes written. */
+	@Benchmark
+	public int encodeJson() {
+		buffer.clear();
+		return JsonFaultCodec.encode( fault, cause, buffer );
+	}
+
+	/** @return The number of bytes written. */
+	@Benchmark
+	public int encodeToString() {
+		buffer.clear();
+		buffer.put( ( fault + " " + cause ).getBytes( StandardCharsets.UTF_8 ) );
+		return buffer.position();
+	}
+
+	/** @return The decoded record. */
+	@Benchmark
+	public FaultRecord decodeBinary() {
+		return BinaryFaultCodec.decode( binary.rewind() );
+	}
+
+	/** @return The decoded record. */
+	@Benchmark
+	public FaultRecord decodeJson() {
+		return JsonFaultCodec.decode( json.rewind() );
+	}
+
+}
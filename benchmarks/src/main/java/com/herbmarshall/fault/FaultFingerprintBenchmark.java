@@ -0,0 +1,51 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/** Compares {@link FaultFingerprint} with hashing the rendered stack trace. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultFingerprintBenchmark {
+
+	private final Fault<IllegalStateException> fault =
+		new Fault<>( IllegalStateException.class, "Resource could not be found" );
+	private final IllegalStateException error = fault.build();
+	private final FingerprintAggregator aggregator = new FingerprintAggregator();
+
+	/** @return The fingerprint of a built error. */
+	@Benchmark
+	public long fingerprint() {
+		return FaultFingerprint.of( error );
+	}
+
+	/** @return The fingerprint of the error the fault would build here. */
+	@Benchmark
+	public long fingerprintHere() {
+		return FaultFingerprint.here( fault );
+	}
+
+	/** @return The fingerprint, after counting it. */
+	@Benchmark
+	public long aggregate() {
+		return aggregator.record( error );
+	}
+
+	/** @return The hash of the rendered stack trace. */
+	@Benchmark
+	public int renderedHash() {
+		StringWriter writer = new StringWriter();
+		error.printStackTrace( new PrintWriter( writer ) );
+		return writer.toString().hashCode();
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/** Compares appending to a {@link FaultJournal} with printing to a buffered file, from several threads. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Threads( FaultJournalBenchmark.THREADS )
+public class FaultJournalBenchmark {
+
+	static final int THREADS = 4;
+
+	private final Fault<IllegalStateException> fault =
+		new Fault<>( IllegalStateException.class, "Resource could not be found" )
+			.with( "tenant", "acme" );
+	private FaultJournal journal;
+	private OutputStream file;
+
+	/** Open the journal and the file in fresh temporary directories. */
+	@Setup
+	public void setUp() {
+		try {
+			journal = FaultJournal.open( Files.createTempDirectory( "faultJournal" ) );
+			Path log = Files.createTempFile( "faultJournal", ".log" );
+			file = new BufferedOutputStream( Files.newOutputStream( log ) );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/** Close the journal and the file. */
+	@TearDown
+	public void tearDown() {
+		journal.close();
+		try {
+			file.close();
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/** @return The journal. */
+	@Benchmark
+	public FaultJournal append() {
+		return journal.append( fault );
+	}
+
+	/** @return The fault printed. */
+	@Benchmark
+	public Fault<IllegalStateException> print() {
+		synchronized ( file ) {
+			return fault.print( file );
+		}
+	}
+
+}
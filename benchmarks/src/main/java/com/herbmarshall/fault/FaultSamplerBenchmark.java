@@ -0,0 +1,47 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/** Measures {@link Fault#build()} with {@link FaultSampler} off, sampling sparsely, and sampling every build. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultSamplerBenchmark {
+
+	private final Fault<IllegalStateException> fault =
+		new Fault<>( IllegalStateException.class, "Resource could not be found" );
+
+	/** The sampling rate, 0 for off. */
+	@Param( { "0", "1024", "1" } )
+	protected int rate;
+
+	/** Start sampling. */
+	@Setup
+	public void setUp() {
+		FaultSampler.setRate( rate );
+	}
+
+	/** Stop sampling. */
+	@TearDown
+	public void tearDown() {
+		FaultSampler.setRate( 0 );
+		FaultSampler.reset();
+	}
+
+	/** @return A new error. */
+	@Benchmark
+	public IllegalStateException build() {
+		return fault.build();
+	}
+
+}
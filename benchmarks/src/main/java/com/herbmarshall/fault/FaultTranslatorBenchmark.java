@@ -0,0 +1,59 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.file.NoSuchFileException;
+import java.util.concurrent.TimeUnit;
+
+/** Compares choosing a {@link Fault} with a {@link FaultTranslator} against a chain of {@code instanceof} checks. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultTranslatorBenchmark {
+
+	private final Fault<IllegalStateException> timeout =
+		new Fault<>( IllegalStateException.class, "Timed out" );
+	private final Fault<IllegalStateException> missing =
+		new Fault<>( IllegalStateException.class, "Not found" );
+	private final Fault<IllegalStateException> interrupted =
+		new Fault<>( IllegalStateException.class, "Interrupted" );
+	private final Fault<IllegalStateException> failure =
+		new Fault<>( IllegalStateException.class, "Failed" );
+
+	private final FaultTranslator translator = FaultTranslator.builder()
+		.map( SocketTimeoutException.class, timeout )
+		.map( InterruptedIOException.class, interrupted )
+		.map( NoSuchFileException.class, missing )
+		.map( FileNotFoundException.class, missing )
+		.map( IOException.class, failure )
+		.build();
+
+	private final Throwable error = new IOException();
+
+	/** @return The fault chosen by the translator. */
+	@Benchmark
+	public Fault<?> translator() {
+		return translator.faultOf( error );
+	}
+
+	/** @return The fault chosen by {@code instanceof} checks. */
+	@Benchmark
+	public Fault<?> instanceofChain() {
+		if ( error instanceof SocketTimeoutException ) return timeout;
+		if ( error instanceof InterruptedIOException ) return interrupted;
+		if ( error instanceof NoSuchFileException ) return missing;
+		if ( error instanceof FileNotFoundException ) return missing;
+		if ( error instanceof IOException ) return failure;
+		return null;
+	}
+
+}
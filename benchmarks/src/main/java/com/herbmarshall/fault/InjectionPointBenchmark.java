@@ -0,0 +1,61 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link InjectionPoint#check()} while disabled, against a call that does nothing.
+ * From a {@code static final} field, a disabled check, even one enabled and disabled again, should cost the same
+ * as {@link #baseline()}; {@link #checkField()} shows the cost of a point the JIT cannot treat as a constant.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class InjectionPointBenchmark {
+
+	private static final InjectionPoint<RuntimeException> POINT =
+		InjectionPoint.named( InjectionPointBenchmark.class.getName(), RuntimeException.class );
+
+	private static final InjectionPoint<RuntimeException> RELINKED =
+		InjectionPoint.named( InjectionPointBenchmark.class.getName() + ".relinked", RuntimeException.class );
+
+	private final InjectionPoint<RuntimeException> field = POINT;
+
+	/** Enable then disable {@link #RELINKED}, so its call site has been relinked twice. */
+	@Setup
+	public void setUp() {
+		RELINKED.enable( InjectionRule.every( new Fault<>( IllegalStateException.class, "Relinked" ), 1 ) );
+		RELINKED.disable();
+	}
+
+	/** The baseline. */
+	@Benchmark
+	public void baseline() {
+	}
+
+	/** Check a disabled point. */
+	@Benchmark
+	public void checkDisabled() {
+		POINT.check();
+	}
+
+	/** Check a point that was enabled, then disabled. */
+	@Benchmark
+	public void checkRelinked() {
+		RELINKED.check();
+	}
+
+	/** Check a disabled point read from an instance field. */
+	@Benchmark
+	public void checkField() {
+		field.check();
+	}
+
+}
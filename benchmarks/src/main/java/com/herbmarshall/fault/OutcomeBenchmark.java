@@ -0,0 +1,50 @@
+package com.herbmarshall.fault;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** Compares reporting a failure as an {@link Outcome} with throwing and catching the error of a {@link Fault}. */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class OutcomeBenchmark {
+
+	private final Fault<IllegalStateException> fault =
+		new Fault<>( IllegalStateException.class, "Resource could not be found" );
+
+	/** @return The fallback, after a failure reported as an outcome. */
+	@Benchmark
+	public String outcome() {
+		Outcome<String> outcome = fault.failure();
+		return outcome.map( String::trim ).orElse( "fallback" );
+	}
+
+	/** @return The fallback, after a failure reported by throwing. */
+	@Benchmark
+	public String thrown() {
+		try {
+			throw fault.build();
+		}
+		catch ( IllegalStateException e ) {
+			return "fallback";
+		}
+	}
+
+	/** @return The fallback, after a failure reported by throwing a stackless error. */
+	@Benchmark
+	public String thrownLightweight() {
+		try {
+			throw fault.buildLightweight();
+		}
+		catch ( IllegalStateException e ) {
+			return "fallback";
+		}
+	}
+
+}
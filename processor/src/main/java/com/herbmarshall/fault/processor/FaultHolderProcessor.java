@@ -0,0 +1,335 @@
+package com.herbmarshall.fault.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a {@code FaultFactoryProvider} for each class annotated with {@code FaultHolder}.
+ * The provider constructs the type of every static {@code Fault} field directly, using constructor references.
+ * Types that cannot be constructed that way, or that declare the lightweight
+ * {@code (String, Throwable, boolean, boolean)} shape, are listed in a GraalVM {@code reflect-config.json}
+ * with all of their declared constructors, as those will still be resolved reflectively at runtime,
+ * whatever their visibility.
+ * A constructor that declares a checked exception does not fit a {@code Function} or {@code BiFunction},
+ * so its shape is left to reflection too; a shape no single constructor is most specific for is an error,
+ * as it cannot be resolved at compile time or at runtime.
+ */
+@SupportedAnnotationTypes( FaultHolderProcessor.HOLDER )
+public final class FaultHolderProcessor extends AbstractProcessor {
+
+	static final String HOLDER = "com.herbmarshall.fault.FaultHolder";
+	static final String FAULT = "com.herbmarshall.fault.Fault";
+	static final String PROVIDER = "com.herbmarshall.fault.FaultFactoryProvider";
+
+	static final String PROVIDER_SUFFIX = "FaultFactories";
+	static final String SERVICE_FILE = "META-INF/services/" + PROVIDER;
+	static final String REFLECT_CONFIG_TEMPLATE = "META-INF/native-image/%s/reflect-config.json";
+	static final String REFLECTIVE_NOTE_TEMPLATE = "%s will be constructed reflectively";
+	static final String AMBIGUOUS_TEMPLATE = "%s has more than one most specific constructor for (%s)";
+
+	private final Set<String> providers = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process( Set<? extends TypeElement> annotations, RoundEnvironment round ) {
+		for ( TypeElement annotation : annotations ) {
+			for ( TypeElement holder : ElementFilter.typesIn( round.getElementsAnnotatedWith( annotation ) ) ) {
+				process( holder );
+			}
+		}
+		if ( round.processingOver() && ! providers.isEmpty() ) writeServiceFile();
+		return true;
+	}
+
+	private void process( TypeElement holder ) {
+		List<TypeElement> direct = new ArrayList<>();
+		List<TypeElement> reflective = new ArrayList<>();
+		for ( TypeElement type : faultTypes( holder ) ) {
+			boolean ambiguous = reportAmbiguous( type, holder, string() );
+			if ( reportAmbiguous( type, holder, string(), throwable() ) || ambiguous ) continue;
+			boolean message = hasConstructor( type, holder, string() );
+			boolean caused = hasConstructor( type, holder, string(), throwable() );
+			if ( message || caused ) direct.add( type );
+			if ( ! message || ! caused ) {
+				reflective.add( type );
+				processingEnv.getMessager().printMessage(
+					Diagnostic.Kind.NOTE,
+					REFLECTIVE_NOTE_TEMPLATE.formatted( type.getQualifiedName() ),
+					holder
+				);
+			}
+			else if ( hasLightweight( type ) ) reflective.add( type );
+		}
+		String provider = writeProvider( holder, direct );
+		providers.add( provider );
+		if ( ! reflective.isEmpty() ) writeReflectConfig( holder, reflective );
+	}
+
+	/** @return The distinct type arguments of every static {@code Fault} field, in declaration order. */
+	private List<TypeElement> faultTypes( TypeElement holder ) {
+		Map<String, TypeElement> types = new LinkedHashMap<>();
+		for ( VariableElement field : ElementFilter.fieldsIn( holder.getEnclosedElements() ) ) {
+			if ( ! field.getModifiers().contains( Modifier.STATIC ) ) continue;
+			if ( field.asType().getKind() != TypeKind.DECLARED ) continue;
+			DeclaredType fieldType = ( DeclaredType ) field.asType();
+			if ( ! isFault( fieldType ) || fieldType.getTypeArguments().size() != 1 ) continue;
+			TypeMirror argument = fieldType.getTypeArguments().get( 0 );
+			if ( argument.getKind() != TypeKind.DECLARED ) continue;
+			TypeElement type = ( TypeElement ) ( ( DeclaredType ) argument ).asElement();
+			types.putIfAbsent( type.getQualifiedName().toString(), type );
+		}
+		return new ArrayList<>( types.values() );
+	}
+
+	private boolean isFault( DeclaredType type ) {
+		return ( ( TypeElement ) type.asElement() ).getQualifiedName().contentEquals( FAULT );
+	}
+
+	/**
+	 * @return true if code generated next to {@code holder} can call a constructor of {@code type}
+	 *   with arguments of the {@code arguments} types, without handling a checked exception
+	 */
+	private boolean hasConstructor( TypeElement type, TypeElement holder, TypeMirror... arguments ) {
+		List<ExecutableElement> applicable = applicable( type, holder, arguments );
+		ExecutableElement constructor = mostSpecific( applicable );
+		return constructor != null && ! throwsChecked( constructor );
+	}
+
+	/**
+	 * Report, as an error on {@code holder}, public constructors of {@code type} that all accept {@code arguments}
+	 * with none more specific than the rest, as a constructor reference to them would not compile.
+	 * @return true if reported
+	 */
+	private boolean reportAmbiguous( TypeElement type, TypeElement holder, TypeMirror... arguments ) {
+		List<ExecutableElement> applicable = applicable( type, holder, arguments );
+		if ( applicable.isEmpty() || mostSpecific( applicable ) != null ) return false;
+		StringBuilder shape = new StringBuilder();
+		for ( TypeMirror argument : arguments ) {
+			if ( ! shape.isEmpty() ) shape.append( ", " );
+			shape.append( argument );
+		}
+		processingEnv.getMessager().printMessage(
+			Diagnostic.Kind.ERROR,
+			AMBIGUOUS_TEMPLATE.formatted( type.getQualifiedName(), shape ),
+			holder
+		);
+		return true;
+	}
+
+	/** @return The public constructors of {@code type} that code generated next to {@code holder} can call. */
+	private List<ExecutableElement> applicable( TypeElement type, TypeElement holder, TypeMirror... arguments ) {
+		List<ExecutableElement> applicable = new ArrayList<>();
+		if ( type.getModifiers().contains( Modifier.ABSTRACT ) || ! accessible( type, holder ) ) return applicable;
+		for ( ExecutableElement constructor : ElementFilter.constructorsIn( type.getEnclosedElements() ) ) {
+			if ( ! constructor.getModifiers().contains( Modifier.PUBLIC ) ) continue;
+			if ( accepts( constructor, arguments ) ) applicable.add( constructor );
+		}
+		return applicable;
+	}
+
+	/** @return The constructor the compiler would choose from {@code applicable}, or null if none or ambiguous. */
+	private ExecutableElement mostSpecific( List<ExecutableElement> applicable ) {
+		for ( ExecutableElement candidate : applicable ) {
+			boolean specific = true;
+			for ( ExecutableElement other : applicable ) {
+				if ( other != candidate && ! moreSpecific( candidate, other ) ) specific = false;
+			}
+			if ( specific ) return candidate;
+		}
+		return null;
+	}
+
+	private boolean moreSpecific( ExecutableElement constructor, ExecutableElement other ) {
+		List<? extends VariableElement> parameters = constructor.getParameters();
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			TypeMirror parameter = parameters.get( i ).asType();
+			TypeMirror otherParameter = other.getParameters().get( i ).asType();
+			if ( ! processingEnv.getTypeUtils().isSubtype( parameter, otherParameter ) ) return false;
+		}
+		return true;
+	}
+
+	private boolean throwsChecked( ExecutableElement constructor ) {
+		TypeMirror runtime = type( RuntimeException.class );
+		TypeMirror error = type( Error.class );
+		for ( TypeMirror thrown : constructor.getThrownTypes() ) {
+			if ( processingEnv.getTypeUtils().isSubtype( thrown, runtime ) ) continue;
+			if ( ! processingEnv.getTypeUtils().isSubtype( thrown, error ) ) return true;
+		}
+		return false;
+	}
+
+	/** @return true if {@code type} declares the public or protected constructor used by lightweight builds. */
+	private boolean hasLightweight( TypeElement type ) {
+		TypeMirror bool = processingEnv.getTypeUtils().getPrimitiveType( TypeKind.BOOLEAN );
+		for ( ExecutableElement constructor : ElementFilter.constructorsIn( type.getEnclosedElements() ) ) {
+			Set<Modifier> modifiers = constructor.getModifiers();
+			if ( ! modifiers.contains( Modifier.PUBLIC ) && ! modifiers.contains( Modifier.PROTECTED ) ) continue;
+			if ( accepts( constructor, string(), throwable(), bool, bool ) ) return true;
+		}
+		return false;
+	}
+
+	private boolean accepts( ExecutableElement constructor, TypeMirror... arguments ) {
+		List<? extends VariableElement> parameters = constructor.getParameters();
+		if ( parameters.size() != arguments.length || constructor.isVarArgs() ) return false;
+		for ( int i = 0; i < arguments.length; i++ ) {
+			TypeMirror parameter = parameters.get( i ).asType();
+			if ( ! processingEnv.getTypeUtils().isAssignable( arguments[ i ], parameter ) ) return false;
+		}
+		return true;
+	}
+
+	private boolean accessible( TypeElement type, TypeElement holder ) {
+		Element element = type;
+		while ( element instanceof TypeElement typeElement ) {
+			Set<Modifier> modifiers = typeElement.getModifiers();
+			if ( modifiers.contains( Modifier.PRIVATE ) ) return false;
+			if ( ! modifiers.contains( Modifier.PUBLIC ) && ! samePackage( typeElement, holder ) ) return false;
+			if ( typeElement.getNestingKind() == NestingKind.MEMBER && ! modifiers.contains( Modifier.STATIC ) ) {
+				return false;
+			}
+			element = typeElement.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private boolean samePackage( TypeElement a, TypeElement b ) {
+		return packageOf( a ).equals( packageOf( b ) );
+	}
+
+	private String packageOf( TypeElement type ) {
+		PackageElement element = processingEnv.getElementUtils().getPackageOf( type );
+		return element.getQualifiedName().toString();
+	}
+
+	private String writeProvider( TypeElement holder, List<TypeElement> types ) {
+		String packageName = packageOf( holder );
+		String simpleName = providerName( holder );
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		StringBuilder source = new StringBuilder();
+		if ( ! packageName.isEmpty() ) source.append( "package " ).append( packageName ).append( ";\n\n" );
+		source.append( "/** Generated from {@link " ).append( holder.getQualifiedName() ).append( "}. */\n" )
+			.append( "public final class " ).append( simpleName ).append( " implements " ).append( PROVIDER )
+			.append( " {\n\n" )
+			.append( "\t@Override\n" )
+			.append( "\tpublic void register( Registrar registrar ) {\n" );
+		for ( TypeElement type : types ) {
+			String name = type.getQualifiedName().toString();
+			source.append( "\t\tregistrar.register(\n" )
+				.append( "\t\t\t" ).append( name ).append( ".class,\n" )
+				.append( "\t\t\t" ).append( reference( type, holder, string() ) ).append( ",\n" )
+				.append( "\t\t\t" ).append( reference( type, holder, string(), throwable() ) ).append( "\n" )
+				.append( "\t\t);\n" );
+		}
+		source.append( "\t}\n\n}\n" );
+		write( createSource( qualifiedName, holder ), source );
+		return qualifiedName;
+	}
+
+	private String reference( TypeElement type, TypeElement holder, TypeMirror... arguments ) {
+		return hasConstructor( type, holder, arguments ) ? type.getQualifiedName() + "::new" : "null";
+	}
+
+	private String providerName( TypeElement holder ) {
+		StringBuilder name = new StringBuilder( holder.getSimpleName() );
+		Element element = holder.getEnclosingElement();
+		while ( element instanceof TypeElement enclosing ) {
+			name.insert( 0, '_' ).insert( 0, enclosing.getSimpleName() );
+			element = enclosing.getEnclosingElement();
+		}
+		return name.append( PROVIDER_SUFFIX ).toString();
+	}
+
+	private void writeReflectConfig( TypeElement holder, List<TypeElement> types ) {
+		StringBuilder json = new StringBuilder( "[\n" );
+		for ( int i = 0; i < types.size(); i++ ) {
+			json.append( "\t{\n" )
+				.append( "\t\t\"name\": \"" )
+				.append( processingEnv.getElementUtils().getBinaryName( types.get( i ) ) )
+				.append( "\",\n" )
+				.append( "\t\t\"allDeclaredConstructors\": true\n" )
+				.append( i == types.size() - 1 ? "\t}\n" : "\t},\n" );
+		}
+		json.append( "]\n" );
+		write(
+			createResource( REFLECT_CONFIG_TEMPLATE.formatted( holder.getQualifiedName() ), holder ),
+			json
+		);
+	}
+
+	private void writeServiceFile() {
+		StringBuilder services = new StringBuilder();
+		providers.forEach( provider -> services.append( provider ).append( '\n' ) );
+		write( createResource( SERVICE_FILE ), services );
+	}
+
+	private FileObject createSource( String name, Element origin ) {
+		try {
+			return processingEnv.getFiler().createSourceFile( name, origin );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private FileObject createResource( String name, Element... origins ) {
+		try {
+			return processingEnv.getFiler().createResource( StandardLocation.CLASS_OUTPUT, "", name, origins );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private void write( FileObject file, CharSequence content ) {
+		try ( Writer writer = file.openWriter() ) {
+			writer.append( content );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private TypeMirror string() {
+		return type( String.class );
+	}
+
+	private TypeMirror throwable() {
+		return type( Throwable.class );
+	}
+
+	private TypeMirror type( Class<?> type ) {
+		return processingEnv.getElementUtils().getTypeElement( type.getName() ).asType();
+	}
+
+}
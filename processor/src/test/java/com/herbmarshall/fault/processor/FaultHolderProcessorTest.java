@@ -0,0 +1,297 @@
+package com.herbmarshall.fault.processor;
+
+import com.herbmarshall.fault.FaultFactoryProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.herbmarshall.fault.processor.FaultHolderProcessor.AMBIGUOUS_TEMPLATE;
+import static com.herbmarshall.fault.processor.FaultHolderProcessor.REFLECT_CONFIG_TEMPLATE;
+import static com.herbmarshall.fault.processor.FaultHolderProcessor.SERVICE_FILE;
+
+class FaultHolderProcessorTest {
+
+	private static final String HOLDER_SOURCE = """
+		package sample;
+
+		import com.herbmarshall.fault.Fault;
+		import com.herbmarshall.fault.FaultHolder;
+
+		@FaultHolder
+		public final class Errors {
+
+			public static final Fault<IllegalStateException> STATE = new Fault<>( IllegalStateException.class, "a" );
+			public static final Fault<IllegalStateException> OTHER = new Fault<>( IllegalStateException.class, "b" );
+			static final Fault<MessageOnly> MESSAGE_ONLY = new Fault<>( MessageOnly.class, "c" );
+			static final Fault<Hidden> HIDDEN = new Fault<>( Hidden.class, "d" );
+			static final Fault<Lightweight> LIGHTWEIGHT = new Fault<>( Lightweight.class, "f" );
+			final Fault<UnsupportedOperationException> instance =
+				new Fault<>( UnsupportedOperationException.class, "e" );
+
+			public static class MessageOnly extends Exception {
+				public MessageOnly( CharSequence message ) {
+					super( String.valueOf( message ) );
+				}
+			}
+
+			static class Hidden extends Exception {
+				private Hidden( String message ) {
+					super( message );
+				}
+			}
+
+			public static class Lightweight extends RuntimeException {
+				public Lightweight( String message ) {
+					super( message );
+				}
+				public Lightweight( String message, Throwable cause ) {
+					super( message, cause );
+				}
+				protected Lightweight( String message, Throwable cause, boolean suppression, boolean writable ) {
+					super( message, cause, suppression, writable );
+				}
+			}
+
+		}
+		""";
+
+	private static final String CHECKED_SOURCE = """
+		package sample;
+
+		import com.herbmarshall.fault.Fault;
+		import com.herbmarshall.fault.FaultHolder;
+
+		@FaultHolder
+		public final class Checked {
+
+			static final Fault<Failing> FAILING = new Fault<>( Failing.class, "a" );
+
+			public static class Failing extends Exception {
+				public Failing( String message ) throws java.io.IOException {
+					super( message );
+				}
+				public Failing( String message, Throwable cause ) throws IllegalStateException {
+					super( message, cause );
+				}
+			}
+
+		}
+		""";
+
+	private static final String AMBIGUOUS_SOURCE = """
+		package sample;
+
+		import com.herbmarshall.fault.Fault;
+		import com.herbmarshall.fault.FaultHolder;
+
+		@FaultHolder
+		public final class Ambiguous {
+
+			static final Fault<Overloaded> OVERLOADED = new Fault<>( Overloaded.class, "a" );
+
+			public static class Overloaded extends Exception {
+				public Overloaded( CharSequence message ) {
+					super( String.valueOf( message ) );
+				}
+				public Overloaded( Comparable<String> message ) {
+					super( String.valueOf( message ) );
+				}
+			}
+
+		}
+		""";
+
+	@Nested
+	class process {
+
+		@Test
+		void provider() throws Exception {
+			// Arrange
+			Path output = compile();
+			// Act
+			Map<Class<?>, Object[]> registrations = register( output, "sample.ErrorsFaultFactories" );
+			// Assert
+			Assertions.assertEquals( 3, registrations.size() );
+			Object[] state = registrations.get( IllegalStateException.class );
+			Assertions.assertEquals( "x", message( state ).apply( "x" ).getMessage() );
+			Throwable cause = new Exception();
+			Assertions.assertSame( cause, caused( state ).apply( "y", cause ).getCause() );
+			Object[] messageOnly = registrations.entrySet().stream()
+				.filter( entry -> entry.getKey().getName().equals( "sample.Errors$MessageOnly" ) )
+				.findFirst()
+				.orElseThrow()
+				.getValue();
+			Assertions.assertEquals( "z", message( messageOnly ).apply( "z" ).getMessage() );
+			Assertions.assertNull( messageOnly[ 1 ] );
+		}
+
+		@Test
+		void serviceFile() throws Exception {
+			// Arrange
+			// Act
+			Path output = compile();
+			// Assert
+			Assertions.assertEquals(
+				"sample.ErrorsFaultFactories\n",
+				Files.readString( output.resolve( SERVICE_FILE ) )
+			);
+		}
+
+		@Test
+		void reflectConfig() throws Exception {
+			// Arrange
+			// Act
+			Path output = compile();
+			// Assert
+			String config = Files.readString( output.resolve( REFLECT_CONFIG_TEMPLATE.formatted( "sample.Errors" ) ) );
+			Assertions.assertTrue( config.contains( "\"name\": \"sample.Errors$MessageOnly\"" ) );
+			Assertions.assertTrue( config.contains( "\"name\": \"sample.Errors$Hidden\"" ) );
+			Assertions.assertTrue( config.contains( "\"name\": \"sample.Errors$Lightweight\"" ) );
+			Assertions.assertFalse( config.contains( "java.lang.IllegalStateException" ) );
+			Assertions.assertFalse( config.contains( "java.lang.UnsupportedOperationException" ) );
+		}
+
+		@Test
+		void reflectConfig_declaredConstructors() throws Exception {
+			// Arrange
+			// Act
+			Path output = compile();
+			// Assert
+			String config = Files.readString( output.resolve( REFLECT_CONFIG_TEMPLATE.formatted( "sample.Errors" ) ) );
+			Assertions.assertEquals( 3, config.split( "\"allDeclaredConstructors\": true", -1 ).length - 1 );
+			Assertions.assertFalse( config.contains( "allPublicConstructors" ) );
+		}
+
+		@Test
+		void checkedConstructor() throws Exception {
+			// Arrange
+			Path output = compile( "sample.Checked", CHECKED_SOURCE );
+			// Act
+			Map<Class<?>, Object[]> registrations = register( output, "sample.CheckedFaultFactories" );
+			// Assert
+			Object[] failing = registrations.values().iterator().next();
+			Assertions.assertNull( failing[ 0 ] );
+			Throwable cause = new Exception();
+			Assertions.assertSame( cause, caused( failing ).apply( "x", cause ).getCause() );
+			String config = Files.readString( output.resolve( REFLECT_CONFIG_TEMPLATE.formatted( "sample.Checked" ) ) );
+			Assertions.assertTrue( config.contains( "\"name\": \"sample.Checked$Failing\"" ) );
+		}
+
+		@Test
+		void ambiguousConstructor() throws Exception {
+			// Arrange
+			Path output = Files.createTempDirectory( "faultProcessor" );
+			DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+			// Act
+			boolean compiled = task( output, "sample.Ambiguous", AMBIGUOUS_SOURCE, diagnostics ).call();
+			// Assert
+			Assertions.assertFalse( compiled );
+			List<String> errors = diagnostics.getDiagnostics().stream()
+				.filter( diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR )
+				.map( diagnostic -> diagnostic.getMessage( null ) )
+				.toList();
+			Assertions.assertEquals(
+				List.of( AMBIGUOUS_TEMPLATE.formatted( "sample.Ambiguous.Overloaded", "java.lang.String" ) ),
+				errors
+			);
+		}
+
+	}
+
+	private Path compile() throws IOException {
+		return compile( "sample.Errors", HOLDER_SOURCE );
+	}
+
+	private Path compile( String name, String source ) throws IOException {
+		Path output = Files.createTempDirectory( "faultProcessor" );
+		Assertions.assertTrue( task( output, name, source, null ).call() );
+		return output;
+	}
+
+	private JavaCompiler.CompilationTask task(
+		Path output,
+		String name,
+		String source,
+		DiagnosticListener<JavaFileObject> diagnostics
+	) {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		JavaCompiler.CompilationTask task = compiler.getTask(
+			null,
+			null,
+			diagnostics,
+			List.of(
+				"-d", output.toString(),
+				"-classpath", System.getProperty( "java.class.path" )
+			),
+			null,
+			List.of( new Source( name, source ) )
+		);
+		task.setProcessors( List.of( new FaultHolderProcessor() ) );
+		return task;
+	}
+
+	private Map<Class<?>, Object[]> register( Path output, String provider ) throws Exception {
+		Map<Class<?>, Object[]> registrations = new HashMap<>();
+		ClassLoader loader = new URLClassLoader( new URL[] { output.toUri().toURL() }, getClass().getClassLoader() );
+		FaultFactoryProvider instance = ( FaultFactoryProvider ) loader.loadClass( provider )
+			.getConstructor()
+			.newInstance();
+		instance.register( new FaultFactoryProvider.Registrar() {
+			@Override
+			public <E extends Throwable> void register(
+				Class<E> type,
+				Function<String, E> message,
+				BiFunction<String, Throwable, E> caused
+			) {
+				registrations.put( type, new Object[] { message, caused } );
+			}
+		} );
+		return registrations;
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private Function<String, Throwable> message( Object[] registration ) {
+		return ( Function<String, Throwable> ) registration[ 0 ];
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private BiFunction<String, Throwable, Throwable> caused( Object[] registration ) {
+		return ( BiFunction<String, Throwable, Throwable> ) registration[ 1 ];
+	}
+
+	private static final class Source extends SimpleJavaFileObject {
+
+		private final String content;
+
+		private Source( String name, String content ) {
+			super( URI.create( "string:///" + name.replace( '.', '/' ) + Kind.SOURCE.extension ), Kind.SOURCE );
+			this.content = content;
+		}
+
+		@Override
+		public CharSequence getCharContent( boolean ignoreEncodingErrors ) {
+			return content;
+		}
+
+	}
+
+}
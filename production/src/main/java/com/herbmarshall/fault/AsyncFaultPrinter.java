@@ -0,0 +1,306 @@
+package com.herbmarshall.fault;
+
+import com.herbmarshall.standardPipe.Standard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Prints {@link Fault} instances from a background thread.
+ * Producers publish into a bounded, lock free, multi producer ring buffer; a single writer drains it in batches,
+ * writing each batch to the target with one {@code write} call.
+ * A batch holds at most one buffer of faults, or about 64KB, so producers that keep up with
+ * the writer cannot grow it without bound or hold back output.
+ * @see Fault#print(OutputStream)
+ */
+public final class AsyncFaultPrinter implements AutoCloseable {
+
+	static final String CLOSED = "Printer has been closed";
+	static final String CAPACITY_TEMPLATE = "Capacity must be positive, received %d";
+	static final String DROPPED_TEMPLATE = "(%s) %d faults dropped";
+
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+	private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos( 50 );
+	/** Set in {@link #tail} by {@link #close()}, so no slot can be claimed once closing has begun. */
+	private static final long CLOSED_BIT = 1L << 62;
+	/** Once a batch reaches this many bytes it is written, even if more faults are queued. */
+	private static final int BATCH_BYTES = 1 << 16;
+
+	private final Supplier<OutputStream> target;
+	private final OverflowPolicy policy;
+
+	private final int mask;
+	private final AtomicReferenceArray<Fault<?>> slots;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong written = new AtomicLong();
+	private long head;
+
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private long droppedReported;
+
+	private final AtomicBoolean sleeping = new AtomicBoolean();
+	private final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+	private final Thread writer;
+	private volatile boolean closed = false;
+
+	private AsyncFaultPrinter( Supplier<OutputStream> target, int capacity, OverflowPolicy policy ) {
+		this.target = target;
+		this.policy = policy;
+		int size = capacity <= 2 ? 2 : Integer.highestOneBit( capacity - 1 ) << 1;
+		this.mask = size - 1;
+		this.slots = new AtomicReferenceArray<>( size );
+		this.sequences = new AtomicLongArray( size );
+		for ( int i = 0; i < size; i++ ) sequences.set( i, i );
+		this.writer = new Thread( this::run, "fault-printer" );
+		this.writer.setDaemon( true );
+	}
+
+	/**
+	 * Queue {@code fault} to be printed.
+	 * @return true if queued, false if dropped because the buffer is full
+	 * @throws NullPointerException if {@code fault} is null
+	 * @throws IllegalStateException if this printer has been closed
+	 */
+	public boolean print( Fault<?> fault ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		if ( closed ) throw new IllegalStateException( CLOSED );
+		while ( ! offer( fault ) ) {
+			if ( policy != OverflowPolicy.BLOCK ) {
+				dropped.increment();
+				return false;
+			}
+			wake();
+			LockSupport.parkNanos( BACKOFF_NANOS );
+			if ( closed ) throw new IllegalStateException( CLOSED );
+		}
+		fault.count( FaultMetrics.Event.PRINT );
+		// Volatile publish in offer, then volatile read here, pairs with the writer's volatile set then volatile read,
+		// so either this sees the writer sleeping or the writer sees this fault before parking
+		if ( sleeping.get() ) wake();
+		return true;
+	}
+
+	/** @return The number of faults dropped because the buffer was full. */
+	public long dropped() {
+		return dropped.sum();
+	}
+
+	/** @return The number of batches that could not be written to the target. */
+	public long failures() {
+		return failures.sum();
+	}
+
+	/** Wait until every fault queued before this call has been written. */
+	public void flush() {
+		long target = tail.get() & ~CLOSED_BIT;
+		while ( written.get() < target && writer.isAlive() ) {
+			wake();
+			LockSupport.parkNanos( BACKOFF_NANOS );
+		}
+	}
+
+	/**
+	 * Write every queued fault, then stop the writer; the target itself is not closed.
+	 * Every {@link #print(Fault)} that returned true, even one racing with this call, is written before this returns.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		long end = tail.getAndAccumulate( CLOSED_BIT, ( value, bit ) -> value | bit ) & ~CLOSED_BIT;
+		wake();
+		boolean interrupted = false;
+		while ( writer.isAlive() ) {
+			try {
+				writer.join();
+			}
+			catch ( InterruptedException e ) {
+				interrupted = true;
+			}
+		}
+		drainTo( end );
+		if ( interrupted ) Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * @return true if {@code fault} was queued, false if the buffer is full
+	 * @throws IllegalStateException if this printer is closing, so the fault would never be written
+	 */
+	private boolean offer( Fault<?> fault ) {
+		long position = tail.get();
+		while ( true ) {
+			if ( ( position & CLOSED_BIT ) != 0 ) throw new IllegalStateException( CLOSED );
+			int index = ( int ) ( position & mask );
+			long difference = sequences.getAcquire( index ) - position;
+			if ( difference == 0 ) {
+				if ( tail.compareAndSet( position, position + 1 ) ) {
+					slots.setPlain( index, fault );
+					sequences.set( index, position + 1 );
+					return true;
+				}
+				position = tail.get();
+			}
+			else if ( difference < 0 ) {
+				return false;
+			}
+			else {
+				position = tail.get();
+			}
+		}
+	}
+
+	private Fault<?> poll() {
+		int index = ( int ) ( head & mask );
+		if ( sequences.getAcquire( index ) != head + 1 ) return null;
+		Fault<?> fault = slots.getPlain( index );
+		slots.setPlain( index, null );
+		sequences.setRelease( index, head + mask + 1 );
+		head++;
+		return fault;
+	}
+
+	private void run() {
+		while ( ! closed ) {
+			if ( drain() ) continue;
+			sleeping.set( true );
+			if ( ! closed && sequences.get( ( int ) ( head & mask ) ) != head + 1 ) {
+				LockSupport.parkNanos( this, IDLE_NANOS );
+			}
+			sleeping.set( false );
+		}
+		drain();
+	}
+
+	/**
+	 * Drain until every slot claimed before {@code end} has been written.
+	 * A producer publishes its slot right after claiming it, so this only waits for producers already claiming.
+	 */
+	private synchronized void drainTo( long end ) {
+		drain();
+		while ( head < end ) {
+			Thread.onSpinWait();
+			drain();
+		}
+	}
+
+	/** @return true if anything was written */
+	private synchronized boolean drain() {
+		batch.reset();
+		long count = 0;
+		while ( count <= mask && batch.size() < BATCH_BYTES ) {
+			Fault<?> fault = poll();
+			if ( fault == null ) break;
+			batch.writeBytes( fault.encodedLine() );
+			count++;
+		}
+		if ( policy == OverflowPolicy.COUNT ) reportDropped();
+		if ( batch.size() == 0 ) return false;
+		try {
+			OutputStream stream = target.get();
+			batch.writeTo( stream );
+			stream.flush();
+		}
+		catch ( IOException | RuntimeException e ) {
+			failures.increment();
+		}
+		written.addAndGet( count );
+		return true;
+	}
+
+	private void reportDropped() {
+		long total = dropped.sum();
+		if ( total == droppedReported ) return;
+		String line = DROPPED_TEMPLATE.formatted( AsyncFaultPrinter.class.getSimpleName(), total - droppedReported );
+		batch.writeBytes( ( line + System.lineSeparator() ).getBytes( StandardCharsets.UTF_8 ) );
+		droppedReported = total;
+	}
+
+	private void wake() {
+		sleeping.set( false );
+		LockSupport.unpark( writer );
+	}
+
+	/**
+	 * Print to a {@link Standard} stream, resolved for each batch so overrides are respected.
+	 * @param standard The standard stream to print to
+	 * @return A builder for the printer
+	 */
+	public static Builder to( Standard standard ) {
+		Objects.requireNonNull( standard, Fault.nullPointerError( "standard" ) );
+		return new Builder( standard::toStream );
+	}
+
+	/**
+	 * Print to {@code stream}.
+	 * @param stream The stream to print to
+	 * @return A builder for the printer
+	 */
+	public static Builder to( OutputStream stream ) {
+		Objects.requireNonNull( stream, Fault.nullPointerError( "stream" ) );
+		return new Builder( () -> stream );
+	}
+
+	/** What {@link #print(Fault)} does when the buffer is full. */
+	public enum OverflowPolicy {
+		/** Discard the fault. */
+		DROP,
+		/** Wait for the writer to make room. */
+		BLOCK,
+		/** Discard the fault, and print how many were discarded with the next batch. */
+		COUNT
+	}
+
+	/** Configures and starts an {@link AsyncFaultPrinter}. */
+	public static final class Builder {
+
+		private final Supplier<OutputStream> target;
+		private int capacity = DEFAULT_CAPACITY;
+		private OverflowPolicy policy = OverflowPolicy.COUNT;
+
+		private Builder( Supplier<OutputStream> target ) {
+			this.target = target;
+		}
+
+		/**
+		 * @param capacity The number of faults that may be queued, rounded up to a power of two of at least two
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code capacity} is not positive
+		 */
+		public Builder capacity( int capacity ) {
+			if ( capacity < 1 ) throw new IllegalArgumentException( CAPACITY_TEMPLATE.formatted( capacity ) );
+			this.capacity = capacity;
+			return this;
+		}
+
+		/**
+		 * @param policy What to do when the buffer is full, defaults to {@link OverflowPolicy#COUNT}
+		 * @return Self reference
+		 */
+		public Builder overflow( OverflowPolicy policy ) {
+			this.policy = Objects.requireNonNull( policy, Fault.nullPointerError( "policy" ) );
+			return this;
+		}
+
+		/** @return A running printer. */
+		public AsyncFaultPrinter start() {
+			AsyncFaultPrinter printer = new AsyncFaultPrinter( target, capacity, policy );
+			printer.writer.start();
+			return printer;
+		}
+
+	}
+
+}
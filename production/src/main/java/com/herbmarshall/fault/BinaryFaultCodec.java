@@ -0,0 +1,152 @@
+package com.herbmarshall.fault;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes a {@link Fault} as a compact binary record, for shipping to a collector, and reads it back.
+ * Encoding writes straight into the caller's buffer, UTF-8 encoding each string in place,
+ * so it allocates nothing unless a context value is not a {@link CharSequence}.
+ * <p>
+ * A record is a version byte, then the type name, the message, the context entries and the cause chain.
+ * Strings are a big-endian {@code int} byte length, -1 for null, followed by UTF-8 bytes;
+ * the context and the cause chain are each an {@code int} count followed by their string pairs.
+ * @see FaultRecord
+ */
+public final class BinaryFaultCodec {
+
+	/** The format written by {@link #encode(Fault, Throwable, ByteBuffer)}. */
+	public static final byte VERSION = 1;
+
+	static final String VERSION_TEMPLATE = "unsupported version %d";
+	static final String TRUNCATED = "truncated";
+	static final String NEGATIVE_COUNT = "negative count";
+	static final String NULL_STRING = "null where a value is required";
+
+	private static final int NULL_LENGTH = -1;
+
+	private BinaryFaultCodec() {
+	}
+
+	/**
+	 * Write {@code fault} into {@code target}, from its position.
+	 * @param fault The fault to write
+	 * @param target Receives the record
+	 * @return The number of bytes written
+	 * @throws BufferOverflowException if {@code target} has too little room, leaving its position unchanged
+	 */
+	public static int encode( Fault<?> fault, ByteBuffer target ) {
+		return encode( fault, null, target );
+	}
+
+	/**
+	 * Write {@code fault}, and the chain of {@code cause}, into {@code target}, from its position.
+	 * At most {@link FaultRecord#MAX_CAUSES} causes are written.
+	 * @param fault The fault to write
+	 * @param cause The cause of the error of {@code fault}, or null if there is none
+	 * @param target Receives the record
+	 * @return The number of bytes written
+	 * @throws BufferOverflowException if {@code target} has too little room, leaving its position unchanged
+	 */
+	public static int encode( Fault<?> fault, Throwable cause, ByteBuffer target ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		Objects.requireNonNull( target, Fault.nullPointerError( "target" ) );
+		int start = target.position();
+		try {
+			target.put( VERSION );
+			putString( target, fault.getType().getName() );
+			putString( target, fault.getMessage() );
+			FaultContext context = fault.getContext();
+			target.putInt( context.size() );
+			for ( int i = 0; i < context.size(); i++ ) {
+				putString( target, context.keyAt( i ) );
+				putString( target, text( context.valueAt( i ) ) );
+			}
+			int causes = FaultRecord.causeCount( cause );
+			target.putInt( causes );
+			for ( Throwable current = cause; causes-- > 0; current = current.getCause() ) {
+				putString( target, current.getClass().getName() );
+				putString( target, current.getMessage() );
+			}
+		}
+		catch ( BufferOverflowException e ) {
+			target.position( start );
+			throw e;
+		}
+		return target.position() - start;
+	}
+
+	/** @return {@code value} as characters, without copying if it already is. */
+	static CharSequence text( Object value ) {
+		return value == null || value instanceof CharSequence ? ( CharSequence ) value : String.valueOf( value );
+	}
+
+	private static void putString( ByteBuffer target, CharSequence value ) {
+		if ( value == null ) {
+			target.putInt( NULL_LENGTH );
+			return;
+		}
+		int lengthPosition = target.position();
+		target.putInt( 0 );
+		target.putInt( lengthPosition, Utf8.write( target, value ) );
+	}
+
+	/**
+	 * Read one record from {@code source}, from its position, and rebuild its {@link Fault}.
+	 * @param source Holds the record
+	 * @return The decoded record
+	 * @throws IllegalArgumentException if the record is malformed or truncated, or names an unknown error type;
+	 *   the position of {@code source} is then unchanged
+	 */
+	public static FaultRecord decode( ByteBuffer source ) {
+		Objects.requireNonNull( source, Fault.nullPointerError( "source" ) );
+		int start = source.position();
+		try {
+			byte version = source.get();
+			if ( version != VERSION ) throw FaultRecord.malformed( start, VERSION_TEMPLATE.formatted( version ) );
+			Class<? extends Throwable> type = FaultRecord.type( getRequired( source ) );
+			Fault<?> fault = new Fault<>( type, getRequired( source ) );
+			for ( int i = getCount( source ); i > 0; i-- ) {
+				fault = fault.with( getRequired( source ), getString( source ) );
+			}
+			int count = getCount( source );
+			List<FaultRecord.Cause> causes = new ArrayList<>( Math.min( count, FaultRecord.MAX_CAUSES ) );
+			for ( int i = 0; i < count; i++ ) {
+				causes.add( new FaultRecord.Cause( getRequired( source ), getString( source ) ) );
+			}
+			return new FaultRecord( fault, causes );
+		}
+		catch ( BufferUnderflowException e ) {
+			source.position( start );
+			throw FaultRecord.malformed( start, TRUNCATED );
+		}
+		catch ( IllegalArgumentException e ) {
+			source.position( start );
+			throw e;
+		}
+	}
+
+	private static int getCount( ByteBuffer source ) {
+		int count = source.getInt();
+		if ( count < 0 ) throw FaultRecord.malformed( source.position(), NEGATIVE_COUNT );
+		return count;
+	}
+
+	private static String getRequired( ByteBuffer source ) {
+		String value = getString( source );
+		if ( value == null ) throw FaultRecord.malformed( source.position(), NULL_STRING );
+		return value;
+	}
+
+	private static String getString( ByteBuffer source ) {
+		int length = source.getInt();
+		if ( length == NULL_LENGTH ) return null;
+		if ( length < 0 ) throw FaultRecord.malformed( source.position(), NEGATIVE_COUNT );
+		return Utf8.read( source, length );
+	}
+
+}
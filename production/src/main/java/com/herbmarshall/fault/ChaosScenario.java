@@ -0,0 +1,188 @@
+package com.herbmarshall.fault;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A timed sequence of {@link InjectionRule}s for one named {@link InjectionPoint}, run by a {@link ChaosScheduler}.
+ * For example, throw a fault for 5% of calls for 30 seconds, then add 200ms of latency to every call for a minute:
+ * <pre>
+ * ChaosScenario.on( "database.write" )
+ *     .fail( DATABASE_UNAVAILABLE, 0.05, Duration.ofSeconds( 30 ) )
+ *     .delay( Duration.ofMillis( 200 ), 1, Duration.ofMinutes( 1 ) )
+ *     .build();
+ * </pre>
+ */
+public final class ChaosScenario {
+
+	static final String NO_PHASES = "A scenario needs at least one phase";
+	static final String PHASE_LENGTH_TEMPLATE = "Phase length must be positive, received %s";
+
+	private final String point;
+	private final List<Phase> phases;
+	private final long lengthNanos;
+	private final boolean repeating;
+
+	private ChaosScenario( String point, List<Phase> phases, boolean repeating ) {
+		this.point = point;
+		this.phases = List.copyOf( phases );
+		this.lengthNanos = phases.stream().mapToLong( Phase::lengthNanos ).sum();
+		this.repeating = repeating;
+	}
+
+	/**
+	 * Start describing a scenario.
+	 * @param point The name of the injection point the scenario acts on
+	 * @return A builder for the scenario
+	 */
+	public static Builder on( String point ) {
+		return new Builder( Objects.requireNonNull( point, Fault.nullPointerError( "point" ) ) );
+	}
+
+	/** @return the name of the injection point the scenario acts on. */
+	public String getPoint() {
+		return point;
+	}
+
+	/** @return the length of one run through every phase. */
+	public Duration getLength() {
+		return Duration.ofNanos( lengthNanos );
+	}
+
+	/** @return true if the scenario starts over after its last phase, instead of ending. */
+	public boolean isRepeating() {
+		return repeating;
+	}
+
+	/** @return the number of phases in one run. */
+	public int getPhaseCount() {
+		return phases.size();
+	}
+
+	/**
+	 * @param elapsedNanos Time since the scenario started
+	 * @return The index of the phase active after {@code elapsedNanos}, or -1 if the scenario has ended
+	 */
+	int phaseAt( long elapsedNanos ) {
+		if ( elapsedNanos >= lengthNanos ) {
+			if ( ! repeating ) return -1;
+			elapsedNanos %= lengthNanos;
+		}
+		for ( int i = 0; i < phases.size(); i++ ) {
+			elapsedNanos -= phases.get( i ).lengthNanos();
+			if ( elapsedNanos < 0 ) return i;
+		}
+		return -1;
+	}
+
+	/** @return The rule of phase {@code index}, or null if that phase leaves the point disabled. */
+	InjectionRule ruleOf( int index ) {
+		return phases.get( index ).rule();
+	}
+
+	@Override
+	public String toString() {
+		return point + " " + phases + ( repeating ? " repeating" : "" );
+	}
+
+	private record Phase( InjectionRule rule, long lengthNanos ) {
+
+		@Override
+		public String toString() {
+			return ( rule == null ? "pause" : rule.toString() ) + " for " + Duration.ofNanos( lengthNanos );
+		}
+
+	}
+
+	/** Adds the phases of a {@link ChaosScenario}, in order. */
+	public static final class Builder {
+
+		private final String point;
+		private final List<Phase> phases = new ArrayList<>();
+		private boolean repeating = false;
+
+		private Builder( String point ) {
+			this.point = point;
+		}
+
+		/**
+		 * Throw the error of {@code fault} for a share of calls.
+		 * @param fault Builds the error to throw
+		 * @param probability The chance of each call throwing, from 0 to 1
+		 * @param length How long the phase lasts
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code probability} is not within [0, 1]
+		 *   or {@code length} is not positive
+		 */
+		public Builder fail( Fault<?> fault, double probability, Duration length ) {
+			return phase( InjectionRule.probability( fault, probability ), length );
+		}
+
+		/**
+		 * Delay a share of calls.
+		 * @param latency How long each selected call is delayed
+		 * @param probability The chance of each call being delayed, from 0 to 1
+		 * @param length How long the phase lasts
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code latency} or {@code length} is not positive,
+		 *   or {@code probability} is not within [0, 1]
+		 */
+		public Builder delay( Duration latency, double probability, Duration length ) {
+			return phase( InjectionRule.delay( latency, probability ), length );
+		}
+
+		/**
+		 * Act according to {@code rule}.
+		 * @param rule When to act, and what to do
+		 * @param length How long the phase lasts
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code length} is not positive
+		 */
+		public Builder phase( InjectionRule rule, Duration length ) {
+			Objects.requireNonNull( rule, Fault.nullPointerError( "rule" ) );
+			phases.add( new Phase( rule, requireLength( length ) ) );
+			return this;
+		}
+
+		/**
+		 * Leave the point disabled.
+		 * @param length How long the phase lasts
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code length} is not positive
+		 */
+		public Builder pause( Duration length ) {
+			phases.add( new Phase( null, requireLength( length ) ) );
+			return this;
+		}
+
+		/**
+		 * Start over after the last phase, until the scenario is cancelled.
+		 * @return Self reference
+		 */
+		public Builder repeat() {
+			repeating = true;
+			return this;
+		}
+
+		/**
+		 * @return The scenario
+		 * @throws IllegalStateException if no phase was added
+		 */
+		public ChaosScenario build() {
+			if ( phases.isEmpty() ) throw new IllegalStateException( NO_PHASES );
+			return new ChaosScenario( point, phases, repeating );
+		}
+
+		private static long requireLength( Duration length ) {
+			Objects.requireNonNull( length, Fault.nullPointerError( "length" ) );
+			if ( length.isNegative() || length.isZero() ) {
+				throw new IllegalArgumentException( PHASE_LENGTH_TEMPLATE.formatted( length ) );
+			}
+			return length.toNanos();
+		}
+
+	}
+
+}
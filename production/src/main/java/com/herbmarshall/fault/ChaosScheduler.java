@@ -0,0 +1,189 @@
+package com.herbmarshall.fault;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs {@link ChaosScenario}s, switching the rule of each scenario's {@link InjectionPoint} as its phases pass.
+ * Phases are timed by a monotonic nanosecond clock, {@link System#nanoTime()} unless another is given,
+ * and advance on each {@link #tick()}; {@link #start(Duration)} ticks from a background thread.
+ * Scenarios acting on the same point replace each other's rules as their phases change.
+ * A phase that cannot be applied, such as one whose error its point cannot throw, leaves its point disabled;
+ * the background thread reports such failures to the {@link System.Logger} of this class and keeps ticking.
+ */
+public final class ChaosScheduler implements AutoCloseable {
+
+	static final String CLOSED = "Scheduler has been closed";
+	static final String STARTED = "Scheduler has already been started";
+	static final String TICK_TEMPLATE = "Tick interval must be positive, received %s";
+	static final String TICK_FAILURE = "Failed to apply a chaos scenario phase";
+
+	private static final System.Logger LOGGER = System.getLogger( ChaosScheduler.class.getName() );
+
+	private static final int NOT_APPLIED = -2;
+
+	private final LongSupplier clock;
+	private final List<Run> runs = new ArrayList<>();
+	private Thread ticker;
+	private volatile boolean closed = false;
+
+	/** Create instance, timed by {@link System#nanoTime()}. */
+	public ChaosScheduler() {
+		this( System::nanoTime );
+	}
+
+	/**
+	 * Create instance.
+	 * @param nanoClock A monotonic clock, in nanoseconds
+	 */
+	public ChaosScheduler( LongSupplier nanoClock ) {
+		this.clock = Objects.requireNonNull( nanoClock, Fault.nullPointerError( "nanoClock" ) );
+	}
+
+	/**
+	 * Start {@code scenario} now, applying its first phase.
+	 * @param scenario The scenario to run
+	 * @return Self reference
+	 * @throws IllegalArgumentException if the point of {@code scenario} exists and cannot throw one of its errors
+	 * @throws IllegalStateException if this scheduler has been closed
+	 */
+	public synchronized ChaosScheduler schedule( ChaosScenario scenario ) {
+		Objects.requireNonNull( scenario, Fault.nullPointerError( "scenario" ) );
+		if ( closed ) throw new IllegalStateException( CLOSED );
+		for ( int i = 0; i < scenario.getPhaseCount(); i++ ) {
+			InjectionRule rule = scenario.ruleOf( i );
+			if ( rule != null ) FaultInjection.requireThrowable( scenario.getPoint(), rule );
+		}
+		runs.add( new Run( scenario, clock.getAsLong() ) );
+		tick();
+		return this;
+	}
+
+	/**
+	 * Stop {@code scenario}, disabling its point.
+	 * @param scenario The scenario to stop
+	 * @return true if {@code scenario} was running
+	 */
+	public synchronized boolean cancel( ChaosScenario scenario ) {
+		for ( Iterator<Run> iterator = runs.iterator(); iterator.hasNext(); ) {
+			if ( iterator.next().scenario != scenario ) continue;
+			iterator.remove();
+			FaultInjection.disable( scenario.getPoint() );
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Apply the phase each scenario is in now, and disable the points of scenarios that have ended.
+	 * Every scenario is advanced even if applying the phase of another fails; that point is left disabled.
+	 * @throws RuntimeException the first failure to apply a phase, with any later ones suppressed
+	 */
+	public synchronized void tick() {
+		long now = clock.getAsLong();
+		RuntimeException failure = null;
+		for ( Iterator<Run> iterator = runs.iterator(); iterator.hasNext(); ) {
+			Run run = iterator.next();
+			int phase = run.scenario.phaseAt( now - run.startNanos );
+			if ( phase == run.phase ) continue;
+			run.phase = phase;
+			String point = run.scenario.getPoint();
+			InjectionRule rule = phase < 0 ? null : run.scenario.ruleOf( phase );
+			try {
+				if ( rule == null ) FaultInjection.disable( point );
+				else FaultInjection.enable( point, rule );
+			}
+			catch ( RuntimeException e ) {
+				FaultInjection.disable( point );
+				if ( failure == null ) failure = e;
+				else failure.addSuppressed( e );
+			}
+			if ( phase < 0 ) iterator.remove();
+		}
+		if ( failure != null ) throw failure;
+	}
+
+	/** @return The number of scenarios still running. */
+	public synchronized int getRunning() {
+		return runs.size();
+	}
+
+	/**
+	 * Tick from a daemon thread every {@code interval}, until closed.
+	 * @param interval Time between ticks
+	 * @return Self reference
+	 * @throws IllegalArgumentException if {@code interval} is not positive
+	 * @throws IllegalStateException if this scheduler has been started or closed
+	 */
+	public synchronized ChaosScheduler start( Duration interval ) {
+		Objects.requireNonNull( interval, Fault.nullPointerError( "interval" ) );
+		if ( interval.isNegative() || interval.isZero() ) {
+			throw new IllegalArgumentException( TICK_TEMPLATE.formatted( interval ) );
+		}
+		if ( closed ) throw new IllegalStateException( CLOSED );
+		if ( ticker != null ) throw new IllegalStateException( STARTED );
+		long intervalNanos = interval.toNanos();
+		ticker = new Thread( () -> run( intervalNanos ), "fault-chaos" );
+		ticker.setDaemon( true );
+		ticker.start();
+		return this;
+	}
+
+	private void run( long intervalNanos ) {
+		while ( ! closed ) {
+			try {
+				tick();
+			}
+			catch ( RuntimeException e ) {
+				LOGGER.log( System.Logger.Level.WARNING, TICK_FAILURE, e );
+			}
+			LockSupport.parkNanos( this, intervalNanos );
+		}
+	}
+
+	/** Stop ticking and cancel every running scenario, disabling their points. */
+	@Override
+	public void close() {
+		closed = true;
+		Thread thread;
+		synchronized ( this ) {
+			thread = ticker;
+		}
+		if ( thread != null ) {
+			LockSupport.unpark( thread );
+			boolean interrupted = false;
+			while ( thread.isAlive() ) {
+				try {
+					thread.join();
+				}
+				catch ( InterruptedException e ) {
+					interrupted = true;
+				}
+			}
+			if ( interrupted ) Thread.currentThread().interrupt();
+		}
+		synchronized ( this ) {
+			runs.forEach( run -> FaultInjection.disable( run.scenario.getPoint() ) );
+			runs.clear();
+		}
+	}
+
+	private static final class Run {
+
+		private final ChaosScenario scenario;
+		private final long startNanos;
+		private int phase = NOT_APPLIED;
+
+		private Run( ChaosScenario scenario, long startNanos ) {
+			this.scenario = scenario;
+			this.startNanos = startNanos;
+		}
+
+	}
+
+}
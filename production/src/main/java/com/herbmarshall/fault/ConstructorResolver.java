@@ -2,54 +2,272 @@ package com.herbmarshall.fault;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+/**
+ * Finds the constructor of {@code T} for a list of argument types the way the compiler picks an overload:
+ * the most specific constructor applicable by subtyping and primitive widening,
+ * or if there is none, the most specific one applicable once boxing and unboxing are allowed.
+ * Each decision is memoised per type, argument types and visibility, so resolving the same shape again,
+ * from any resolver, costs a single map lookup.
+ * @param <T> The type to construct
+ */
 final class ConstructorResolver<T> {
 
 	static final String NO_PARAMETERS_TO_TRY = "No parameter lists provided, please use tryParameter method";
 	static final String CONSTRUCTOR_NOT_FOUND_TEMPLATE = "%s does not have expected constructor";
+	static final String AMBIGUOUS_CONSTRUCTOR_TEMPLATE = "%s has more than one constructor as specific for %s";
 	static final String INSTANTIATION_FAILURE_TEMPLATE = "Could not create instance of %s";
 
+	private static final ClassValue<Map<Shape, Resolution>> RESOLUTIONS = new ClassValue<>() {
+		@Override
+		protected Map<Shape, Resolution> computeValue( Class<?> type ) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final Resolution NONE = new Resolution( null, false );
+	private static final Resolution AMBIGUOUS = new Resolution( null, true );
+
+	/** Each wrapper type, to its primitive. */
+	private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+		Boolean.class, boolean.class,
+		Byte.class, byte.class,
+		Short.class, short.class,
+		Character.class, char.class,
+		Integer.class, int.class,
+		Long.class, long.class,
+		Float.class, float.class,
+		Double.class, double.class
+	);
+	private static final Map<Class<?>, Class<?>> WRAPPERS = PRIMITIVES.entrySet().stream()
+		.collect( Collectors.toUnmodifiableMap( Map.Entry::getValue, Map.Entry::getKey ) );
+
+	/** Each primitive type, to the primitives it widens to. */
+	private static final Map<Class<?>, Set<Class<?>>> WIDENING = Map.of(
+		byte.class, Set.of( short.class, int.class, long.class, float.class, double.class ),
+		short.class, Set.of( int.class, long.class, float.class, double.class ),
+		char.class, Set.of( int.class, long.class, float.class, double.class ),
+		int.class, Set.of( long.class, float.class, double.class ),
+		long.class, Set.of( float.class, double.class ),
+		float.class, Set.of( double.class )
+	);
+
 	private final Class<T> type;
 	private final List<Class<?>[]> parameterLists = new ArrayList<>();
+	private Access access = Access.PUBLIC;
 
 	private ConstructorResolver( Class<T> type ) {
 		this.type = Objects.requireNonNull( type );
 	}
 
+	/**
+	 * Resolve for these argument types, after any parameter lists already added.
+	 * A constructor is found if it is applicable to the arguments, it need not match them exactly.
+	 */
 	ConstructorResolver<T> tryParameters( Class<?>... classes ) {
-		parameterLists.add( classes );
+		parameterLists.add( classes.clone() );
 		return this;
 	}
 
+	/** Also consider {@code protected} constructors, as used by the four argument {@link Throwable} shape. */
+	ConstructorResolver<T> allowProtected() {
+		if ( access == Access.PUBLIC ) access = Access.PROTECTED;
+		return this;
+	}
+
+	/**
+	 * Consider every constructor, whatever its visibility, that can be made accessible,
+	 * such as those of types on the class path but not the private ones of the JDK.
+	 */
+	ConstructorResolver<T> allowNonPublic() {
+		access = Access.ANY;
+		return this;
+	}
+
+	/**
+	 * Create an instance, using the first parameter list that {@code args} fit and that resolves,
+	 * or failing that the constructor resolved for the runtime types of {@code args}.
+	 * @throws UnsupportedOperationException if there is no such constructor, or it fails
+	 * @throws Error if the constructor throws one, unwrapped
+	 */
 	T create( Object... args ) {
+		Constructor<T> constructor = resolve( args );
 		try {
-			return resolve().newInstance( args );
+			return constructor.newInstance( args );
+		}
+		catch ( InvocationTargetException e ) {
+			if ( e.getCause() instanceof Error error ) throw error;
+			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
 		}
-		catch ( InstantiationException | IllegalAccessException | InvocationTargetException e ) {
+		catch ( InstantiationException | IllegalAccessException e ) {
 			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
 		}
 	}
 
-	private Constructor<T> resolve() {
-		Throwable noMethodException = null;
+	/**
+	 * Resolve the constructor for the first parameter list that any constructor is applicable to.
+	 * @throws UnsupportedOperationException if there is no such constructor, or more than one is most specific
+	 */
+	Constructor<T> resolve() {
+		if ( parameterLists.isEmpty() ) throw new IllegalStateException( NO_PARAMETERS_TO_TRY );
 		for ( Class<?>[] parameterList : parameterLists ) {
-			try {
-				return type.getConstructor( parameterList );
-			}
-			catch ( NoSuchMethodException e ) {
-				noMethodException = e;
+			Constructor<T> constructor = lookup( parameterList );
+			if ( constructor != null ) return constructor;
+		}
+		throw new UnsupportedOperationException( CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( type ) );
+	}
+
+	/**
+	 * @return true if a constructor takes a parameter list with some types narrowed to subtypes,
+	 *   such as {@code (String, IOException)} for {@code (String, Throwable)},
+	 *   so {@link #create(Object...)} may succeed for some arguments even though {@link #resolve()} fails
+	 */
+	boolean acceptsNarrower() {
+		for ( Constructor<?> constructor : type.getDeclaredConstructors() ) {
+			if ( ! usable( constructor ) ) continue;
+			Class<?>[] parameters = constructor.getParameterTypes();
+			for ( Class<?>[] parameterList : parameterLists ) {
+				if ( narrows( parameterList, parameters ) ) return true;
 			}
 		}
-		throw noMethodException == null ?
-			new IllegalStateException( NO_PARAMETERS_TO_TRY ) :
-			new UnsupportedOperationException( CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( type ), noMethodException );
+		return false;
+	}
+
+	private Constructor<T> resolve( Object[] args ) {
+		if ( parameterLists.isEmpty() ) throw new IllegalStateException( NO_PARAMETERS_TO_TRY );
+		Class<?>[] arguments = new Class<?>[ args.length ];
+		for ( int i = 0; i < args.length; i++ ) arguments[ i ] = args[ i ] == null ? null : args[ i ].getClass();
+		for ( Class<?>[] parameterList : parameterLists ) {
+			if ( ! convertible( arguments, parameterList, true ) ) continue;
+			Constructor<T> constructor = lookup( parameterList );
+			if ( constructor != null ) return constructor;
+		}
+		Constructor<T> constructor = lookup( arguments );
+		if ( constructor != null ) return constructor;
+		throw new UnsupportedOperationException( CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( type ) );
+	}
+
+	/** @return The memoised constructor for {@code arguments}, or null if none is applicable. */
+	@SuppressWarnings( "unchecked" )
+	private Constructor<T> lookup( Class<?>[] arguments ) {
+		Resolution resolution = RESOLUTIONS.get( type ).computeIfAbsent(
+			new Shape( access, Arrays.asList( arguments ) ),
+			shape -> mostSpecific( arguments )
+		);
+		if ( resolution.ambiguous() ) {
+			throw new UnsupportedOperationException(
+				AMBIGUOUS_CONSTRUCTOR_TEMPLATE.formatted( type, describe( arguments ) )
+			);
+		}
+		return ( Constructor<T> ) resolution.constructor();
+	}
+
+	private Resolution mostSpecific( Class<?>[] arguments ) {
+		List<Constructor<?>> candidates = new ArrayList<>();
+		for ( Constructor<?> constructor : type.getDeclaredConstructors() ) {
+			if ( constructor.getParameterCount() != arguments.length ) continue;
+			if ( usable( constructor ) ) candidates.add( constructor );
+		}
+		Resolution strict = mostSpecific( candidates, arguments, false );
+		return strict == NONE ? mostSpecific( candidates, arguments, true ) : strict;
+	}
+
+	private Resolution mostSpecific( List<Constructor<?>> candidates, Class<?>[] arguments, boolean boxing ) {
+		List<Constructor<?>> applicable = candidates.stream()
+			.filter( candidate -> convertible( arguments, candidate.getParameterTypes(), boxing ) )
+			.toList();
+		for ( Constructor<?> candidate : applicable ) {
+			Class<?>[] parameters = candidate.getParameterTypes();
+			boolean specific = applicable.stream()
+				.allMatch( other -> convertible( parameters, other.getParameterTypes(), false ) );
+			if ( specific ) return new Resolution( candidate, false );
+		}
+		return applicable.isEmpty() ? NONE : AMBIGUOUS;
+	}
+
+	/** A constructor that is not public is only usable if it is visible, and it can be made accessible. */
+	private boolean usable( Constructor<?> constructor ) {
+		if ( ! visible( constructor ) ) return false;
+		if ( access != Access.ANY || Modifier.isPublic( constructor.getModifiers() ) ) return true;
+		return constructor.trySetAccessible();
+	}
+
+	private boolean visible( Constructor<?> constructor ) {
+		int modifiers = constructor.getModifiers();
+		return switch ( access ) {
+			case PUBLIC -> Modifier.isPublic( modifiers );
+			case PROTECTED -> Modifier.isPublic( modifiers ) || Modifier.isProtected( modifiers );
+			case ANY -> true;
+		};
+	}
+
+	private static boolean convertible( Class<?>[] from, Class<?>[] to, boolean boxing ) {
+		if ( from.length != to.length ) return false;
+		for ( int i = 0; i < from.length; i++ ) {
+			if ( ! convertible( from[ i ], to[ i ], boxing ) ) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param from The argument type, null for a null argument
+	 * @param boxing Also allow boxing then reference widening, and unboxing then primitive widening
+	 */
+	private static boolean convertible( Class<?> from, Class<?> to, boolean boxing ) {
+		if ( from == null ) return ! to.isPrimitive();
+		if ( widens( from, to ) ) return true;
+		if ( ! boxing ) return false;
+		if ( from.isPrimitive() ) return ! to.isPrimitive() && to.isAssignableFrom( WRAPPERS.get( from ) );
+		Class<?> primitive = PRIMITIVES.get( from );
+		return primitive != null && widens( primitive, to );
+	}
+
+	private static boolean widens( Class<?> from, Class<?> to ) {
+		if ( from == to ) return true;
+		if ( from.isPrimitive() || to.isPrimitive() ) return WIDENING.getOrDefault( from, Set.of() ).contains( to );
+		return to.isAssignableFrom( from );
+	}
+
+	private static boolean narrows( Class<?>[] from, Class<?>[] to ) {
+		if ( from.length != to.length ) return false;
+		for ( int i = 0; i < from.length; i++ ) {
+			boolean narrowed = ! from[ i ].isPrimitive() && from[ i ].isAssignableFrom( to[ i ] );
+			if ( ! narrowed && ! convertible( from[ i ], to[ i ], true ) ) return false;
+		}
+		return true;
+	}
+
+	private static String describe( Class<?>[] arguments ) {
+		return Arrays.stream( arguments )
+			.map( argument -> argument == null ? "null" : argument.getTypeName() )
+			.collect( Collectors.joining( ", ", "(", ")" ) );
 	}
 
 	static <T> ConstructorResolver<T> using( Class<T> type ) {
 		return new ConstructorResolver<>( type );
 	}
 
+	private enum Access {
+		PUBLIC,
+		PROTECTED,
+		ANY
+	}
+
+	/** The argument types, and the constructors considered, of one resolution. */
+	private record Shape( Access access, List<Class<?>> arguments ) {
+	}
+
+	/** A memoised resolution: the constructor chosen, or none, or that more than one was most specific. */
+	private record Resolution( Constructor<?> constructor, boolean ambiguous ) {
+	}
+
 }
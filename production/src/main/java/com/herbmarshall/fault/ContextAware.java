@@ -0,0 +1,15 @@
+package com.herbmarshall.fault;
+
+/**
+ * Implemented by error types that keep the {@link FaultContext} of the {@link Fault} that built them.
+ * @see Fault#with(String, Object)
+ */
+public interface ContextAware {
+
+	/**
+	 * Called once, right after the error is built, by a fault that has context.
+	 * @param context The context of the fault
+	 */
+	void setContext( FaultContext context );
+
+}
@@ -0,0 +1,278 @@
+package com.herbmarshall.fault;
+
+import com.herbmarshall.standardPipe.Standard;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Prints each {@link Fault} at most once per time window, collapsing equal faults printed inside the window.
+ * When the window of a fault closes, a single summary line reports how many prints were collapsed.
+ * <p>
+ * Open windows are kept in a fixed size, lock free table indexed by {@link Fault#hashCode()},
+ * so memory stays flat however many distinct faults are printed.
+ * A fault is looked for in up to {@value #PROBES} consecutive slots from its index,
+ * and a new window takes the first of them that is empty or holds a closed window; open windows are never evicted.
+ * If every one of those slots holds an open window, the fault is printed without being collapsed.
+ * <p>
+ * There is no background thread: closed windows are reported by a print after the window length has passed,
+ * or by {@link #flush()} or {@link #close()}.
+ * A printer that stops printing must be flushed or closed, otherwise its last summaries are never written.
+ * @see Fault#print(OutputStream)
+ */
+public final class DedupFaultPrinter implements AutoCloseable {
+
+	static final String REPEATED_TEMPLATE = "%s repeated %d times";
+	static final String WINDOW_TEMPLATE = "Window must be positive, received %s";
+	static final String CAPACITY_TEMPLATE = "Capacity must be positive, received %d";
+
+	static final int DEFAULT_CAPACITY = 1024;
+	static final Duration DEFAULT_WINDOW = Duration.ofSeconds( 1 );
+
+	/** The most slots a fault is looked for in, starting at its index. */
+	static final int PROBES = 8;
+
+	private final Supplier<OutputStream> target;
+	private final long window;
+	private final LongSupplier clock;
+	private final int mask;
+	private final int probes;
+	private final AtomicReferenceArray<Window> slots;
+	private final AtomicLong nextSweep;
+
+	private DedupFaultPrinter( Supplier<OutputStream> target, long window, int capacity, LongSupplier clock ) {
+		this.target = target;
+		this.window = window;
+		this.clock = clock;
+		int size = capacity <= 2 ? 2 : Integer.highestOneBit( capacity - 1 ) << 1;
+		this.mask = size - 1;
+		this.probes = Math.min( size, PROBES );
+		this.slots = new AtomicReferenceArray<>( size );
+		this.nextSweep = new AtomicLong( clock.getAsLong() + window );
+	}
+
+	/**
+	 * Print {@code fault}, unless an equal fault was printed within the window.
+	 * @return true if printed, false if collapsed into the open window
+	 * @throws NullPointerException if {@code fault} is null
+	 * @throws UncheckedIOException if the target fails to write
+	 */
+	public boolean print( Fault<?> fault ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		long now = clock.getAsLong();
+		sweep( now );
+		int start = index( fault );
+		while ( true ) {
+			Window match = null;
+			int free = -1;
+			Window freed = null;
+			for ( int i = 0; i < probes && match == null; i++ ) {
+				int index = ( start + i ) & mask;
+				Window current = slots.get( index );
+				if ( current != null && now - current.start < window ) {
+					if ( current.fault.equals( fault ) ) match = current;
+				}
+				else if ( free < 0 ) {
+					free = index;
+					freed = current;
+				}
+			}
+			if ( match != null ) {
+				if ( match.collapse() ) return false;
+				continue;
+			}
+			if ( free < 0 ) {
+				fault.print( target.get() );
+				return true;
+			}
+			if ( slots.compareAndSet( free, freed, new Window( fault, now ) ) ) {
+				if ( freed != null ) report( freed );
+				fault.print( target.get() );
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Report every open window that has collapsed a print, whether or not it has closed.
+	 * @throws UncheckedIOException if the target fails to write
+	 */
+	public void flush() {
+		for ( int i = 0; i <= mask; i++ ) {
+			Window current = slots.get( i );
+			if ( current != null && slots.compareAndSet( i, current, null ) ) report( current );
+		}
+	}
+
+	/**
+	 * Report every open window, as {@link #flush()} does.
+	 * The printer may still be used afterwards.
+	 * @throws UncheckedIOException if the target fails to write
+	 */
+	@Override
+	public void close() {
+		flush();
+	}
+
+	/** @return The number of faults whose window is open. */
+	public int size() {
+		int size = 0;
+		for ( int i = 0; i <= mask; i++ ) {
+			if ( slots.get( i ) != null ) size++;
+		}
+		return size;
+	}
+
+	/** At most once per window, clear every window that has closed. */
+	private void sweep( long now ) {
+		long due = nextSweep.get();
+		if ( now - due < 0 || ! nextSweep.compareAndSet( due, now + window ) ) return;
+		for ( int i = 0; i <= mask; i++ ) {
+			Window current = slots.get( i );
+			if ( current != null && now - current.start >= window && slots.compareAndSet( i, current, null ) ) {
+				report( current );
+			}
+		}
+	}
+
+	private int index( Fault<?> fault ) {
+		int hash = fault.hashCode();
+		return ( hash ^ ( hash >>> Short.SIZE ) ) & mask;
+	}
+
+	/** Close {@code closing}, removed from the table by the caller, printing its summary if it collapsed any. */
+	private void report( Window closing ) {
+		long repeats = closing.close();
+		if ( repeats == 0 ) return;
+		String line = REPEATED_TEMPLATE.formatted( closing.fault, repeats ) + System.lineSeparator();
+		write( line.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private void write( byte[] line ) {
+		OutputStream stream = target.get();
+		if ( stream instanceof PrintStream printStream ) {
+			printStream.write( line, 0, line.length );
+			return;
+		}
+		try {
+			stream.write( line );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Print to a {@link Standard} stream, resolved for each line so overrides are respected.
+	 * @param standard The standard stream to print to
+	 * @return A builder for the printer
+	 */
+	public static Builder to( Standard standard ) {
+		Objects.requireNonNull( standard, Fault.nullPointerError( "standard" ) );
+		return new Builder( standard::toStream );
+	}
+
+	/**
+	 * Print to {@code stream}.
+	 * @param stream The stream to print to
+	 * @return A builder for the printer
+	 */
+	public static Builder to( OutputStream stream ) {
+		Objects.requireNonNull( stream, Fault.nullPointerError( "stream" ) );
+		return new Builder( () -> stream );
+	}
+
+	/**
+	 * The open window of one fault.
+	 * Repeats are counted by a {@link LongAdder}, so threads collapsing the same fault do not contend.
+	 * A print that races the close of the window is printed again rather than risk being left out of the summary,
+	 * so it may also be counted there.
+	 */
+	private static final class Window {
+
+		private final Fault<?> fault;
+		private final long start;
+		private final LongAdder repeats = new LongAdder();
+		private volatile boolean closed = false;
+
+		private Window( Fault<?> fault, long start ) {
+			this.fault = fault;
+			this.start = start;
+		}
+
+		/** @return true if counted as a repeat, false if the window was closed first. */
+		private boolean collapse() {
+			if ( closed ) return false;
+			repeats.increment();
+			return ! closed;
+		}
+
+		/** @return The number of repeats; none may be added after. */
+		private long close() {
+			closed = true;
+			return repeats.sum();
+		}
+
+	}
+
+	/** Configures a {@link DedupFaultPrinter}. */
+	public static final class Builder {
+
+		private final Supplier<OutputStream> target;
+		private Duration window = DEFAULT_WINDOW;
+		private int capacity = DEFAULT_CAPACITY;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder( Supplier<OutputStream> target ) {
+			this.target = target;
+		}
+
+		/**
+		 * @param window How long equal faults are collapsed after one is printed, defaults to one second
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code window} is not positive
+		 */
+		public Builder window( Duration window ) {
+			Objects.requireNonNull( window, Fault.nullPointerError( "window" ) );
+			if ( window.isNegative() || window.isZero() ) {
+				throw new IllegalArgumentException( WINDOW_TEMPLATE.formatted( window ) );
+			}
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * @param capacity The number of slots for open windows, rounded up to a power of two of at least two
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code capacity} is not positive
+		 */
+		public Builder capacity( int capacity ) {
+			if ( capacity < 1 ) throw new IllegalArgumentException( CAPACITY_TEMPLATE.formatted( capacity ) );
+			this.capacity = capacity;
+			return this;
+		}
+
+		/** @param clock The time source, in nanoseconds, defaults to {@link System#nanoTime()} */
+		Builder clock( LongSupplier clock ) {
+			this.clock = Objects.requireNonNull( clock, Fault.nullPointerError( "clock" ) );
+			return this;
+		}
+
+		/** @return A new printer. */
+		public DedupFaultPrinter build() {
+			return new DedupFaultPrinter( target, window.toNanos(), capacity, clock );
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.herbmarshall.fault;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Constructors registered by every {@link FaultFactoryProvider} visible when first used.
+ * A provider that fails to load or to register is skipped, along with anything it registered,
+ * and reported to the {@link System.Logger} of this class, so one broken provider cannot stop every fault building.
+ */
+final class FactoryRegistry {
+
+	static final String PROVIDER_FAILURE_TEMPLATE = "Skipped %s, it failed to register";
+	static final String SKIPPED_MESSAGE = "Skipped a FaultFactoryProvider";
+
+	private static final System.Logger LOGGER = System.getLogger( FactoryRegistry.class.getName() );
+
+	private static final Map<Class<?>, Registration<?>> REGISTRATIONS = load(
+		ServiceLoader.load( FaultFactoryProvider.class ).iterator(),
+		error -> LOGGER.log( System.Logger.Level.WARNING, SKIPPED_MESSAGE, error )
+	);
+
+	private FactoryRegistry() {}
+
+	@SuppressWarnings( "unchecked" )
+	static <E extends Throwable> Function<String, E> message( Class<E> type ) {
+		Registration<E> registration = ( Registration<E> ) REGISTRATIONS.get( type );
+		return registration == null ? null : registration.message();
+	}
+
+	@SuppressWarnings( "unchecked" )
+	static <E extends Throwable> BiFunction<String, Throwable, E> caused( Class<E> type ) {
+		Registration<E> registration = ( Registration<E> ) REGISTRATIONS.get( type );
+		return registration == null ? null : registration.caused();
+	}
+
+	/**
+	 * Collect the registrations of every provider that loads and registers without failing.
+	 * @param failures Receives each provider that failed to load, or to register
+	 */
+	static Map<Class<?>, Registration<?>> load(
+		Iterator<FaultFactoryProvider> providers,
+		Consumer<ServiceConfigurationError> failures
+	) {
+		Map<Class<?>, Registration<?>> registrations = new HashMap<>();
+		for (
+			FaultFactoryProvider provider = next( providers, failures );
+			provider != null;
+			provider = next( providers, failures )
+		) {
+			Map<Class<?>, Registration<?>> provided = new HashMap<>();
+			try {
+				provider.register( registrar( provided ) );
+				registrations.putAll( provided );
+			}
+			catch ( RuntimeException | LinkageError | ServiceConfigurationError e ) {
+				failures.accept(
+					new ServiceConfigurationError( PROVIDER_FAILURE_TEMPLATE.formatted( provider.getClass() ), e )
+				);
+			}
+		}
+		return Map.copyOf( registrations );
+	}
+
+	/** @return The next provider that loads, or null if there are no more. */
+	private static FaultFactoryProvider next(
+		Iterator<FaultFactoryProvider> providers,
+		Consumer<ServiceConfigurationError> failures
+	) {
+		while ( true ) {
+			try {
+				return providers.hasNext() ? providers.next() : null;
+			}
+			catch ( ServiceConfigurationError e ) {
+				failures.accept( e );
+			}
+		}
+	}
+
+	private static FaultFactoryProvider.Registrar registrar( Map<Class<?>, Registration<?>> registrations ) {
+		return new FaultFactoryProvider.Registrar() {
+			@Override
+			public <E extends Throwable> void register(
+				Class<E> type,
+				Function<String, E> message,
+				BiFunction<String, Throwable, E> caused
+			) {
+				registrations.put( Objects.requireNonNull( type ), new Registration<>( message, caused ) );
+			}
+		};
+	}
+
+	record Registration<E extends Throwable>(
+		Function<String, E> message,
+		BiFunction<String, Throwable, E> caused
+	) {}
+
+}
@@ -2,10 +2,18 @@ package com.herbmarshall.fault;
 
 import com.herbmarshall.standardPipe.Standard;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
-import java.lang.reflect.Constructor;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Utility to build error message containers.
@@ -15,13 +23,78 @@ public final class Fault<E extends Throwable> {
 
 	static final String TO_STRING_TEMPLATE = "(%s) %s";
 
+	private static final int HASH_PRIME = 31;
+
 	private final Class<E> type;
-	private final String message;
+	private final FaultContext context;
+	private volatile String message;
+	private final Renderer renderer;
+	private volatile byte[] encodedLine;
+	private FaultMetrics.Entry metrics;
+	private int hash;
+	private Outcome<?> failure;
 
 	/** Create instance. */
 	public Fault( Class<E> type, String message ) {
 		this.type = requireNonNull( type, "type" );
 		this.message = requireNonNull( message, "message" );
+		this.renderer = null;
+		this.context = FaultContext.EMPTY;
+	}
+
+	private Fault( Class<E> type, Supplier<String> messageSupplier ) {
+		this.type = requireNonNull( type, "type" );
+		this.renderer = new Renderer( requireNonNull( messageSupplier, "messageSupplier" ) );
+		this.context = FaultContext.EMPTY;
+	}
+
+	private Fault( Fault<E> base, FaultContext context ) {
+		this.type = base.type;
+		this.message = base.message;
+		this.renderer = base.renderer;
+		this.hash = base.hash;
+		this.context = context;
+	}
+
+	/**
+	 * Create an instance whose message is only rendered when first needed.
+	 * {@code messageSupplier} is called at most once, by the first of {@link #getMessage()}, {@link #build()},
+	 * {@link #print()}, {@link #toString()}, {@link #equals(Object)} or {@link #hashCode()}.
+	 * Building an error that is {@link MessageAware} does not render the message,
+	 * it is rendered when the error's own message is first read.
+	 * Equality is the same as an eager {@link Fault} with the rendered message.
+	 * @param type The error type
+	 * @param messageSupplier Renders the error message, must not return null
+	 * @param <E> The error type
+	 * @return A new instance
+	 */
+	public static <E extends Throwable> Fault<E> lazy( Class<E> type, Supplier<String> messageSupplier ) {
+		return new Fault<>( type, messageSupplier );
+	}
+
+	/**
+	 * Create a {@link FaultTemplate}, whose message has values filled in at build time.
+	 * @param type The error type
+	 * @param pattern The error message, with {@value FaultTemplate#SLOT} where each argument is placed
+	 * @param <E> The error type
+	 * @return A new template
+	 */
+	public static <E extends Throwable> FaultTemplate<E> template( Class<E> type, String pattern ) {
+		return new FaultTemplate<>( type, pattern );
+	}
+
+	/**
+	 * Resolve, ahead of the first build, the constructors used to build the error types of {@code faults}.
+	 * Intended for startup, so the first failure of each type is as fast as the rest.
+	 * @param faults The faults to prepare
+	 * @return Which types are ready, and which cannot be built
+	 * @throws NullPointerException if any of {@code faults} is null
+	 * @see FaultPreloader
+	 */
+	public static FaultPreloader.Report preload( Fault<?>... faults ) {
+		List<Class<? extends Throwable>> types = new ArrayList<>( faults.length );
+		for ( Fault<?> fault : faults ) types.add( Objects.requireNonNull( fault, nullPointerError( "faults" ) ).type );
+		return FaultPreloader.preload( types );
 	}
 
 	/** @return the generated error type. */
@@ -29,22 +102,95 @@ public final class Fault<E extends Throwable> {
 		return type;
 	}
 
-	/** @return the generated error message. */
+	/**
+	 * @return the generated error message.
+	 * @throws NullPointerException if a lazy message renders as null
+	 */
 	public String getMessage() {
-		return message;
+		String rendered = message;
+		if ( rendered == null ) {
+			rendered = renderer.render();
+			message = rendered;
+		}
+		return rendered;
+	}
+
+	/**
+	 * @return The message to build an error with,
+	 *   or null if this is lazy, not yet rendered and {@code E} is {@link MessageAware}
+	 */
+	private String buildMessage() {
+		String rendered = message;
+		if ( rendered != null ) return rendered;
+		return MessageAware.class.isAssignableFrom( type ) ? null : getMessage();
+	}
+
+	/**
+	 * Attach a named value, such as a request id, without touching the message.
+	 * The context is rendered by {@link #print()} and passed to built errors that are {@link ContextAware}.
+	 * It is not part of equality, so {@link #validate(Throwable)} still compares only type and message.
+	 * @param key The name of the value
+	 * @param value The value, which may be null
+	 * @return A copy of this fault with {@code value} set for {@code key}, replacing any existing value
+	 * @throws NullPointerException if {@code key} is null
+	 */
+	public Fault<E> with( String key, Object value ) {
+		return new Fault<>( this, context.with( key, value ) );
+	}
+
+	/** @return the attached context, empty if there is none. */
+	public FaultContext getContext() {
+		return context;
+	}
+
+	/**
+	 * Pass the message renderer to {@code error}, if it was built without a message, then attach the context.
+	 * @param builtMessage The message {@code error} was built with, from {@link #buildMessage()}
+	 */
+	private E attach( E error, String builtMessage ) {
+		if ( builtMessage == null && error instanceof MessageAware aware ) aware.setMessage( this::getMessage );
+		return attach( error );
+	}
+
+	/** Pass the context to {@code error}, if it has any and {@code error} is {@link ContextAware}. */
+	private E attach( E error ) {
+		if ( ! context.isEmpty() && error instanceof ContextAware aware ) aware.setContext( context );
+		return error;
 	}
 
 	/**
 	 * Create a new instance of the {@link Throwable} {@code E}.
 	 * @throws UnsupportedOperationException if there are any problems while instantiating an {@code E}
 	 * @return A new instance of {@code E}
-	 * @see Constructor#newInstance(Object...)
+	 * @see Class#getConstructors()
 	 */
 	public E build() {
-		return ConstructorResolver.using( type )
-			.tryParameters( String.class )
-			.tryParameters( Object.class )
-			.create( message );
+		count( FaultMetrics.Event.BUILD );
+		FaultSampler.sample( this );
+		ThrowableFactory<E> factory = ThrowableFactory.of( type );
+		FaultEvents.Build event = new FaultEvents.Build();
+		boolean recording = event.isEnabled();
+		if ( recording ) FaultEvents.begin( event, this, factory.isMessageResolved(), false, false );
+		String built = buildMessage();
+		E error = attach( factory.create( built ), built );
+		if ( recording ) event.commit();
+		return error;
+	}
+
+	/**
+	 * Build as {@link #build()} does, counted, sampled and recorded against this fault, but with {@code message}.
+	 * @param message The message to build with, in place of the message of this fault
+	 */
+	E buildWithMessage( String message ) {
+		count( FaultMetrics.Event.BUILD );
+		FaultSampler.sample( this );
+		ThrowableFactory<E> factory = ThrowableFactory.of( type );
+		FaultEvents.Build event = new FaultEvents.Build();
+		boolean recording = event.isEnabled();
+		if ( recording ) FaultEvents.begin( event, this, factory.isMessageResolved(), false, false );
+		E error = attach( factory.create( message ) );
+		if ( recording ) event.commit();
+		return error;
 	}
 
 	/**
@@ -52,20 +198,89 @@ public final class Fault<E extends Throwable> {
 	 * @param cause The cause of the {@link Throwable} to build
 	 * @throws UnsupportedOperationException if there are any problems while instantiating an {@code E}
 	 * @return A new instance of {@code E}
-	 * @see Constructor#newInstance(Object...)
+	 * @see Class#getConstructors()
 	 */
 	public E build( Throwable cause ) {
-		return ConstructorResolver.using( type )
-			.tryParameters( String.class, Throwable.class )
-			.tryParameters( Object.class, Throwable.class )
-			.create(
-				message,
-				requireNonNull( cause, "cause" )
-			);
+		count( FaultMetrics.Event.CAUSED_BUILD );
+		FaultSampler.sample( this );
+		requireNonNull( cause, "cause" );
+		ThrowableFactory<E> factory = ThrowableFactory.of( type );
+		FaultEvents.Build event = new FaultEvents.Build();
+		boolean recording = event.isEnabled();
+		if ( recording ) FaultEvents.begin( event, this, factory.isCausedResolved(), true, false );
+		String built = buildMessage();
+		E error = attach( factory.create( built, cause ), built );
+		if ( recording ) event.commit();
+		return error;
 	}
 
 	/**
-	 * Will print the error type and message to {@link Standard#out}.
+	 * Create a new instance of the {@link Throwable} {@code E} without a stack trace and with suppression disabled.
+	 * Intended for expected, control flow errors where the stack trace is never read.
+	 * Requires {@code E} to expose a {@code (String, Throwable, boolean, boolean)} constructor,
+	 * otherwise this behaves as {@link #build()}.
+	 * @throws UnsupportedOperationException if there are any problems while instantiating an {@code E}
+	 * @return A new instance of {@code E}
+	 * @see Throwable#Throwable(String, Throwable, boolean, boolean)
+	 */
+	public E buildLightweight() {
+		count( FaultMetrics.Event.BUILD );
+		FaultSampler.sample( this );
+		return buildLightweight( ThrowableFactory.of( type ), null );
+	}
+
+	/**
+	 * Create a new instance of the {@link Throwable} {@code E} without a stack trace and with suppression disabled.
+	 * Requires {@code E} to expose a {@code (String, Throwable, boolean, boolean)} constructor,
+	 * otherwise this behaves as {@link #build(Throwable)}.
+	 * @param cause The cause of the {@link Throwable} to build
+	 * @throws UnsupportedOperationException if there are any problems while instantiating an {@code E}
+	 * @return A new instance of {@code E}
+	 * @see Throwable#Throwable(String, Throwable, boolean, boolean)
+	 */
+	public E buildLightweight( Throwable cause ) {
+		count( FaultMetrics.Event.CAUSED_BUILD );
+		FaultSampler.sample( this );
+		return buildLightweight( ThrowableFactory.of( type ), requireNonNull( cause, "cause" ) );
+	}
+
+	private E buildLightweight( ThrowableFactory<E> factory, Throwable cause ) {
+		FaultEvents.Build event = new FaultEvents.Build();
+		boolean recording = event.isEnabled();
+		if ( recording ) FaultEvents.begin( event, this, factory.isLightweightResolved(), cause != null, true );
+		String built = buildMessage();
+		E error = attach( factory.createLightweight( built, cause ), built );
+		if ( recording ) event.commit();
+		return error;
+	}
+
+	/**
+	 * Start collecting faults to report together, as errors suppressed by the error of this fault.
+	 * @return A new, empty batch
+	 * @see FaultBatch#build()
+	 */
+	public FaultBatch<E> batch() {
+		return new FaultBatch<>( this );
+	}
+
+	/**
+	 * Represent this fault as a value, without building an error.
+	 * The outcome is created once and shared by every later call, whatever {@code T} is.
+	 * @param <T> The success value type of the outcome
+	 * @return A failed {@link Outcome} holding this fault
+	 */
+	@SuppressWarnings( "unchecked" )
+	public <T> Outcome<T> failure() {
+		Outcome<?> outcome = failure;
+		if ( outcome == null ) {
+			outcome = Outcome.newFailure( this );
+			failure = outcome;
+		}
+		return ( Outcome<T> ) outcome;
+	}
+
+	/**
+	 * Will print the error type, message and context to {@link Standard#out}.
 	 * @return Self reference
 	 */
 	public Fault<E> print() {
@@ -73,15 +288,114 @@ public final class Fault<E extends Throwable> {
 	}
 
 	/**
-	 * Will print the error type and message to {@code stream}.
+	 * Will print the error type, message and context to {@code stream}, as a single UTF-8 encoded line.
 	 * @return Self reference
 	 * @throws NullPointerException if {@code stream} is null.
+	 * @throws UncheckedIOException if {@code stream} fails to write
 	 */
 	public Fault<E> print( OutputStream stream ) {
-		new PrintStream( requireNonNull( stream, "stream" ) ).println( this );
+		requireNonNull( stream, "stream" );
+		count( FaultMetrics.Event.PRINT );
+		FaultEvents.Print event = new FaultEvents.Print();
+		boolean recording = event.isEnabled();
+		if ( recording ) event.begin();
+		byte[] line = encodedLine();
+		if ( stream instanceof PrintStream printStream ) {
+			printStream.write( line, 0, line.length );
+		}
+		else {
+			try {
+				stream.write( line );
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+		if ( recording ) FaultEvents.commit( event, this, line.length );
 		return this;
 	}
 
+	/**
+	 * Will print the error type, message and context to {@code channel}, as a single UTF-8 encoded line.
+	 * @return Self reference
+	 * @throws NullPointerException if {@code channel} is null.
+	 * @throws UncheckedIOException if {@code channel} fails to write
+	 */
+	public Fault<E> printTo( WritableByteChannel channel ) {
+		requireNonNull( channel, "channel" );
+		count( FaultMetrics.Event.PRINT );
+		FaultEvents.Print event = new FaultEvents.Print();
+		boolean recording = event.isEnabled();
+		if ( recording ) event.begin();
+		ByteBuffer buffer = ByteBuffer.wrap( encodedLine() );
+		try {
+			while ( buffer.hasRemaining() ) channel.write( buffer );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+		if ( recording ) FaultEvents.commit( event, this, buffer.capacity() );
+		return this;
+	}
+
+	/**
+	 * Will print the error type, message and context of every fault to {@code channel}, using a single gathering write
+	 * where the channel accepts all of the lines at once.
+	 * @throws NullPointerException if {@code channel} or any of {@code faults} is null.
+	 * @throws UncheckedIOException if {@code channel} fails to write
+	 */
+	public static void printAll( GatheringByteChannel channel, Fault<?>... faults ) {
+		Objects.requireNonNull( channel, nullPointerError( "channel" ) );
+		ByteBuffer[] buffers = new ByteBuffer[ faults.length ];
+		boolean recording = new FaultEvents.Print().isEnabled();
+		FaultEvents.Print[] events = recording ? new FaultEvents.Print[ faults.length ] : null;
+		long remaining = 0;
+		for ( int i = 0; i < faults.length; i++ ) {
+			Fault<?> fault = Objects.requireNonNull( faults[ i ], nullPointerError( "faults" ) );
+			fault.count( FaultMetrics.Event.PRINT );
+			if ( recording ) {
+				events[ i ] = new FaultEvents.Print();
+				events[ i ].begin();
+			}
+			buffers[ i ] = ByteBuffer.wrap( fault.encodedLine() );
+			remaining += buffers[ i ].remaining();
+		}
+		try {
+			while ( remaining > 0 ) remaining -= channel.write( buffers );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+		if ( ! recording ) return;
+		for ( int i = 0; i < faults.length; i++ ) {
+			FaultEvents.commit( events[ i ], faults[ i ], buffers[ i ].capacity() );
+		}
+	}
+
+	/**
+	 * @return The printed form of this fault, encoded once and shared by every call,
+	 *   unless it has a context, whose values may change and so are rendered on every call
+	 */
+	byte[] encodedLine() {
+		byte[] line = encodedLine;
+		if ( line == null ) {
+			line = ( this + System.lineSeparator() ).getBytes( StandardCharsets.UTF_8 );
+			if ( context.isEmpty() ) encodedLine = line;
+		}
+		return line;
+	}
+
+	/** Count {@code event} if {@link FaultMetrics} is enabled. */
+	void count( FaultMetrics.Event event ) {
+		if ( ! FaultMetrics.isEnabled() ) return;
+		FaultMetrics.Entry entry = metrics;
+		if ( entry == null || entry.isStale() ) {
+			entry = FaultMetrics.entry( this );
+			metrics = entry;
+		}
+		entry.increment( event );
+	}
+
 	/**
 	 * Will compare {@code error} class type and message.
 	 * On failure, it will print the error stack trace to {@link Standard#err}.
@@ -103,11 +417,16 @@ public final class Fault<E extends Throwable> {
 	public Fault<E> validate( Throwable error, OutputStream stream ) {
 		requireNonNull( error, "error" );
 		requireNonNull( stream, "stream" );
+		FaultEvents.ValidationFailure event = new FaultEvents.ValidationFailure();
+		boolean recording = event.isEnabled();
+		if ( recording ) event.begin();
 		try {
 			validateType( error );
 			validateMessage( error );
 		}
 		catch ( AssertionError e ) {
+			count( FaultMetrics.Event.VALIDATION_FAILURE );
+			if ( recording ) FaultEvents.commit( event, this, error );
 			error.printStackTrace( new PrintStream( stream ) );
 			throw e;
 		}
@@ -120,13 +439,14 @@ public final class Fault<E extends Throwable> {
 	}
 
 	private void validateMessage( Throwable throwable ) {
-		if ( message.equals( throwable.getMessage() ) ) return;
-		throw new AssertionError( messageError( message, throwable.getMessage() ) );
+		if ( getMessage().equals( throwable.getMessage() ) ) return;
+		throw new AssertionError( messageError( getMessage(), throwable.getMessage() ) );
 	}
 
 	@Override
 	public String toString() {
-		return TO_STRING_TEMPLATE.formatted( type, message );
+		String value = TO_STRING_TEMPLATE.formatted( type, getMessage() );
+		return context.isEmpty() ? value : value + " " + context;
 	}
 
 	@Override
@@ -134,12 +454,39 @@ public final class Fault<E extends Throwable> {
 		if ( this == other ) return true;
 		if ( other == null || getClass() != other.getClass() ) return false;
 		Fault<?> fault = ( Fault<?> ) other;
-		return type.equals( fault.type ) && message.equals( fault.message );
+		if ( hash != 0 && fault.hash != 0 && hash != fault.hash ) return false;
+		return type.equals( fault.type ) && getMessage().equals( fault.getMessage() );
 	}
 
+	/** Same value as {@code Objects.hash( type, message )}, computed once. */
 	@Override
 	public int hashCode() {
-		return Objects.hash( type, message );
+		int value = hash;
+		if ( value == 0 ) {
+			value = HASH_PRIME * ( HASH_PRIME + type.hashCode() ) + getMessage().hashCode();
+			hash = value;
+		}
+		return value;
+	}
+
+	/** Renders a lazy message once, under its own lock, which no caller can take. */
+	private static final class Renderer {
+
+		private Supplier<String> supplier;
+		private String rendered;
+
+		private Renderer( Supplier<String> supplier ) {
+			this.supplier = supplier;
+		}
+
+		private synchronized String render() {
+			if ( rendered == null ) {
+				rendered = Objects.requireNonNull( supplier.get(), nullPointerError( "message" ) );
+				supplier = null;
+			}
+			return rendered;
+		}
+
 	}
 
 	private <T> T requireNonNull( T value, String name ) {
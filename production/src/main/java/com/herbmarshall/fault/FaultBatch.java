@@ -0,0 +1,142 @@
+package com.herbmarshall.fault;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collects many {@link Fault}s, each with an optional cause, and builds them into one composite error.
+ * The composite is built by a parent fault, with the error of each collected fault attached as suppressed.
+ * Errors are only built by {@link #build()}, each through the constructor already resolved for its type,
+ * so faults collected beyond the limit cost no more than a counter.
+ * Not safe to share between threads.
+ * <pre>
+ * FaultBatch&lt;ValidationException&gt; batch = INVALID_REQUEST.batch().limit( 100 ).lightweight();
+ * if ( name.isEmpty() ) batch.add( NAME_MISSING );
+ * if ( ! batch.isEmpty() ) throw batch.build();
+ * </pre>
+ * @param <E> The composite error type
+ * @see Throwable#getSuppressed()
+ */
+public final class FaultBatch<E extends Throwable> {
+
+	/** Number of faults kept, unless another limit is set. */
+	public static final int DEFAULT_LIMIT = 100;
+
+	static final String LIMIT_TEMPLATE = "Limit must be positive, received %d";
+	static final String DROPPED_TEMPLATE = "%s (%d more not kept)";
+
+	private final Fault<E> parent;
+	private final List<Entry> entries = new ArrayList<>();
+	private int limit = DEFAULT_LIMIT;
+	private boolean lightweight = false;
+	private int dropped = 0;
+
+	FaultBatch( Fault<E> parent ) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Keep at most {@code limit} faults; later faults are only counted.
+	 * Faults already kept beyond the new limit are dropped.
+	 * @param limit The number of faults to keep
+	 * @return Self reference
+	 * @throws IllegalArgumentException if {@code limit} is not positive
+	 */
+	public FaultBatch<E> limit( int limit ) {
+		if ( limit < 1 ) throw new IllegalArgumentException( LIMIT_TEMPLATE.formatted( limit ) );
+		this.limit = limit;
+		while ( entries.size() > limit ) {
+			entries.remove( entries.size() - 1 );
+			dropped++;
+		}
+		return this;
+	}
+
+	/**
+	 * Build the suppressed errors without stack traces, as {@link Fault#buildLightweight()} does.
+	 * The composite error keeps its stack trace.
+	 * @return Self reference
+	 */
+	public FaultBatch<E> lightweight() {
+		this.lightweight = true;
+		return this;
+	}
+
+	/**
+	 * @param fault A failure to report
+	 * @return Self reference
+	 */
+	public FaultBatch<E> add( Fault<?> fault ) {
+		return add( fault, null );
+	}
+
+	/**
+	 * @param fault A failure to report
+	 * @param cause The cause of the error of {@code fault}, or null if there is none
+	 * @return Self reference
+	 */
+	public FaultBatch<E> add( Fault<?> fault, Throwable cause ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		if ( entries.size() < limit ) entries.add( new Entry( fault, cause ) );
+		else dropped++;
+		return this;
+	}
+
+	/**
+	 * @param faults Failures to report, in order
+	 * @return Self reference
+	 */
+	public FaultBatch<E> addAll( Collection<? extends Fault<?>> faults ) {
+		Objects.requireNonNull( faults, Fault.nullPointerError( "faults" ) );
+		faults.forEach( this::add );
+		return this;
+	}
+
+	/** @return true if no fault has been added. */
+	public boolean isEmpty() {
+		return entries.isEmpty() && dropped == 0;
+	}
+
+	/** @return the number of faults kept. */
+	public int size() {
+		return entries.size();
+	}
+
+	/** @return the number of faults added beyond the limit, and so not kept. */
+	public int getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * Build the error of the parent fault, with the error of each kept fault attached as suppressed, in order.
+	 * If faults were dropped, the composite message notes how many.
+	 * @throws UnsupportedOperationException if there are any problems while building an error
+	 * @return A new instance of {@code E}
+	 */
+	public E build() {
+		E composite = dropped == 0 ? parent.build() : buildDropped();
+		for ( Entry entry : entries ) composite.addSuppressed( entry.build( lightweight ) );
+		return composite;
+	}
+
+	private E buildDropped() {
+		return parent.buildWithMessage( DROPPED_TEMPLATE.formatted( parent.getMessage(), dropped ) );
+	}
+
+	@Override
+	public String toString() {
+		return parent + " with " + entries.size() + " faults, " + dropped + " dropped";
+	}
+
+	private record Entry( Fault<?> fault, Throwable cause ) {
+
+		private Throwable build( boolean lightweight ) {
+			if ( lightweight ) return cause == null ? fault.buildLightweight() : fault.buildLightweight( cause );
+			return cause == null ? fault.build() : fault.build( cause );
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.herbmarshall.fault;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns {@link Fault} instances, giving each distinct fault a dense integer code.
+ * Codes are assigned in interning order, starting at zero, so they may index arrays.
+ * Lookup by code or by type and message is constant time and does not allocate.
+ * Safe to use from many threads; interning is serialized, lookups are not.
+ */
+public final class FaultCatalog {
+
+	static final String UNKNOWN_CODE_TEMPLATE = "No fault has code %d";
+	static final String NOT_CATALOGUED_TEMPLATE = "%s has not been interned";
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final Map<Class<?>, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+	private volatile Fault<?>[] faults = new Fault<?>[ INITIAL_CAPACITY ];
+	private volatile int size = 0;
+
+	/**
+	 * Add {@code fault}, unless an equal fault was added before.
+	 * @param fault The fault to add
+	 * @param <E> The error type
+	 * @return The catalogued fault equal to {@code fault}
+	 * @throws NullPointerException if {@code fault} is null
+	 */
+	public <E extends Throwable> Fault<E> intern( Fault<E> fault ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		Entry entry = entry( fault.getType(), fault.getMessage() );
+		if ( entry == null ) entry = add( fault );
+		return cast( entry.fault() );
+	}
+
+	private synchronized Entry add( Fault<?> fault ) {
+		Map<String, Entry> messages = entries.computeIfAbsent( fault.getType(), key -> new ConcurrentHashMap<>() );
+		Entry entry = messages.get( fault.getMessage() );
+		if ( entry != null ) return entry;
+		int code = size;
+		Fault<?>[] array = faults;
+		if ( code == array.length ) {
+			array = Arrays.copyOf( array, array.length * 2 );
+			faults = array;
+		}
+		array[ code ] = fault;
+		size = code + 1;
+		entry = new Entry( code, fault );
+		messages.put( fault.getMessage(), entry );
+		return entry;
+	}
+
+	/**
+	 * @param code A code assigned by {@link #intern(Fault)}
+	 * @return The fault with {@code code}
+	 * @throws IllegalArgumentException if no fault has {@code code}
+	 */
+	public Fault<?> byCode( int code ) {
+		int count = size;
+		if ( code < 0 || code >= count ) throw new IllegalArgumentException( UNKNOWN_CODE_TEMPLATE.formatted( code ) );
+		return faults[ code ];
+	}
+
+	/**
+	 * @param type The error type
+	 * @param message The error message
+	 * @param <E> The error type
+	 * @return The catalogued fault with {@code type} and {@code message}, or null if there is none
+	 * @throws NullPointerException if either {@code type} or {@code message} are null
+	 */
+	public <E extends Throwable> Fault<E> lookup( Class<E> type, String message ) {
+		Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+		Objects.requireNonNull( message, Fault.nullPointerError( "message" ) );
+		Entry entry = entry( type, message );
+		return entry == null ? null : cast( entry.fault() );
+	}
+
+	/**
+	 * @param fault A fault equal to one that has been interned
+	 * @return The code of {@code fault}
+	 * @throws NullPointerException if {@code fault} is null
+	 * @throws IllegalArgumentException if no equal fault has been interned
+	 */
+	public int codeOf( Fault<?> fault ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		Entry entry = entry( fault.getType(), fault.getMessage() );
+		if ( entry == null ) throw new IllegalArgumentException( NOT_CATALOGUED_TEMPLATE.formatted( fault ) );
+		return entry.code();
+	}
+
+	/** @return The number of faults interned, which is also the next code to be assigned. */
+	public int size() {
+		return size;
+	}
+
+	private Entry entry( Class<?> type, String message ) {
+		Map<String, Entry> messages = entries.get( type );
+		return messages == null ? null : messages.get( message );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private static <E extends Throwable> Fault<E> cast( Fault<?> fault ) {
+		return ( Fault<E> ) fault;
+	}
+
+	private record Entry( int code, Fault<?> fault ) {
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.herbmarshall.fault;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Named values describing where a {@link Fault} happened, such as a request id or tenant.
+ * Entries are kept in insertion order, in one flat array alternating keys and values,
+ * so small contexts cost a single allocation and are searched without hashing. Immutable.
+ * @see Fault#with(String, Object)
+ */
+public final class FaultContext {
+
+	static final String INDEX_TEMPLATE = "Index %d is out of bounds for context of size %d";
+
+	/** A context without entries. */
+	public static final FaultContext EMPTY = new FaultContext( new Object[ 0 ] );
+
+	private final Object[] entries;
+
+	private FaultContext( Object[] entries ) {
+		this.entries = entries;
+	}
+
+	/**
+	 * @param key The name of the value
+	 * @param value The value, which may be null
+	 * @return A copy of this context with {@code value} set for {@code key}, replacing any existing value
+	 */
+	FaultContext with( String key, Object value ) {
+		Objects.requireNonNull( key, Fault.nullPointerError( "key" ) );
+		int index = indexOf( key );
+		Object[] copy;
+		if ( index < 0 ) {
+			copy = Arrays.copyOf( entries, entries.length + 2 );
+			copy[ entries.length ] = key;
+			copy[ entries.length + 1 ] = value;
+		}
+		else {
+			copy = entries.clone();
+			copy[ index + 1 ] = value;
+		}
+		return new FaultContext( copy );
+	}
+
+	private int indexOf( String key ) {
+		for ( int i = 0; i < entries.length; i += 2 ) {
+			if ( entries[ i ].equals( key ) ) return i;
+		}
+		return -1;
+	}
+
+	/** @return the number of entries. */
+	public int size() {
+		return entries.length / 2;
+	}
+
+	/** @return true if there are no entries. */
+	public boolean isEmpty() {
+		return entries.length == 0;
+	}
+
+	/**
+	 * @param key The name of the value
+	 * @return true if {@code key} has a value, even a null one
+	 */
+	public boolean containsKey( String key ) {
+		Objects.requireNonNull( key, Fault.nullPointerError( "key" ) );
+		return indexOf( key ) >= 0;
+	}
+
+	/**
+	 * @param key The name of the value
+	 * @return The value of {@code key}, or null if it has none
+	 */
+	public Object get( String key ) {
+		Objects.requireNonNull( key, Fault.nullPointerError( "key" ) );
+		int index = indexOf( key );
+		return index < 0 ? null : entries[ index + 1 ];
+	}
+
+	/**
+	 * @param index The position of the entry, in insertion order
+	 * @return The key of the entry at {@code index}
+	 * @throws IndexOutOfBoundsException if {@code index} is not within [0, {@link #size()})
+	 */
+	public String keyAt( int index ) {
+		return ( String ) entries[ requireIndex( index ) ];
+	}
+
+	/**
+	 * @param index The position of the entry, in insertion order
+	 * @return The value of the entry at {@code index}
+	 * @throws IndexOutOfBoundsException if {@code index} is not within [0, {@link #size()})
+	 */
+	public Object valueAt( int index ) {
+		return entries[ requireIndex( index ) + 1 ];
+	}
+
+	private int requireIndex( int index ) {
+		if ( index < 0 || index >= size() ) {
+			throw new IndexOutOfBoundsException( INDEX_TEMPLATE.formatted( index, size() ) );
+		}
+		return index * 2;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder( "{" );
+		for ( int i = 0; i < entries.length; i += 2 ) {
+			if ( i > 0 ) builder.append( ", " );
+			builder.append( entries[ i ] ).append( '=' ).append( entries[ i + 1 ] );
+		}
+		return builder.append( '}' ).toString();
+	}
+
+	@Override
+	public boolean equals( Object other ) {
+		if ( this == other ) return true;
+		if ( other == null || getClass() != other.getClass() ) return false;
+		return Arrays.equals( entries, ( ( FaultContext ) other ).entries );
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode( entries );
+	}
+
+}
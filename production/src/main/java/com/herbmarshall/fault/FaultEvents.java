@@ -0,0 +1,119 @@
+package com.herbmarshall.fault;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for {@link Fault} activity.
+ * Every event is disabled by default; enable them by name in a recording, for example
+ * {@code jcmd <pid> JFR.start settings=profile +com.herbmarshall.fault.Build#enabled=true}.
+ * Callers check {@link Event#isEnabled()} first, so while no recording wants an event it costs nothing.
+ */
+final class FaultEvents {
+
+	static final String CATEGORY = "Fault";
+	static final String PREFIX = "com.herbmarshall.fault.";
+
+	private FaultEvents() {
+	}
+
+	/** Start timing {@code event}, a build of {@code fault}. */
+	static void begin( Build event, Fault<?> fault, boolean cacheHit, boolean caused, boolean lightweight ) {
+		describe( event, fault );
+		event.cacheHit = cacheHit;
+		event.caused = caused;
+		event.lightweight = lightweight;
+		event.begin();
+	}
+
+	/** Record {@code event}, a print of {@code fault} that wrote {@code bytes}. */
+	static void commit( Print event, Fault<?> fault, int bytes ) {
+		describe( event, fault );
+		event.bytes = bytes;
+		event.commit();
+	}
+
+	/** Record {@code event}, a failure of {@code error} to match {@code fault}. */
+	static void commit( ValidationFailure event, Fault<?> fault, Throwable error ) {
+		event.end();
+		describe( event, fault );
+		event.actualType = error.getClass();
+		event.actualMessage = error.getMessage();
+		event.commit();
+	}
+
+	private static void describe( Base event, Fault<?> fault ) {
+		event.faultType = fault.getType();
+		event.message = fault.getMessage();
+	}
+
+	/** The fields every event shares. */
+	abstract static class Base extends Event {
+
+		@Label( "Fault Type" )
+		Class<?> faultType;
+
+		@Label( "Message" )
+		String message;
+
+	}
+
+	/** A {@link Fault} built an error. */
+	@Name( PREFIX + "Build" )
+	@Label( "Fault Build" )
+	@Category( CATEGORY )
+	@Description( "A fault built an error" )
+	@Enabled( false )
+	@StackTrace( false )
+	static final class Build extends Base {
+
+		@Label( "Caused" )
+		@Description( "The error was built with a cause" )
+		boolean caused;
+
+		@Label( "Lightweight" )
+		@Description( "The error was built without a stack trace" )
+		boolean lightweight;
+
+		@Label( "Cache Hit" )
+		@Description( "The constructor of the error type had already been resolved" )
+		boolean cacheHit;
+
+	}
+
+	/** A {@link Fault} was printed. */
+	@Name( PREFIX + "Print" )
+	@Label( "Fault Print" )
+	@Category( CATEGORY )
+	@Description( "A fault was printed" )
+	@Enabled( false )
+	@StackTrace( false )
+	static final class Print extends Base {
+
+		@Label( "Bytes" )
+		int bytes;
+
+	}
+
+	/** An error did not match the {@link Fault} it was validated against. */
+	@Name( PREFIX + "ValidationFailure" )
+	@Label( "Fault Validation Failure" )
+	@Category( CATEGORY )
+	@Description( "An error did not match the fault it was validated against" )
+	@Enabled( false )
+	static final class ValidationFailure extends Base {
+
+		@Label( "Actual Type" )
+		Class<?> actualType;
+
+		@Label( "Actual Message" )
+		String actualMessage;
+
+	}
+
+}
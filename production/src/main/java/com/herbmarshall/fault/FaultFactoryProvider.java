@@ -0,0 +1,38 @@
+package com.herbmarshall.fault;
+
+import java.util.ServiceLoader;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Service supplying direct constructors for {@link Fault} types, loaded with {@link ServiceLoader}.
+ * Implementations are normally generated from a {@link FaultHolder} at compile time.
+ * Types with a registered constructor are built without any reflective lookup.
+ */
+public interface FaultFactoryProvider {
+
+	/**
+	 * Register the constructors known to this provider.
+	 * @param registrar Target of the registrations
+	 */
+	void register( Registrar registrar );
+
+	/** Receiver of {@link FaultFactoryProvider} registrations. */
+	interface Registrar {
+
+		/**
+		 * Register the constructors of {@code type}.
+		 * @param type The error type
+		 * @param message Constructor taking a message, or null if {@code type} has none
+		 * @param caused Constructor taking a message and cause, or null if {@code type} has none
+		 * @param <E> The error type
+		 */
+		<E extends Throwable> void register(
+			Class<E> type,
+			Function<String, E> message,
+			BiFunction<String, Throwable, E> caused
+		);
+
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.herbmarshall.fault;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Stable 64-bit hashes of where an error came from, for grouping errors without rendering their stack traces.
+ * A fingerprint covers the error type, the message and the class, method and line of the top frames.
+ * Leading frames inside the classes that build errors for a {@link Fault} are skipped,
+ * along with the reflection frames of constructors they call reflectively,
+ * so an error fingerprints the same whichever way the fault built it, including by {@link InjectionPoint}.
+ * The hash is computed straight from the characters of each name, so it is the same across runs.
+ * @see FingerprintAggregator
+ */
+public final class FaultFingerprint {
+
+	/** The number of frames hashed when none is given. */
+	public static final int DEFAULT_FRAMES = 8;
+
+	static final String FRAMES_TEMPLATE = "Frames must not be negative, received %d";
+
+	private static final Set<String> BUILDERS = Set.of(
+		Fault.class.getName(),
+		FaultBatch.class.getName(),
+		FaultTemplate.class.getName(),
+		FaultTranslator.class.getName(),
+		Outcome.class.getName(),
+		ThrowableFactory.class.getName(),
+		ConstructorResolver.class.getName(),
+		InjectionRule.class.getName(),
+		InjectionPoint.class.getName(),
+		InjectionSite.class.getName(),
+		FaultFingerprint.class.getName(),
+		FaultSampler.class.getName()
+	);
+
+	/** Packages of the frames a reflective constructor call adds on top of {@link ConstructorResolver}. */
+	private static final List<String> REFLECTION = List.of( "java.lang.reflect.", "jdk.internal.reflect." );
+
+	/** Shows reflection frames, as a captured stack trace does. */
+	private static final StackWalker WALKER = StackWalker.getInstance( StackWalker.Option.SHOW_REFLECT_FRAMES );
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long MIX_FIRST = 0xff51afd7ed558ccdL;
+	private static final long MIX_SECOND = 0xc4ceb9fe1a85ec53L;
+	private static final int MIX_SHIFT = 33;
+	private static final int SEPARATOR = 0x1f;
+	private static final int NULL = 0x1e;
+
+	private FaultFingerprint() {
+	}
+
+	/**
+	 * Fingerprint {@code error} from its captured stack trace, using the top {@value #DEFAULT_FRAMES} frames.
+	 * @param error The error to fingerprint
+	 * @return The fingerprint
+	 * @throws NullPointerException if {@code error} is null
+	 */
+	public static long of( Throwable error ) {
+		return of( error, DEFAULT_FRAMES );
+	}
+
+	/**
+	 * Fingerprint {@code error} from its captured stack trace.
+	 * An error without a stack trace, such as a lightweight one, is fingerprinted by type and message alone.
+	 * @param error The error to fingerprint
+	 * @param frames The number of frames to hash, after any skipped ones
+	 * @return The fingerprint
+	 * @throws NullPointerException if {@code error} is null
+	 * @throws IllegalArgumentException if {@code frames} is negative
+	 */
+	public static long of( Throwable error, int frames ) {
+		Objects.requireNonNull( error, Fault.nullPointerError( "error" ) );
+		requireFrames( frames );
+		long hash = hash( hash( FNV_OFFSET, error.getClass().getName() ), error.getMessage() );
+		StackTraceElement[] trace = error.getStackTrace();
+		int first = 0;
+		while ( first < trace.length && isBuilder( trace[ first ].getClassName() ) ) first++;
+		for ( int i = first; i < trace.length && i - first < frames; i++ ) {
+			hash = hash( trace[ i ].getClassName(), trace[ i ].getMethodName(), trace[ i ].getLineNumber(), hash );
+		}
+		return finish( hash );
+	}
+
+	/**
+	 * Fingerprint the error {@code fault} would build if built here, using {@link StackWalker}
+	 * instead of building it and capturing its stack trace.
+	 * Equal to {@link #of(Throwable, int)} of an error built by {@code fault} at the same line.
+	 * @param fault The fault to fingerprint
+	 * @param frames The number of frames to hash
+	 * @return The fingerprint
+	 * @throws NullPointerException if {@code fault} is null
+	 * @throws IllegalArgumentException if {@code frames} is negative
+	 */
+	public static long here( Fault<?> fault, int frames ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		requireFrames( frames );
+		long start = hash( hash( FNV_OFFSET, fault.getType().getName() ), fault.getMessage() );
+		return finish( WALKER.walk( stream -> stream
+			.dropWhile( frame -> isBuilder( frame.getClassName() ) )
+			.limit( frames )
+			.reduce(
+				start,
+				( hash, frame ) -> hash( frame.getClassName(), frame.getMethodName(), frame.getLineNumber(), hash ),
+				( left, right ) -> right
+			)
+		) );
+	}
+
+	/**
+	 * Fingerprint the error {@code fault} would build if built here, using the top {@value #DEFAULT_FRAMES} frames.
+	 * @param fault The fault to fingerprint
+	 * @return The fingerprint
+	 * @throws NullPointerException if {@code fault} is null
+	 */
+	public static long here( Fault<?> fault ) {
+		return here( fault, DEFAULT_FRAMES );
+	}
+
+	/**
+	 * @return true if {@code className} names one of the classes that build errors for a {@link Fault},
+	 *   or a class nested in one, or a reflection class they construct errors through
+	 */
+	static boolean isBuilder( String className ) {
+		int nested = className.indexOf( '$' );
+		if ( BUILDERS.contains( nested < 0 ? className : className.substring( 0, nested ) ) ) return true;
+		for ( String prefix : REFLECTION ) {
+			if ( className.startsWith( prefix ) ) return true;
+		}
+		return false;
+	}
+
+	private static void requireFrames( int frames ) {
+		if ( frames < 0 ) throw new IllegalArgumentException( FRAMES_TEMPLATE.formatted( frames ) );
+	}
+
+	private static long hash( String className, String methodName, int line, long hash ) {
+		return hash( hash( hash( hash, className ), methodName ), line );
+	}
+
+	/** FNV-1a over the characters of {@code value}, followed by a separator so adjacent values cannot merge. */
+	private static long hash( long hash, String value ) {
+		if ( value == null ) return step( hash, NULL );
+		for ( int i = 0; i < value.length(); i++ ) hash = step( hash, value.charAt( i ) );
+		return step( hash, SEPARATOR );
+	}
+
+	private static long hash( long hash, int value ) {
+		hash = step( hash, ( char ) value );
+		hash = step( hash, ( char ) ( value >>> Character.SIZE ) );
+		return step( hash, SEPARATOR );
+	}
+
+	private static long step( long hash, int value ) {
+		return ( hash ^ value ) * FNV_PRIME;
+	}
+
+	/** Spread the bits of {@code hash}, as FNV mixes its last characters poorly. */
+	private static long finish( long hash ) {
+		hash = ( hash ^ ( hash >>> MIX_SHIFT ) ) * MIX_FIRST;
+		hash = ( hash ^ ( hash >>> MIX_SHIFT ) ) * MIX_SECOND;
+		return hash ^ ( hash >>> MIX_SHIFT );
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.herbmarshall.fault;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class holding {@link Fault} constants.
+ * When the {@code fault.processor} annotation processor is on the compiler path, it generates a
+ * {@link FaultFactoryProvider} that constructs the {@link Fault} types directly, without reflection.
+ */
+@Documented
+@Target( ElementType.TYPE )
+@Retention( RetentionPolicy.CLASS )
+public @interface FaultHolder {
+
+}
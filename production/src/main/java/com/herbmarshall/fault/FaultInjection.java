@@ -0,0 +1,230 @@
+package com.herbmarshall.fault;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enables and disables {@link InjectionPoint}s by name, from code or from a properties file.
+ * Rules may be set before their point is created, and are applied when it is.
+ * <p>
+ * Each point is configured by properties prefixed by the point name:
+ * <pre>
+ * database.write.fault = com.example.Errors#DATABASE_UNAVAILABLE
+ * database.write.probability = 0.05
+ * database.write.every = 100
+ * database.write.enabled = true
+ * database.read.latency = PT0.2S
+ * database.read.probability = 1
+ * </pre>
+ * {@code fault} names a public static {@link Fault} field to throw; exactly one of {@code probability}
+ * or {@code every} selects the calls that throw. Instead of {@code fault}, {@code latency} delays calls
+ * by an ISO-8601 duration, selected by {@code probability}. {@code enabled} is optional and defaults to true.
+ */
+public final class FaultInjection {
+
+	static final String FAULT_SUFFIX = ".fault";
+	static final String LATENCY_SUFFIX = ".latency";
+	static final String PROBABILITY_SUFFIX = ".probability";
+	static final String EVERY_SUFFIX = ".every";
+	static final String ENABLED_SUFFIX = ".enabled";
+
+	static final String POINT_TYPE_TEMPLATE = "Injection point %s already exists for %s";
+	static final String FAULT_REFERENCE_TEMPLATE = "Cannot resolve fault reference '%s', expected 'class#field'";
+	static final String TRIGGER_TEMPLATE = "Injection point %s needs exactly one of '%s' or '%s'";
+	static final String LATENCY_TRIGGER_TEMPLATE = "Injection point %s delays, so needs only '%s'";
+	static final String ACTION_TEMPLATE = "Injection point %s needs only one of '%s' or '%s'";
+	static final String DURATION_TEMPLATE = "Cannot parse duration '%s', expected ISO-8601 such as PT0.2S";
+
+	private static final String FIELD_SEPARATOR = "#";
+
+	private static final Map<String, InjectionSite<?>> POINTS = new ConcurrentHashMap<>();
+	private static final Map<String, InjectionRule> RULES = new ConcurrentHashMap<>();
+
+	private FaultInjection() {
+	}
+
+	@SuppressWarnings( "unchecked" )
+	static <E extends Throwable> InjectionPoint<E> point( String name, Class<E> type ) {
+		Objects.requireNonNull( name, Fault.nullPointerError( "name" ) );
+		Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+		InjectionSite<?> point = POINTS.get( name );
+		if ( point == null ) point = create( name, type );
+		if ( point.getType() != type ) {
+			throw new IllegalArgumentException( POINT_TYPE_TEMPLATE.formatted( name, point.getType().getName() ) );
+		}
+		return ( InjectionPoint<E> ) point;
+	}
+
+	private static synchronized InjectionSite<?> create( String name, Class<? extends Throwable> type ) {
+		InjectionSite<?> existing = POINTS.get( name );
+		if ( existing != null ) return existing;
+		InjectionSite<?> point = InjectionSite.create( name, type );
+		InjectionRule rule = RULES.get( name );
+		if ( rule != null ) point.enable( rule );
+		POINTS.put( name, point );
+		return point;
+	}
+
+	/**
+	 * Enable the point named {@code name}, now or when it is created.
+	 * @param name The name of the point
+	 * @param rule When to throw, and what
+	 * @throws IllegalArgumentException if the point exists and cannot throw the error of {@code rule}
+	 */
+	public static synchronized void enable( String name, InjectionRule rule ) {
+		Objects.requireNonNull( name, Fault.nullPointerError( "name" ) );
+		Objects.requireNonNull( rule, Fault.nullPointerError( "rule" ) );
+		InjectionPoint<?> point = POINTS.get( name );
+		if ( point != null ) point.enable( rule );
+		RULES.put( name, rule );
+	}
+
+	/**
+	 * Disable the point named {@code name}, if enabled.
+	 * @param name The name of the point
+	 */
+	public static synchronized void disable( String name ) {
+		Objects.requireNonNull( name, Fault.nullPointerError( "name" ) );
+		RULES.remove( name );
+		InjectionPoint<?> point = POINTS.get( name );
+		if ( point != null ) point.disable();
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the point named {@code name} exists
+	 *   and cannot throw the error of {@code rule}
+	 */
+	static void requireThrowable( String name, InjectionRule rule ) {
+		InjectionSite<?> point = POINTS.get( name );
+		if ( point != null ) point.requireThrowable( rule );
+	}
+
+	/** Disable every point. */
+	public static synchronized void disableAll() {
+		RULES.clear();
+		POINTS.values().forEach( InjectionPoint::disable );
+	}
+
+	/**
+	 * Replace every rule with those read from {@code file}; call again to reload.
+	 * @param file A properties file, see {@link FaultInjection}
+	 * @throws UncheckedIOException if {@code file} cannot be read
+	 * @throws IllegalArgumentException if any rule is invalid, in which case no rule is changed
+	 */
+	public static void configure( Path file ) {
+		Objects.requireNonNull( file, Fault.nullPointerError( "file" ) );
+		Properties properties = new Properties();
+		try ( Reader reader = Files.newBufferedReader( file, StandardCharsets.UTF_8 ) ) {
+			properties.load( reader );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+		configure( properties );
+	}
+
+	/**
+	 * Replace every rule with those in {@code properties}.
+	 * @param properties Rules, see {@link FaultInjection}
+	 * @throws IllegalArgumentException if any rule is invalid, in which case no rule is changed
+	 */
+	public static synchronized void configure( Properties properties ) {
+		Objects.requireNonNull( properties, Fault.nullPointerError( "properties" ) );
+		Map<String, InjectionRule> rules = parse( properties );
+		rules.forEach( FaultInjection::requireThrowable );
+		disableAll();
+		rules.forEach( FaultInjection::enable );
+	}
+
+	private static Map<String, InjectionRule> parse( Properties properties ) {
+		Map<String, InjectionRule> rules = new LinkedHashMap<>();
+		for ( String key : properties.stringPropertyNames() ) {
+			String name = pointName( key );
+			if ( name == null ) continue;
+			String enabled = properties.getProperty( name + ENABLED_SUFFIX, "true" ).trim();
+			if ( ! Boolean.parseBoolean( enabled ) ) continue;
+			rules.put( name, rule( name, properties ) );
+		}
+		return rules;
+	}
+
+	private static String pointName( String key ) {
+		if ( key.endsWith( FAULT_SUFFIX ) ) return key.substring( 0, key.length() - FAULT_SUFFIX.length() );
+		if ( key.endsWith( LATENCY_SUFFIX ) ) return key.substring( 0, key.length() - LATENCY_SUFFIX.length() );
+		return null;
+	}
+
+	private static InjectionRule rule( String name, Properties properties ) {
+		String reference = properties.getProperty( name + FAULT_SUFFIX );
+		String latency = properties.getProperty( name + LATENCY_SUFFIX );
+		String probability = properties.getProperty( name + PROBABILITY_SUFFIX );
+		String every = properties.getProperty( name + EVERY_SUFFIX );
+		if ( reference == null ) {
+			if ( probability == null || every != null ) {
+				throw new IllegalArgumentException(
+					LATENCY_TRIGGER_TEMPLATE.formatted( name, name + PROBABILITY_SUFFIX )
+				);
+			}
+			return InjectionRule.delay( duration( latency ), Double.parseDouble( probability.trim() ) );
+		}
+		if ( latency != null ) {
+			throw new IllegalArgumentException(
+				ACTION_TEMPLATE.formatted( name, name + FAULT_SUFFIX, name + LATENCY_SUFFIX )
+			);
+		}
+		Fault<?> fault = resolve( reference.trim() );
+		if ( ( probability == null ) == ( every == null ) ) {
+			throw new IllegalArgumentException(
+				TRIGGER_TEMPLATE.formatted( name, name + PROBABILITY_SUFFIX, name + EVERY_SUFFIX )
+			);
+		}
+		return probability != null ?
+			InjectionRule.probability( fault, Double.parseDouble( probability.trim() ) ) :
+			InjectionRule.every( fault, Long.parseLong( every.trim() ) );
+	}
+
+	private static Duration duration( String value ) {
+		try {
+			return Duration.parse( value.trim() );
+		}
+		catch ( DateTimeParseException e ) {
+			throw new IllegalArgumentException( DURATION_TEMPLATE.formatted( value ), e );
+		}
+	}
+
+	/** @return The value of the public static {@link Fault} field named by {@code reference}. */
+	static Fault<?> resolve( String reference ) {
+		int separator = reference.indexOf( FIELD_SEPARATOR );
+		if ( separator < 1 ) throw new IllegalArgumentException( FAULT_REFERENCE_TEMPLATE.formatted( reference ) );
+		try {
+			Class<?> holder = Class.forName( reference.substring( 0, separator ), true, classLoader() );
+			Field field = holder.getField( reference.substring( separator + 1 ) );
+			if ( Modifier.isStatic( field.getModifiers() ) && field.get( null ) instanceof Fault<?> fault ) {
+				return fault;
+			}
+		}
+		catch ( ReflectiveOperationException | LinkageError e ) {
+			throw new IllegalArgumentException( FAULT_REFERENCE_TEMPLATE.formatted( reference ), e );
+		}
+		throw new IllegalArgumentException( FAULT_REFERENCE_TEMPLATE.formatted( reference ) );
+	}
+
+	private static ClassLoader classLoader() {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		return loader == null ? FaultInjection.class.getClassLoader() : loader;
+	}
+
+}
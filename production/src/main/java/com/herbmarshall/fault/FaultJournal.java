@@ -0,0 +1,425 @@
+package com.herbmarshall.fault;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable, append only record of {@link Fault}s, kept in a directory of memory mapped segment files.
+ * Each segment is created at a fixed size and filled in order; a full segment is followed by a new one.
+ * Writers claim space in the current segment by advancing an atomic position, so any number of threads append
+ * without a lock, and the operating system writes the mapped pages back even if the process dies.
+ * <p>
+ * A record is an {@code int} length, a CRC32C of the payload, then the payload,
+ * a {@link BinaryFaultCodec} record; records are padded to {@value #ALIGNMENT} bytes.
+ * The length is written last, with release semantics, so a reader that sees it also sees the whole record.
+ * <p>
+ * Opening a journal first {@linkplain #recover(Path) recovers} the existing segments, then starts a new one,
+ * so a segment torn by a crash is never written to again.
+ * @see Tailer
+ */
+public final class FaultJournal implements AutoCloseable {
+
+	/** Size of each segment file, unless another is given. */
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	/** Smallest size of a segment file. */
+	public static final int MIN_SEGMENT_SIZE = 4096;
+
+	/** Records start on multiples of this many bytes. */
+	public static final int ALIGNMENT = 8;
+
+	static final String CLOSED = "Journal has been closed";
+	static final String SEGMENT_SIZE_TEMPLATE = "Segment size must be at least %d, received %d";
+	static final String RECORD_SIZE_TEMPLATE = "Record for %s does not fit in a segment of %d bytes";
+	static final String SEGMENT_TEMPLATE = "%010d.journal";
+	static final String SEGMENT_SUFFIX = ".journal";
+
+	/** Marks where the last record of a segment ended, when that segment is full or was sealed by recovery. */
+	static final int END_OF_SEGMENT = -1;
+
+	/** Encoding space each appending thread starts with, and keeps after encoding a larger record. */
+	static final int SCRATCH_SIZE = 4096;
+
+	/** Result of {@link #check} for a slot that is not yet written. */
+	private static final int UNWRITTEN = 0;
+
+	/** Result of {@link #check} for a record torn by a crash, or otherwise corrupt. */
+	private static final int TORN = -2;
+
+	private static final int HEADER = Integer.BYTES * 2;
+	private static final VarHandle LENGTH = MethodHandles.byteBufferViewVarHandle( int[].class, ByteOrder.BIG_ENDIAN );
+
+	private final Path directory;
+	private final int segmentSize;
+	private final ThreadLocal<Scratch> scratch;
+	private volatile Segment current;
+	private volatile boolean closed = false;
+
+	private FaultJournal( Path directory, int segmentSize ) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.scratch = ThreadLocal.withInitial( Scratch::new );
+		this.current = new Segment( directory, recover( directory ) + 1, segmentSize );
+	}
+
+	/**
+	 * Open the journal in {@code directory}, creating it if needed, with segments of {@link #DEFAULT_SEGMENT_SIZE}.
+	 * @param directory Holds the segment files
+	 * @return The journal, appending to a new segment
+	 * @throws UncheckedIOException if the directory or segment cannot be created
+	 */
+	public static FaultJournal open( Path directory ) {
+		return open( directory, DEFAULT_SEGMENT_SIZE );
+	}
+
+	/**
+	 * Open the journal in {@code directory}, creating it if needed.
+	 * @param directory Holds the segment files
+	 * @param segmentSize Size of each new segment file, rounded up to a multiple of {@value #ALIGNMENT}
+	 * @return The journal, appending to a new segment
+	 * @throws IllegalArgumentException if {@code segmentSize} is less than {@link #MIN_SEGMENT_SIZE}
+	 * @throws UncheckedIOException if the directory or segment cannot be created
+	 */
+	public static FaultJournal open( Path directory, int segmentSize ) {
+		Objects.requireNonNull( directory, Fault.nullPointerError( "directory" ) );
+		if ( segmentSize < MIN_SEGMENT_SIZE ) {
+			throw new IllegalArgumentException( SEGMENT_SIZE_TEMPLATE.formatted( MIN_SEGMENT_SIZE, segmentSize ) );
+		}
+		try {
+			Files.createDirectories( directory );
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+		return new FaultJournal( directory, align( segmentSize ) );
+	}
+
+	/**
+	 * Seal every segment in {@code directory} after its last intact record, so readers move past records
+	 * left unwritten or torn when a writing process died. Records a segment holds after such a record are lost.
+	 * Reads every segment; must not be called while a journal is open on {@code directory}.
+	 * @param directory Holds the segment files
+	 * @return The index of the last segment, or -1 if there are none
+	 * @throws UncheckedIOException if a segment cannot be read or written
+	 */
+	public static long recover( Path directory ) {
+		Objects.requireNonNull( directory, Fault.nullPointerError( "directory" ) );
+		long[] indexes = indexes( directory );
+		CRC32C crc = new CRC32C();
+		for ( long index : indexes ) seal( segment( directory, index ), crc );
+		return LongStream.of( indexes ).max().orElse( -1 );
+	}
+
+	private static void seal( Path file, CRC32C crc ) {
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+			MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, channel.size() );
+			int offset = 0;
+			int length;
+			while ( ( length = check( buffer, offset, crc ) ) > 0 ) offset += align( HEADER + length );
+			if ( length == END_OF_SEGMENT || offset + Integer.BYTES > buffer.capacity() ) return;
+			LENGTH.setRelease( buffer, offset, END_OF_SEGMENT );
+			buffer.force();
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * @return The payload length of the intact record at {@code offset}, or {@link #END_OF_SEGMENT},
+	 *   {@link #UNWRITTEN} or {@link #TORN}
+	 */
+	static int check( ByteBuffer buffer, int offset, CRC32C crc ) {
+		if ( offset + HEADER > buffer.capacity() ) return END_OF_SEGMENT;
+		int length = ( int ) LENGTH.getAcquire( buffer, offset );
+		if ( length == END_OF_SEGMENT || length == UNWRITTEN ) return length;
+		if ( length < 0 || length > buffer.capacity() - offset - HEADER ) return TORN;
+		crc.reset();
+		crc.update( buffer.slice( offset + HEADER, length ) );
+		return ( int ) crc.getValue() == buffer.getInt( offset + Integer.BYTES ) ? length : TORN;
+	}
+
+	/**
+	 * Start reading the journal in {@code directory} from its first record.
+	 * @param directory Holds the segment files
+	 * @return A tailer positioned before the first record
+	 * @throws NullPointerException if {@code directory} is null
+	 */
+	public static Tailer tail( Path directory ) {
+		Objects.requireNonNull( directory, Fault.nullPointerError( "directory" ) );
+		return new Tailer( directory, Math.max( firstIndex( directory ), 0 ) );
+	}
+
+	/**
+	 * @param fault The fault to record
+	 * @return Self reference
+	 * @throws IllegalArgumentException if the record does not fit in a segment
+	 * @throws IllegalStateException if this journal has been closed
+	 * @throws UncheckedIOException if a new segment cannot be created
+	 */
+	public FaultJournal append( Fault<?> fault ) {
+		return append( fault, null );
+	}
+
+	/**
+	 * @param fault The fault to record
+	 * @param cause The cause of the error of {@code fault}, or null if there is none
+	 * @return Self reference
+	 * @throws IllegalArgumentException if the record does not fit in a segment
+	 * @throws IllegalStateException if this journal has been closed
+	 * @throws UncheckedIOException if a new segment cannot be created
+	 */
+	public FaultJournal append( Fault<?> fault, Throwable cause ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		if ( closed ) throw new IllegalStateException( CLOSED );
+		Scratch local = scratch.get();
+		ByteBuffer payload;
+		try {
+			payload = local.encode( fault, cause, segmentSize - HEADER );
+		}
+		catch ( BufferOverflowException e ) {
+			throw new IllegalArgumentException( RECORD_SIZE_TEMPLATE.formatted( fault, segmentSize ), e );
+		}
+		int length = payload.remaining();
+		local.crc.reset();
+		local.crc.update( payload );
+		int checksum = ( int ) local.crc.getValue();
+		int size = align( HEADER + length );
+		while ( true ) {
+			Segment segment = current;
+			long offset = segment.position.getAndAdd( size );
+			if ( offset + size <= segmentSize ) {
+				int index = ( int ) offset;
+				segment.buffer.putInt( index + Integer.BYTES, checksum );
+				segment.buffer.put( index + HEADER, payload, 0, length );
+				LENGTH.setRelease( segment.buffer, index, length );
+				local.trim();
+				segment.written( size );
+				return this;
+			}
+			if ( offset < segmentSize ) {
+				LENGTH.setRelease( segment.buffer, ( int ) offset, END_OF_SEGMENT );
+				segment.written( segmentSize - offset );
+			}
+			rotate( segment );
+		}
+	}
+
+	/** Start the segment after {@code full}, unless another writer already has. */
+	private synchronized void rotate( Segment full ) {
+		if ( closed ) throw new IllegalStateException( CLOSED );
+		if ( current == full ) current = new Segment( directory, full.index + 1, segmentSize );
+	}
+
+	/**
+	 * Ask the operating system to write the current segment to storage now, rather than eventually.
+	 * Earlier segments were written to storage by the append that completed them,
+	 * once every record claimed in them had been copied in.
+	 */
+	public void force() {
+		current.buffer.force();
+	}
+
+	/** Write the current segment to storage; later appends throw. */
+	@Override
+	public synchronized void close() {
+		if ( closed ) return;
+		closed = true;
+		force();
+	}
+
+	/** @return The directory holding the segment files. */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/** @return The size of each new segment file. */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	@Override
+	public String toString() {
+		return "FaultJournal " + directory;
+	}
+
+	static int align( int size ) {
+		return ( size + ALIGNMENT - 1 ) & -ALIGNMENT;
+	}
+
+	static Path segment( Path directory, long index ) {
+		return directory.resolve( SEGMENT_TEMPLATE.formatted( index ) );
+	}
+
+	private static long firstIndex( Path directory ) {
+		return LongStream.of( indexes( directory ) ).min().orElse( -1 );
+	}
+
+	private static long[] indexes( Path directory ) {
+		if ( ! Files.isDirectory( directory ) ) return new long[ 0 ];
+		try ( Stream<Path> files = Files.list( directory ) ) {
+			return files.map( file -> file.getFileName().toString() )
+				.filter( name -> name.endsWith( SEGMENT_SUFFIX ) )
+				.map( name -> name.substring( 0, name.length() - SEGMENT_SUFFIX.length() ) )
+				.filter( name -> ! name.isEmpty() && name.chars().allMatch( Character::isDigit ) )
+				.mapToLong( Long::parseLong )
+				.toArray();
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/** One mapped segment file, the next free position in it, and how much of it is still to be written. */
+	private static final class Segment {
+
+		private final long index;
+		private final MappedByteBuffer buffer;
+		private final AtomicLong position = new AtomicLong();
+		private final AtomicLong unwritten;
+
+		private Segment( Path directory, long index, int size ) {
+			this.index = index;
+			this.unwritten = new AtomicLong( size );
+			try ( FileChannel channel = FileChannel.open(
+				segment( directory, index ),
+				StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE
+			) ) {
+				this.buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, size );
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		/**
+		 * Count {@code bytes} as written, a record or the unused tail after the last one,
+		 * and write the segment to storage if that was the last of it.
+		 */
+		private void written( long bytes ) {
+			if ( unwritten.addAndGet( -bytes ) == 0 ) buffer.force();
+		}
+
+	}
+
+	/**
+	 * Reads the records of a journal in order, segment by segment, while writers may still be appending.
+	 * {@link #next()} returns null when no further record is complete yet; call it again later to follow the journal.
+	 * A record torn by a crash halts the tailer until the journal is {@linkplain #recover(Path) recovered}.
+	 * Not safe to share between threads.
+	 */
+	public static final class Tailer implements AutoCloseable {
+
+		private final Path directory;
+		private final CRC32C crc = new CRC32C();
+		private long index;
+		private MappedByteBuffer buffer;
+		private int offset;
+
+		private Tailer( Path directory, long index ) {
+			this.directory = directory;
+			this.index = index;
+		}
+
+		/**
+		 * @return The next record, or null if no further record is complete yet
+		 * @throws IllegalArgumentException if the record cannot be decoded, such as when it names an error type
+		 *   this process does not know; the tailer moves past it, so the next call reads the following record
+		 * @throws UncheckedIOException if a segment cannot be read
+		 */
+		public FaultRecord next() {
+			while ( buffer != null || map() ) {
+				int length = check( buffer, offset, crc );
+				if ( length == END_OF_SEGMENT ) {
+					if ( ! Files.exists( segment( directory, index + 1 ) ) ) return null;
+					index++;
+					buffer = null;
+					offset = 0;
+					continue;
+				}
+				if ( length <= 0 ) return null;
+				int start = offset + HEADER;
+				offset += align( HEADER + length );
+				return BinaryFaultCodec.decode( buffer.slice( start, length ) );
+			}
+			return null;
+		}
+
+		private boolean map() {
+			Path file = segment( directory, index );
+			if ( ! Files.exists( file ) ) return false;
+			try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+				long size = channel.size();
+				if ( size < MIN_SEGMENT_SIZE ) return false;
+				buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, size );
+				return true;
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		/** @return The index of the segment being read. */
+		public long getSegment() {
+			return index;
+		}
+
+		/** Release the mapped segment. */
+		@Override
+		public void close() {
+			buffer = null;
+		}
+
+	}
+
+	/**
+	 * Per thread encoding space, reused by every append.
+	 * Starts at {@value #SCRATCH_SIZE} bytes and doubles, up to the record limit, for a record that does not fit;
+	 * a larger buffer is dropped once its record is written, so a thread keeps only {@value #SCRATCH_SIZE} bytes.
+	 */
+	private static final class Scratch {
+
+		private final CRC32C crc = new CRC32C();
+		private ByteBuffer buffer = ByteBuffer.allocate( SCRATCH_SIZE );
+
+		/**
+		 * @return The record of {@code fault}, ready to read
+		 * @throws BufferOverflowException if the record is longer than {@code limit}
+		 */
+		private ByteBuffer encode( Fault<?> fault, Throwable cause, int limit ) {
+			while ( true ) {
+				try {
+					BinaryFaultCodec.encode( fault, cause, buffer.clear() );
+					return buffer.flip();
+				}
+				catch ( BufferOverflowException e ) {
+					if ( buffer.capacity() >= limit ) throw e;
+					buffer = ByteBuffer.allocate( ( int ) Math.min( buffer.capacity() * 2L, limit ) );
+				}
+			}
+		}
+
+		private void trim() {
+			if ( buffer.capacity() > SCRATCH_SIZE ) buffer = ByteBuffer.allocate( SCRATCH_SIZE );
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+package com.herbmarshall.fault;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Optional counters for how often each {@link Fault} is built, printed, or fails validation.
+ * Counting is disabled by default, in which case it costs a single volatile read per call.
+ * Counts are kept per {@link Fault}, where equal faults share counters, and per error type.
+ * Only the first {@value #MAX_FAULTS} distinct faults are counted individually;
+ * the per type counts always include every fault.
+ */
+public final class FaultMetrics {
+
+	static final int MAX_FAULTS = 1024;
+
+	private static final Map<Fault<?>, Counters> FAULTS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, Counters> TYPES = new ConcurrentHashMap<>();
+	private static final Counts ZERO = new Counts( 0, 0, 0, 0 );
+
+	private static volatile boolean enabled = false;
+	private static volatile int generation = 0;
+
+	private FaultMetrics() {
+	}
+
+	/** Start counting. */
+	public static void enable() {
+		enabled = true;
+	}
+
+	/** Stop counting, keeping the counts so far. */
+	public static void disable() {
+		enabled = false;
+	}
+
+	/** @return true if counting. */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/** Discard every count. */
+	public static synchronized void reset() {
+		generation++;
+		FAULTS.clear();
+		TYPES.clear();
+	}
+
+	/**
+	 * Read the current counts.
+	 * Each counter is read independently, so counts that change during the call may be partially included.
+	 * @return A copy of every count so far
+	 */
+	public static Snapshot snapshot() {
+		return new Snapshot( copy( FAULTS ), copy( TYPES ) );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private static <K> Map<K, Counts> copy( Map<?, Counters> counters ) {
+		return Collections.unmodifiableMap( counters.entrySet().stream().collect( Collectors.toMap(
+			entry -> ( K ) entry.getKey(),
+			entry -> entry.getValue().counts()
+		) ) );
+	}
+
+	/** Resolve the counters of {@code fault}, to be cached by the fault until the next {@link #reset()}. */
+	static Entry entry( Fault<?> fault ) {
+		int current = generation;
+		Counters type = TYPES.computeIfAbsent( fault.getType(), key -> new Counters() );
+		Counters counters = FAULTS.get( fault );
+		if ( counters == null && FAULTS.size() < MAX_FAULTS ) {
+			counters = FAULTS.computeIfAbsent( fault, key -> new Counters() );
+		}
+		return new Entry( current, type, counters );
+	}
+
+	/** What is counted. */
+	enum Event {
+		BUILD,
+		CAUSED_BUILD,
+		PRINT,
+		VALIDATION_FAILURE
+	}
+
+	/** The counters one {@link Fault} increments. */
+	static final class Entry {
+
+		private final int generation;
+		private final Counters type;
+		private final Counters fault;
+
+		private Entry( int generation, Counters type, Counters fault ) {
+			this.generation = generation;
+			this.type = type;
+			this.fault = fault;
+		}
+
+		boolean isStale() {
+			return generation != FaultMetrics.generation;
+		}
+
+		void increment( Event event ) {
+			type.increment( event );
+			if ( fault != null ) fault.increment( event );
+		}
+
+	}
+
+	private static final class Counters {
+
+		private final LongAdder[] adders = new LongAdder[ Event.values().length ];
+
+		private Counters() {
+			for ( int i = 0; i < adders.length; i++ ) adders[ i ] = new LongAdder();
+		}
+
+		private void increment( Event event ) {
+			adders[ event.ordinal() ].increment();
+		}
+
+		private long sum( Event event ) {
+			return adders[ event.ordinal() ].sum();
+		}
+
+		private Counts counts() {
+			return new Counts(
+				sum( Event.BUILD ),
+				sum( Event.CAUSED_BUILD ),
+				sum( Event.PRINT ),
+				sum( Event.VALIDATION_FAILURE )
+			);
+		}
+
+	}
+
+	/**
+	 * How often something happened.
+	 * @param builds Calls to {@link Fault#build()}, {@link Fault#buildLightweight()} or {@link FaultTemplate#build}
+	 * @param causedBuilds Calls to {@link Fault#build(Throwable)} or {@link Fault#buildLightweight(Throwable)}
+	 * @param prints Lines printed, by any of the print methods or an {@link AsyncFaultPrinter}
+	 * @param validationFailures Calls to {@link Fault#validate(Throwable)} or {@link FaultTemplate#validate}
+	 *   that failed
+	 */
+	public record Counts( long builds, long causedBuilds, long prints, long validationFailures ) {
+	}
+
+	/**
+	 * The counts at one point in time.
+	 * @param faults Counts per {@link Fault}
+	 * @param types Counts per error type
+	 */
+	public record Snapshot( Map<Fault<?>, Counts> faults, Map<Class<? extends Throwable>, Counts> types ) {
+
+		/**
+		 * @param fault The fault to look up
+		 * @return The counts of {@code fault}, all zero if it was not counted
+		 */
+		public Counts of( Fault<?> fault ) {
+			return faults.getOrDefault( fault, ZERO );
+		}
+
+		/**
+		 * @param type The error type to look up
+		 * @return The counts of {@code type}, all zero if it was not counted
+		 */
+		public Counts of( Class<? extends Throwable> type ) {
+			return types.getOrDefault( type, ZERO );
+		}
+
+	}
+
+}
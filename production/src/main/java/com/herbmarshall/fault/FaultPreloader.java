@@ -0,0 +1,199 @@
+package com.herbmarshall.fault;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static com.herbmarshall.fault.ConstructorResolver.INSTANTIATION_FAILURE_TEMPLATE;
+
+/**
+ * Resolves the constructors {@link Fault} uses for each error type ahead of time, so the first failure of a type
+ * after startup does not pay for the reflective lookup or for initializing the type.
+ * Types are preloaded in parallel; the {@link Report} lists any type that cannot be built,
+ * so a missing constructor is found at startup rather than by the first error of that type.
+ * @see Fault#preload(Fault[])
+ */
+public final class FaultPreloader {
+
+	static final String SCAN_FAILURE_TEMPLATE = "Could not scan %s";
+
+	private static final String CLASS_SUFFIX = ".class";
+
+	private FaultPreloader() {
+	}
+
+	/**
+	 * Initialize every type and resolve its {@code (String)}, {@code (String, Throwable)} and lightweight shapes.
+	 * @param types The error types to preload
+	 * @return Which types are ready, and which cannot be built
+	 * @throws NullPointerException if {@code types} or any of its elements is null
+	 */
+	public static Report preload( Collection<? extends Class<? extends Throwable>> types ) {
+		Objects.requireNonNull( types, Fault.nullPointerError( "types" ) );
+		types.forEach( type -> Objects.requireNonNull( type, Fault.nullPointerError( "types" ) ) );
+		Set<Class<? extends Throwable>> ready = ConcurrentHashMap.newKeySet();
+		Map<Class<? extends Throwable>, RuntimeException> unbuildable = new ConcurrentHashMap<>();
+		Map<Class<? extends Throwable>, RuntimeException> uncaused = new ConcurrentHashMap<>();
+		types.parallelStream().distinct().forEach( type -> {
+			try {
+				initialize( type );
+				ThrowableFactory<?> factory = ThrowableFactory.of( type );
+				factory.preloadMessage();
+				factory.preloadLightweight();
+				try {
+					factory.preloadCaused();
+					ready.add( type );
+				}
+				catch ( RuntimeException e ) {
+					uncaused.put( type, e );
+				}
+			}
+			catch ( RuntimeException e ) {
+				unbuildable.put( type, e );
+			}
+		} );
+		return new Report( Set.copyOf( ready ), Map.copyOf( unbuildable ), Map.copyOf( uncaused ) );
+	}
+
+	/**
+	 * Find every error type in {@code packageName}, or below it, visible to the context class loader, and preload them.
+	 * @param packageName The package to scan, such as {@code com.example.errors}
+	 * @return Which types are ready, and which cannot be built
+	 * @throws UncheckedIOException if the class path cannot be read
+	 * @see #scan(String, ClassLoader)
+	 */
+	public static Report preloadPackage( String packageName ) {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		return preload( scan( packageName, loader == null ? FaultPreloader.class.getClassLoader() : loader ) );
+	}
+
+	/**
+	 * Find every concrete, named {@link Throwable} type in {@code packageName}, or below it,
+	 * from the directories and jar files {@code loader} loads that package from.
+	 * Types are loaded but not initialized; classes that fail to load are skipped.
+	 * A jar file is only found if it holds an entry for the package directory, as jar tools write by default.
+	 * @param packageName The package to scan, such as {@code com.example.errors}
+	 * @param loader Supplies the class path and loads the types found
+	 * @return The types found, ordered by name
+	 * @throws UncheckedIOException if the class path cannot be read
+	 */
+	public static List<Class<? extends Throwable>> scan( String packageName, ClassLoader loader ) {
+		Objects.requireNonNull( packageName, Fault.nullPointerError( "packageName" ) );
+		Objects.requireNonNull( loader, Fault.nullPointerError( "loader" ) );
+		String path = packageName.replace( '.', '/' );
+		Set<String> names = new TreeSet<>();
+		try {
+			Enumeration<URL> roots = loader.getResources( path );
+			while ( roots.hasMoreElements() ) {
+				URL root = roots.nextElement();
+				switch ( root.getProtocol() ) {
+					case "file" -> scanDirectory( Path.of( root.toURI() ), packageName, names );
+					case "jar" -> scanJar( root, path, names );
+					default -> { }
+				}
+			}
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( SCAN_FAILURE_TEMPLATE.formatted( packageName ), e );
+		}
+		catch ( URISyntaxException e ) {
+			throw new UncheckedIOException( SCAN_FAILURE_TEMPLATE.formatted( packageName ), new IOException( e ) );
+		}
+		List<Class<? extends Throwable>> types = new ArrayList<>();
+		for ( String name : names ) {
+			Class<? extends Throwable> type = load( name, loader );
+			if ( type != null ) types.add( type );
+		}
+		return Collections.unmodifiableList( types );
+	}
+
+	private static void scanDirectory( Path directory, String packageName, Set<String> names ) throws IOException {
+		try ( Stream<Path> files = Files.walk( directory ) ) {
+			files.map( directory::relativize )
+				.map( Path::toString )
+				.filter( file -> file.endsWith( CLASS_SUFFIX ) )
+				.forEach( file -> names.add( className( packageName + '.' + file.replace( '\\', '/' ) ) ) );
+		}
+	}
+
+	private static void scanJar( URL root, String path, Set<String> names ) throws IOException {
+		JarURLConnection connection = ( JarURLConnection ) root.openConnection();
+		connection.setUseCaches( false );
+		try ( JarFile jar = connection.getJarFile() ) {
+			Enumeration<JarEntry> entries = jar.entries();
+			while ( entries.hasMoreElements() ) {
+				String name = entries.nextElement().getName();
+				if ( name.startsWith( path + '/' ) && name.endsWith( CLASS_SUFFIX ) ) names.add( className( name ) );
+			}
+		}
+	}
+
+	private static String className( String file ) {
+		return file.substring( 0, file.length() - CLASS_SUFFIX.length() ).replace( '/', '.' );
+	}
+
+	/** @return The concrete, named {@link Throwable} called {@code name}, or null if it is anything else. */
+	private static Class<? extends Throwable> load( String name, ClassLoader loader ) {
+		try {
+			Class<?> type = Class.forName( name, false, loader );
+			if ( ! Throwable.class.isAssignableFrom( type ) ) return null;
+			if ( Modifier.isAbstract( type.getModifiers() ) || type.isAnonymousClass() || type.isLocalClass() ) {
+				return null;
+			}
+			return type.asSubclass( Throwable.class );
+		}
+		catch ( ClassNotFoundException | LinkageError e ) {
+			return null;
+		}
+	}
+
+	private static void initialize( Class<?> type ) {
+		try {
+			Class.forName( type.getName(), true, type.getClassLoader() );
+		}
+		catch ( ClassNotFoundException | LinkageError e ) {
+			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
+		}
+	}
+
+	/**
+	 * The outcome of preloading.
+	 * @param ready Types with both the {@code (String)} and {@code (String, Throwable)} shapes,
+	 *   so every build method works
+	 * @param unbuildable Types without a {@code (String)} or {@code (Object)} constructor,
+	 *   or that failed to initialize, with the reason; no build method works
+	 * @param uncaused Types with only the {@code (String)} shape, with the reason;
+	 *   {@link Fault#build()} works but {@link Fault#build(Throwable)} does not
+	 */
+	public record Report(
+		Set<Class<? extends Throwable>> ready,
+		Map<Class<? extends Throwable>, RuntimeException> unbuildable,
+		Map<Class<? extends Throwable>, RuntimeException> uncaused
+	) {
+
+		/** @return true if every type preloaded can be built with and without a cause. */
+		public boolean isComplete() {
+			return unbuildable.isEmpty() && uncaused.isEmpty();
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.herbmarshall.fault;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Fault} decoded by a collector, with the cause chain of the error it described.
+ * Causes are kept by name, so the collector does not need their classes.
+ * @param fault The decoded fault, with its context; context values are decoded as strings
+ * @param causes The cause chain, nearest cause first
+ * @see BinaryFaultCodec
+ * @see JsonFaultCodec
+ */
+public record FaultRecord( Fault<?> fault, List<Cause> causes ) {
+
+	static final String UNKNOWN_TYPE_TEMPLATE = "Unknown error type %s";
+	static final String MALFORMED_TEMPLATE = "Malformed fault record at byte %d: %s";
+
+	/** Most causes encoded; deeper causes, and cycles, are cut off. */
+	public static final int MAX_CAUSES = 32;
+
+	/**
+	 * Create instance.
+	 * @param fault The decoded fault, with its context
+	 * @param causes The cause chain, nearest cause first
+	 */
+	public FaultRecord {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		causes = List.copyOf( Objects.requireNonNull( causes, Fault.nullPointerError( "causes" ) ) );
+	}
+
+	/**
+	 * One error in a cause chain.
+	 * @param type The binary name of the error class
+	 * @param message The error message, which may be null
+	 */
+	public record Cause( String type, String message ) {
+
+		/**
+		 * Create instance.
+		 * @param type The binary name of the error class
+		 * @param message The error message, which may be null
+		 */
+		public Cause {
+			Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+		}
+
+	}
+
+	/**
+	 * @return The error type named {@code name}
+	 * @throws IllegalArgumentException if no {@link Throwable} class is named {@code name}
+	 */
+	static Class<? extends Throwable> type( String name ) {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if ( loader == null ) loader = FaultRecord.class.getClassLoader();
+		try {
+			Class<?> type = Class.forName( name, false, loader );
+			if ( Throwable.class.isAssignableFrom( type ) ) return type.asSubclass( Throwable.class );
+		}
+		catch ( ClassNotFoundException e ) {
+			throw new IllegalArgumentException( UNKNOWN_TYPE_TEMPLATE.formatted( name ), e );
+		}
+		throw new IllegalArgumentException( UNKNOWN_TYPE_TEMPLATE.formatted( name ) );
+	}
+
+	/** @return The number of causes of {@code error} that are encoded. */
+	static int causeCount( Throwable error ) {
+		int count = 0;
+		for ( Throwable cause = error; cause != null && count < MAX_CAUSES; cause = cause.getCause() ) count++;
+		return count;
+	}
+
+	/** @return An error about malformed input at the position of the buffer being read. */
+	static IllegalArgumentException malformed( int position, String detail ) {
+		return new IllegalArgumentException( MALFORMED_TEMPLATE.formatted( position, detail ) );
+	}
+
+}
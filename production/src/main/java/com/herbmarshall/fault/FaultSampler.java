@@ -0,0 +1,126 @@
+package com.herbmarshall.fault;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional sampling of the call sites that build each {@link Fault}.
+ * On about one in {@link #getRate()} builds, chosen at random per thread, the stack is walked with {@link StackWalker}
+ * until the first frame outside this library, and that call site is counted against the error type.
+ * Sampling is off by default, in which case it costs a single volatile read per build.
+ * The rate may be changed at any time; each sample is weighted by the rate in force when it was taken,
+ * so {@link Site#estimate()} stays an estimate of the real number of builds across changes.
+ * Only the first {@value #MAX_SITES} distinct sites are counted, later ones are counted as {@link #overflow()}.
+ */
+public final class FaultSampler {
+
+	static final int MAX_SITES = 1024;
+	static final String RATE_TEMPLATE = "Rate must not be negative, received %d";
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+	private static final Map<Key, Counter> SITES = new ConcurrentHashMap<>();
+	private static final LongAdder OVERFLOW = new LongAdder();
+
+	private static volatile int rate = 0;
+
+	private FaultSampler() {
+	}
+
+	/**
+	 * Sample one in {@code rate} builds.
+	 * @param rate The number of builds per sample, 1 to sample every build, 0 to stop sampling
+	 * @throws IllegalArgumentException if {@code rate} is negative
+	 */
+	public static void setRate( int rate ) {
+		if ( rate < 0 ) throw new IllegalArgumentException( RATE_TEMPLATE.formatted( rate ) );
+		FaultSampler.rate = rate;
+	}
+
+	/** @return The number of builds per sample, 0 if not sampling. */
+	public static int getRate() {
+		return rate;
+	}
+
+	/** Discard every sample. */
+	public static void reset() {
+		SITES.clear();
+		OVERFLOW.reset();
+	}
+
+	/**
+	 * Read the samples so far.
+	 * Each counter is read independently, so samples taken during the call may be partially included.
+	 * @return Every sampled site, by error type, the most often sampled first
+	 */
+	public static List<Site> snapshot() {
+		return SITES.entrySet().stream()
+			.map( entry -> entry.getValue().site( entry.getKey() ) )
+			.sorted( Comparator.comparingLong( Site::estimate ).reversed() )
+			.toList();
+	}
+
+	/** @return The number of samples not counted because there were too many distinct sites. */
+	public static long overflow() {
+		return OVERFLOW.sum();
+	}
+
+	/** Sample a build of {@code fault}, if sampling and this build is chosen. */
+	static void sample( Fault<?> fault ) {
+		int current = rate;
+		if ( current == 0 || ( current > 1 && ThreadLocalRandom.current().nextInt( current ) != 0 ) ) return;
+		Optional<StackWalker.StackFrame> caller = WALKER.walk( frames -> frames
+			.dropWhile( frame -> FaultFingerprint.isBuilder( frame.getClassName() ) )
+			.findFirst()
+		);
+		if ( caller.isEmpty() ) return;
+		StackWalker.StackFrame frame = caller.get();
+		Key key = new Key( frame.getClassName(), frame.getMethodName(), frame.getLineNumber(), fault.getType() );
+		Counter counter = SITES.get( key );
+		if ( counter == null && SITES.size() < MAX_SITES ) counter = SITES.computeIfAbsent( key, k -> new Counter() );
+		if ( counter == null ) {
+			OVERFLOW.increment();
+			return;
+		}
+		counter.samples.increment();
+		counter.estimate.add( current );
+	}
+
+	/**
+	 * The samples of one call site building one error type.
+	 * @param className The class of the calling method
+	 * @param methodName The calling method
+	 * @param line The line of the call, negative if unknown
+	 * @param type The error type built
+	 * @param samples The number of samples taken
+	 * @param estimate The estimated number of builds, the sum of the rate at each sample
+	 */
+	public record Site(
+		String className,
+		String methodName,
+		int line,
+		Class<? extends Throwable> type,
+		long samples,
+		long estimate
+	) {
+	}
+
+	private record Key( String className, String methodName, int line, Class<? extends Throwable> type ) {
+	}
+
+	private static final class Counter {
+
+		private final LongAdder samples = new LongAdder();
+		private final LongAdder estimate = new LongAdder();
+
+		private Site site( Key key ) {
+			return new Site( key.className(), key.methodName(), key.line(), key.type(), samples.sum(), estimate.sum() );
+		}
+
+	}
+
+}
@@ -0,0 +1,207 @@
+package com.herbmarshall.fault;
+
+import com.herbmarshall.standardPipe.Standard;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utility to build error message containers whose message has values filled in at build time.
+ * The pattern is parsed once into literal segments separated by {@value #SLOT} slots.
+ * Builds and failed validations are counted, sampled and recorded as those of a {@link Fault} of the pattern,
+ * so every message rendered from one template shares the metrics of that fault.
+ * @param <E> The error type
+ */
+public final class FaultTemplate<E extends Throwable> {
+
+	/** Marks where an argument is placed in a pattern. */
+	public static final String SLOT = "{}";
+
+	static final String ARGUMENT_COUNT_TEMPLATE = "Expected %d arguments but received %d";
+
+	private static final int SLOT_ESTIMATE = 16;
+
+	private final Class<E> type;
+	private final String pattern;
+	private final String[] literals;
+	private final int literalLength;
+	private final Fault<E> fault;
+
+	/**
+	 * Create instance.
+	 * @param type The error type
+	 * @param pattern The error message, with {@value #SLOT} where each argument is placed
+	 */
+	public FaultTemplate( Class<E> type, String pattern ) {
+		this.type = requireNonNull( type, "type" );
+		this.pattern = requireNonNull( pattern, "pattern" );
+		this.literals = parse( pattern );
+		this.literalLength = pattern.length() - ( literals.length - 1 ) * SLOT.length();
+		this.fault = new Fault<>( type, pattern );
+	}
+
+	/** @return the generated error type. */
+	public Class<E> getType() {
+		return type;
+	}
+
+	/** @return the message pattern. */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/** @return the number of arguments the pattern takes. */
+	public int getSlotCount() {
+		return literals.length - 1;
+	}
+
+	/**
+	 * Fill the pattern with {@code args}.
+	 * @param args One value per slot, rendered with {@link String#valueOf(Object)}
+	 * @return The rendered message
+	 * @throws IllegalArgumentException if the number of {@code args} does not match the number of slots
+	 */
+	public String render( Object... args ) {
+		requireNonNull( args, "args" );
+		if ( args.length != getSlotCount() ) {
+			throw new IllegalArgumentException( ARGUMENT_COUNT_TEMPLATE.formatted( getSlotCount(), args.length ) );
+		}
+		StringBuilder builder = new StringBuilder( literalLength + args.length * SLOT_ESTIMATE );
+		builder.append( literals[ 0 ] );
+		for ( int i = 0; i < args.length; i++ ) {
+			append( builder, args[ i ] );
+			builder.append( literals[ i + 1 ] );
+		}
+		return builder.toString();
+	}
+
+	private static void append( StringBuilder builder, Object arg ) {
+		if ( arg instanceof CharSequence sequence ) builder.append( sequence );
+		else builder.append( arg );
+	}
+
+	/**
+	 * Create a {@link Fault} with the pattern filled with {@code args}.
+	 * @throws IllegalArgumentException if the number of {@code args} does not match the number of slots
+	 * @see #render(Object...)
+	 */
+	public Fault<E> with( Object... args ) {
+		return new Fault<>( type, render( args ) );
+	}
+
+	/**
+	 * Create a new instance of the {@link Throwable} {@code E}, with the pattern filled with {@code args}.
+	 * @throws IllegalArgumentException if the number of {@code args} does not match the number of slots
+	 * @throws UnsupportedOperationException if there are any problems while instantiating an {@code E}
+	 * @return A new instance of {@code E}
+	 * @see Fault#build()
+	 */
+	public E build( Object... args ) {
+		return fault.buildWithMessage( render( args ) );
+	}
+
+	/**
+	 * @param message The message to check
+	 * @return true if {@code message} could have been rendered from this pattern
+	 */
+	public boolean matches( String message ) {
+		if ( message == null ) return false;
+		if ( literals.length == 1 ) return pattern.equals( message );
+		String first = literals[ 0 ];
+		String last = literals[ literals.length - 1 ];
+		int end = message.length() - last.length();
+		if ( end < first.length() ) return false;
+		if ( ! message.startsWith( first ) || ! message.endsWith( last ) ) return false;
+		int position = first.length();
+		for ( int i = 1; i < literals.length - 1; i++ ) {
+			int found = message.indexOf( literals[ i ], position );
+			if ( found < 0 || found + literals[ i ].length() > end ) return false;
+			position = found + literals[ i ].length();
+		}
+		return true;
+	}
+
+	/**
+	 * Will compare {@code error} class type and match its message against the pattern.
+	 * On failure, it will print the error stack trace to {@link Standard#err}.
+	 * @return Self reference
+	 * @throws AssertionError if the type or message do not match
+	 * @see Standard#err
+	 */
+	public FaultTemplate<E> validate( Throwable error ) {
+		return validate( error, Standard.err.toStream() );
+	}
+
+	/**
+	 * Will compare {@code error} class type and match its message against the pattern.
+	 * On failure, it will print the error stack trace to {@code stream}.
+	 * @return Self reference
+	 * @throws AssertionError if either type or message do not match
+	 * @throws NullPointerException if either {@code error} or {@code stream} are null.
+	 */
+	public FaultTemplate<E> validate( Throwable error, OutputStream stream ) {
+		requireNonNull( error, "error" );
+		requireNonNull( stream, "stream" );
+		FaultEvents.ValidationFailure event = new FaultEvents.ValidationFailure();
+		boolean recording = event.isEnabled();
+		if ( recording ) event.begin();
+		try {
+			if ( ! error.getClass().equals( type ) ) {
+				throw new AssertionError( Fault.typeError( type, error.getClass() ) );
+			}
+			if ( ! matches( error.getMessage() ) ) {
+				throw new AssertionError( messageError( pattern, error.getMessage() ) );
+			}
+		}
+		catch ( AssertionError e ) {
+			fault.count( FaultMetrics.Event.VALIDATION_FAILURE );
+			if ( recording ) FaultEvents.commit( event, fault, error );
+			error.printStackTrace( new PrintStream( stream ) );
+			throw e;
+		}
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return Fault.TO_STRING_TEMPLATE.formatted( type, pattern );
+	}
+
+	@Override
+	public boolean equals( Object other ) {
+		if ( this == other ) return true;
+		if ( other == null || getClass() != other.getClass() ) return false;
+		FaultTemplate<?> template = ( FaultTemplate<?> ) other;
+		return type.equals( template.type ) && pattern.equals( template.pattern );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( type, pattern );
+	}
+
+	private static String[] parse( String pattern ) {
+		List<String> literals = new ArrayList<>();
+		int start = 0;
+		int slot = pattern.indexOf( SLOT );
+		while ( slot >= 0 ) {
+			literals.add( pattern.substring( start, slot ) );
+			start = slot + SLOT.length();
+			slot = pattern.indexOf( SLOT, start );
+		}
+		literals.add( pattern.substring( start ) );
+		return literals.toArray( String[]::new );
+	}
+
+	private static <T> T requireNonNull( T value, String name ) {
+		return Objects.requireNonNull( value, Fault.nullPointerError( name ) );
+	}
+
+	static String messageError( String pattern, String actual ) {
+		return "Incorrect error message; expected match of '" + pattern + "' but received '" + actual + "'";
+	}
+
+}
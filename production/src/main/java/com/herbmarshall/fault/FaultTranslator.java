@@ -0,0 +1,144 @@
+package com.herbmarshall.fault;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Translates errors thrown by other code, such as third party libraries, into errors built by {@link Fault}s.
+ * Each error type maps to a fault, or to a function choosing one; an error without a mapping of its own uses
+ * the mapping of its nearest mapped superclass. That match is resolved once per concrete error class and cached,
+ * so in steady state a translation is a single lookup. Immutable, and so safe to share between threads.
+ * Only classes can be mapped: an error may implement several mapped interfaces, with no order to choose between
+ * them, so interfaces are rejected rather than silently ignored.
+ * <pre>
+ * FaultTranslator translator = FaultTranslator.builder()
+ *     .map( SQLTimeoutException.class, DATABASE_TIMEOUT )
+ *     .map( SQLException.class, DATABASE_FAILURE )
+ *     .build();
+ * </pre>
+ */
+public final class FaultTranslator {
+
+	static final String DUPLICATE_TEMPLATE = "%s has already been mapped";
+	static final String INTERFACE_TEMPLATE = "%s is an interface, only classes can be mapped";
+
+	/** Marks an error class with no mapped superclass. */
+	private static final Function<Throwable, Fault<?>> UNMAPPED = error -> null;
+
+	private final Map<Class<?>, Function<Throwable, Fault<?>>> mappings;
+	private final ClassValue<Function<Throwable, Fault<?>>> resolved = new ClassValue<>() {
+		@Override
+		protected Function<Throwable, Fault<?>> computeValue( Class<?> type ) {
+			return resolve( type );
+		}
+	};
+
+	private FaultTranslator( Map<Class<?>, Function<Throwable, Fault<?>>> mappings ) {
+		this.mappings = Map.copyOf( mappings );
+	}
+
+	/** @return A builder for a new translator. */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private Function<Throwable, Fault<?>> resolve( Class<?> type ) {
+		for ( Class<?> current = type; current != null; current = current.getSuperclass() ) {
+			Function<Throwable, Fault<?>> mapping = mappings.get( current );
+			if ( mapping != null ) return mapping;
+		}
+		return UNMAPPED;
+	}
+
+	/**
+	 * @param error The error to translate
+	 * @return The fault mapped to the type of {@code error}, or its nearest mapped superclass,
+	 *   or null if there is none
+	 * @throws NullPointerException if {@code error} is null, or a mapping function returns null
+	 */
+	public Fault<?> faultOf( Throwable error ) {
+		Objects.requireNonNull( error, Fault.nullPointerError( "error" ) );
+		Function<Throwable, Fault<?>> mapping = resolved.get( error.getClass() );
+		if ( mapping == UNMAPPED ) return null;
+		return Objects.requireNonNull( mapping.apply( error ), Fault.nullPointerError( "fault" ) );
+	}
+
+	/**
+	 * Build the error of the fault mapped to {@code error}, with {@code error} as its cause.
+	 * @param error The error to translate
+	 * @return The translated error, or {@code error} itself if no mapping matches it
+	 * @throws NullPointerException if {@code error} is null, or a mapping function returns null
+	 * @throws UnsupportedOperationException if there are any problems while building the translated error
+	 * @see Fault#build(Throwable)
+	 */
+	public Throwable translate( Throwable error ) {
+		Fault<?> fault = faultOf( error );
+		return fault == null ? error : fault.build( error );
+	}
+
+	/** @return true if {@code type}, or one of its superclasses, has a mapping. */
+	public boolean isMapped( Class<? extends Throwable> type ) {
+		Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+		return resolved.get( type ) != UNMAPPED;
+	}
+
+	@Override
+	public String toString() {
+		return "FaultTranslator" + mappings.keySet();
+	}
+
+	/** Adds the mappings of a {@link FaultTranslator}. */
+	public static final class Builder {
+
+		private final Map<Class<?>, Function<Throwable, Fault<?>>> mappings = new LinkedHashMap<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Translate errors of {@code type}, and its subclasses, to the error of {@code fault}.
+		 * @param type The error type to translate
+		 * @param fault Builds the translated error
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code type} is an interface, or has already been mapped
+		 */
+		public Builder map( Class<? extends Throwable> type, Fault<?> fault ) {
+			Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+			return add( type, error -> fault );
+		}
+
+		/**
+		 * Translate errors of {@code type}, and its subclasses, to the error of the fault {@code function} chooses.
+		 * @param type The error type to translate
+		 * @param function Chooses the fault that builds the translated error; must not return null
+		 * @param <T> The error type to translate
+		 * @return Self reference
+		 * @throws IllegalArgumentException if {@code type} is an interface, or has already been mapped
+		 */
+		public <T extends Throwable> Builder map( Class<T> type, Function<? super T, ? extends Fault<?>> function ) {
+			Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+			Objects.requireNonNull( function, Fault.nullPointerError( "function" ) );
+			return add( type, error -> function.apply( type.cast( error ) ) );
+		}
+
+		private Builder add( Class<?> type, Function<Throwable, Fault<?>> mapping ) {
+			Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+			if ( type.isInterface() ) {
+				throw new IllegalArgumentException( INTERFACE_TEMPLATE.formatted( type.getName() ) );
+			}
+			if ( mappings.putIfAbsent( type, mapping ) != null ) {
+				throw new IllegalArgumentException( DUPLICATE_TEMPLATE.formatted( type.getName() ) );
+			}
+			return this;
+		}
+
+		/** @return The translator. */
+		public FaultTranslator build() {
+			return new FaultTranslator( mappings );
+		}
+
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.herbmarshall.fault;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts errors by {@link FaultFingerprint}, for finding the busiest sources of errors.
+ * Safe to use from many threads; recording a fingerprint seen before only increments a counter.
+ * At most about {@code capacity} fingerprints are tracked, errors with any other fingerprint
+ * are counted as {@link #overflow()}, so memory stays bounded however many sources there are.
+ */
+public final class FingerprintAggregator {
+
+	/** The number of fingerprints tracked when none is given. */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	static final String CAPACITY_TEMPLATE = "Capacity must be positive, received %d";
+
+	private final int frames;
+	private final int capacity;
+	private final Map<Long, Counter> groups = new ConcurrentHashMap<>();
+	private final LongAdder overflow = new LongAdder();
+
+	/** Create instance, tracking {@value #DEFAULT_CAPACITY} fingerprints of the default number of frames. */
+	public FingerprintAggregator() {
+		this( FaultFingerprint.DEFAULT_FRAMES, DEFAULT_CAPACITY );
+	}
+
+	/**
+	 * Create instance.
+	 * @param frames The number of frames in each fingerprint
+	 * @param capacity The number of fingerprints to track
+	 * @throws IllegalArgumentException if {@code frames} is negative or {@code capacity} is not positive
+	 */
+	public FingerprintAggregator( int frames, int capacity ) {
+		if ( frames < 0 ) throw new IllegalArgumentException( FaultFingerprint.FRAMES_TEMPLATE.formatted( frames ) );
+		if ( capacity < 1 ) throw new IllegalArgumentException( CAPACITY_TEMPLATE.formatted( capacity ) );
+		this.frames = frames;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Count {@code error} against its fingerprint.
+	 * @param error The error to count
+	 * @return The fingerprint of {@code error}
+	 * @throws NullPointerException if {@code error} is null
+	 */
+	public long record( Throwable error ) {
+		long fingerprint = FaultFingerprint.of( error, frames );
+		Counter counter = groups.get( fingerprint );
+		if ( counter == null && groups.size() < capacity ) {
+			counter = groups.computeIfAbsent(
+				fingerprint,
+				key -> new Counter( error.getClass().getName(), error.getMessage() )
+			);
+		}
+		if ( counter == null ) overflow.increment();
+		else counter.count.increment();
+		return fingerprint;
+	}
+
+	/**
+	 * @param fingerprint A fingerprint returned by {@link #record(Throwable)}
+	 * @return The number of errors counted against {@code fingerprint}, zero if it is not tracked
+	 */
+	public long count( long fingerprint ) {
+		Counter counter = groups.get( fingerprint );
+		return counter == null ? 0 : counter.count.sum();
+	}
+
+	/** @return The number of errors not counted because their fingerprint could not be tracked. */
+	public long overflow() {
+		return overflow.sum();
+	}
+
+	/**
+	 * Read the current counts.
+	 * Each counter is read independently, so counts that change during the call may be partially included.
+	 * @return Every tracked fingerprint, most frequent first
+	 */
+	public List<Group> snapshot() {
+		return groups.entrySet().stream()
+			.map( entry -> entry.getValue().group( entry.getKey() ) )
+			.sorted( Comparator.comparingLong( Group::count ).reversed() )
+			.toList();
+	}
+
+	/** Discard every count. */
+	public void reset() {
+		groups.clear();
+		overflow.reset();
+	}
+
+	/**
+	 * The errors counted against one fingerprint.
+	 * @param fingerprint The fingerprint
+	 * @param type The name of the error type of the first error counted
+	 * @param message The message of the first error counted, may be null
+	 * @param count The number of errors counted
+	 */
+	public record Group( long fingerprint, String type, String message, long count ) {
+
+		/** Create instance. */
+		public Group {
+			Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+		}
+
+	}
+
+	private static final class Counter {
+
+		private final String type;
+		private final String message;
+		private final LongAdder count = new LongAdder();
+
+		private Counter( String type, String message ) {
+			this.type = type;
+			this.message = message;
+		}
+
+		private Group group( long fingerprint ) {
+			return new Group( fingerprint, type, message, count.sum() );
+		}
+
+	}
+
+}
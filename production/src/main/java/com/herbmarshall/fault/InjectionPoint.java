@@ -0,0 +1,58 @@
+package com.herbmarshall.fault;
+
+/**
+ * A named place in code that throws a configured {@link Fault}, or delays, when enabled, for chaos testing.
+ * {@link #check()} calls through a {@link java.lang.invoke.MutableCallSite}: while disabled its target is an
+ * empty method handle, so a disabled point reads no shared state and takes no branch;
+ * enabling or disabling it relinks the call site.
+ * Declare points once, as {@code static final} fields. The JIT trusts those fields, and the fields of the record
+ * behind every point, so it treats the call site as a constant and a disabled check costs the same as an empty call.
+ * @param <E> The checked error type the surrounding code can throw
+ * @see FaultInjection
+ */
+public sealed interface InjectionPoint<E extends Throwable> permits InjectionSite {
+
+	/**
+	 * Get or create the point named {@code name}.
+	 * @param name The name the point is configured by
+	 * @param type The checked error type the surrounding code can throw, or {@link RuntimeException}
+	 * @param <E> The checked error type
+	 * @return The point
+	 * @throws IllegalArgumentException if the point exists with a different type,
+	 *   or a configured rule throws an error {@code type} does not cover
+	 * @see FaultInjection
+	 */
+	static <E extends Throwable> InjectionPoint<E> named( String name, Class<E> type ) {
+		return FaultInjection.point( name, type );
+	}
+
+	/**
+	 * Throw the error of the enabled rule, or delay, if it selects this call.
+	 * @throws E if the rule selects this call
+	 */
+	void check() throws E;
+
+	/**
+	 * Start throwing according to {@code rule}, replacing any previous rule.
+	 * @param rule When to throw, and what
+	 * @return Self reference
+	 * @throws IllegalArgumentException if the error of {@code rule} is neither unchecked nor an {@code E}
+	 */
+	InjectionPoint<E> enable( InjectionRule rule );
+
+	/**
+	 * Stop throwing.
+	 * @return Self reference
+	 */
+	InjectionPoint<E> disable();
+
+	/** @return the name the point is configured by. */
+	String getName();
+
+	/** @return the checked error type the surrounding code can throw. */
+	Class<E> getType();
+
+	/** @return the enabled rule, or null if disabled. */
+	InjectionRule getRule();
+
+}
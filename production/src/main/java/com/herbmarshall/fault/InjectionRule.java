@@ -0,0 +1,116 @@
+package com.herbmarshall.fault;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * When an enabled {@link InjectionPoint} acts, and what it does: throw the error of a {@link Fault}, or delay.
+ * @see InjectionPoint#enable(InjectionRule)
+ */
+public final class InjectionRule {
+
+	static final String PROBABILITY_TEMPLATE = "Probability must be within [0, 1], received %s";
+	static final String INTERVAL_TEMPLATE = "Call interval must be positive, received %d";
+	static final String LATENCY_TEMPLATE = "Latency must be positive, received %s";
+
+	private final Fault<?> fault;
+	private final long latencyNanos;
+	private final double probability;
+	private final long interval;
+	private final AtomicLong calls = new AtomicLong();
+
+	private InjectionRule( Fault<?> fault, long latencyNanos, double probability, long interval ) {
+		this.fault = fault;
+		this.latencyNanos = latencyNanos;
+		this.probability = probability;
+		this.interval = interval;
+	}
+
+	/**
+	 * Throw on a random share of calls.
+	 * @param fault Builds the error to throw
+	 * @param probability The chance of each call throwing, from 0 to 1
+	 * @return A new rule
+	 * @throws IllegalArgumentException if {@code probability} is not within [0, 1]
+	 */
+	public static InjectionRule probability( Fault<?> fault, double probability ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		return new InjectionRule( fault, 0, requireProbability( probability ), 0 );
+	}
+
+	/**
+	 * Throw on every {@code interval}th call, counted from when the rule is created.
+	 * @param fault Builds the error to throw
+	 * @param interval The number of calls per throw; 1 throws on every call
+	 * @return A new rule
+	 * @throws IllegalArgumentException if {@code interval} is not positive
+	 */
+	public static InjectionRule every( Fault<?> fault, long interval ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		if ( interval < 1 ) throw new IllegalArgumentException( INTERVAL_TEMPLATE.formatted( interval ) );
+		return new InjectionRule( fault, 0, 0, interval );
+	}
+
+	/**
+	 * Delay a random share of calls by parking the calling thread, which leaves the carrier of a virtual thread free.
+	 * An interrupt ends the delay early, leaving the thread interrupted.
+	 * @param latency How long each selected call is delayed
+	 * @param probability The chance of each call being delayed, from 0 to 1
+	 * @return A new rule
+	 * @throws IllegalArgumentException if {@code latency} is not positive or {@code probability} is not within [0, 1]
+	 */
+	public static InjectionRule delay( Duration latency, double probability ) {
+		Objects.requireNonNull( latency, Fault.nullPointerError( "latency" ) );
+		if ( latency.isNegative() || latency.isZero() ) {
+			throw new IllegalArgumentException( LATENCY_TEMPLATE.formatted( latency ) );
+		}
+		return new InjectionRule( null, latency.toNanos(), requireProbability( probability ), 0 );
+	}
+
+	private static double requireProbability( double probability ) {
+		if ( ! ( probability >= 0 && probability <= 1 ) ) {
+			throw new IllegalArgumentException( PROBABILITY_TEMPLATE.formatted( probability ) );
+		}
+		return probability;
+	}
+
+	/** @return The fault whose error is thrown, or null if this rule delays instead. */
+	public Fault<?> getFault() {
+		return fault;
+	}
+
+	/** @return How long selected calls are delayed, zero if this rule throws instead. */
+	public Duration getLatency() {
+		return Duration.ofNanos( latencyNanos );
+	}
+
+	/** Throw the error or delay, if this call is selected; the target of an enabled {@link InjectionPoint}. */
+	void fire() throws Throwable {
+		if ( ! fires() ) return;
+		if ( fault != null ) throw fault.build();
+		park();
+	}
+
+	private void park() {
+		long deadline = System.nanoTime() + latencyNanos;
+		for ( long remaining = latencyNanos; remaining > 0; remaining = deadline - System.nanoTime() ) {
+			LockSupport.parkNanos( this, remaining );
+			if ( Thread.currentThread().isInterrupted() ) return;
+		}
+	}
+
+	private boolean fires() {
+		if ( interval > 0 ) return calls.incrementAndGet() % interval == 0;
+		return ThreadLocalRandom.current().nextDouble() < probability;
+	}
+
+	@Override
+	public String toString() {
+		String trigger = interval > 0 ? "every " + interval + " calls" : "probability " + probability;
+		return ( fault == null ? "delay of " + getLatency() : fault.toString() ) + " at " + trigger;
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.herbmarshall.fault;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@link InjectionPoint} behind every name.
+ * A record, because the JIT trusts the final fields of records as it does {@code static final} fields,
+ * so from a constant point it folds {@link #invoker()} to a constant and inlines the target of {@link #site()}.
+ * Enabling and disabling lock the call site, which is never handed out, rather than the public point.
+ * @param name The name the point is configured by
+ * @param type The checked error type the surrounding code can throw
+ * @param site Linked to the enabled rule, or to an empty handle while disabled
+ * @param invoker Calls the current target of {@code site}
+ * @param rule The enabled rule, or null if disabled
+ * @param <E> The checked error type
+ */
+record InjectionSite<E extends Throwable>(
+	String name,
+	Class<E> type,
+	MutableCallSite site,
+	MethodHandle invoker,
+	AtomicReference<InjectionRule> rule
+) implements InjectionPoint<E> {
+
+	static final String TYPE_MISMATCH_TEMPLATE = "%s cannot throw %s";
+
+	private static final MethodHandle DISABLED = MethodHandles.empty( MethodType.methodType( void.class ) );
+	private static final MethodHandle FIRE = fire();
+
+	static <E extends Throwable> InjectionSite<E> create( String name, Class<E> type ) {
+		MutableCallSite site = new MutableCallSite( DISABLED );
+		return new InjectionSite<>( name, type, site, site.dynamicInvoker(), new AtomicReference<>() );
+	}
+
+	@Override
+	public void check() throws E {
+		try {
+			invoker.invokeExact();
+		}
+		catch ( RuntimeException | Error e ) {
+			throw e;
+		}
+		catch ( Throwable e ) {
+			throw type.cast( e );
+		}
+	}
+
+	@Override
+	public InjectionPoint<E> enable( InjectionRule rule ) {
+		requireThrowable( rule );
+		synchronized ( site ) {
+			this.rule.set( rule );
+			relink( FIRE.bindTo( rule ) );
+		}
+		return this;
+	}
+
+	@Override
+	public InjectionPoint<E> disable() {
+		synchronized ( site ) {
+			this.rule.set( null );
+			relink( DISABLED );
+		}
+		return this;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Class<E> getType() {
+		return type;
+	}
+
+	@Override
+	public InjectionRule getRule() {
+		return rule.get();
+	}
+
+	/** @throws IllegalArgumentException if the error of {@code rule} is neither unchecked nor an {@code E} */
+	void requireThrowable( InjectionRule rule ) {
+		Objects.requireNonNull( rule, Fault.nullPointerError( "rule" ) );
+		if ( rule.getFault() == null ) return;
+		Class<?> thrown = rule.getFault().getType();
+		if ( ! type.isAssignableFrom( thrown ) && ! isUnchecked( thrown ) ) {
+			throw new IllegalArgumentException( TYPE_MISMATCH_TEMPLATE.formatted( name, thrown.getName() ) );
+		}
+	}
+
+	private void relink( MethodHandle target ) {
+		site.setTarget( target );
+		MutableCallSite.syncAll( new MutableCallSite[] { site } );
+	}
+
+	private static boolean isUnchecked( Class<?> type ) {
+		return RuntimeException.class.isAssignableFrom( type ) || Error.class.isAssignableFrom( type );
+	}
+
+	private static MethodHandle fire() {
+		try {
+			return MethodHandles.lookup().findVirtual(
+				InjectionRule.class,
+				"fire",
+				MethodType.methodType( void.class )
+			);
+		}
+		catch ( NoSuchMethodException | IllegalAccessException e ) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name + " (" + type.getName() + ")";
+	}
+
+}
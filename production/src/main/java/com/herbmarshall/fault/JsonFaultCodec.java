@@ -0,0 +1,330 @@
+package com.herbmarshall.fault;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes a {@link Fault} as a UTF-8 JSON object, for shipping to a collector, and reads it back.
+ * Encoding writes straight into the caller's buffer, escaping and UTF-8 encoding each string in place,
+ * so it allocates nothing unless a context value is not a {@link CharSequence}. The object has the form:
+ * <pre>
+ * {"type":"java.lang.IllegalStateException","message":"...","context":{"tenant":"acme"},
+ *  "causes":[{"type":"java.io.IOException","message":null}]}
+ * </pre>
+ * Decoding accepts any member order and whitespace, but no members besides these.
+ * @see FaultRecord
+ */
+public final class JsonFaultCodec {
+
+	static final String EXPECTED_TEMPLATE = "expected '%s'";
+	static final String UNKNOWN_MEMBER_TEMPLATE = "unknown member \"%s\"";
+	static final String MISSING_MEMBER_TEMPLATE = "missing member \"%s\"";
+	static final String BAD_ESCAPE = "invalid escape";
+	static final String TRUNCATED = "truncated";
+
+	private static final String TYPE = "type";
+	private static final String MESSAGE = "message";
+	private static final String CONTEXT = "context";
+	private static final String CAUSES = "causes";
+
+	private static final byte[] TYPE_MEMBER = bytes( "{\"type\":" );
+	private static final byte[] MESSAGE_MEMBER = bytes( ",\"message\":" );
+	private static final byte[] CONTEXT_MEMBER = bytes( ",\"context\":{" );
+	private static final byte[] CAUSES_MEMBER = bytes( "},\"causes\":[" );
+	private static final byte[] END = bytes( "]}" );
+	private static final byte[] NULL = bytes( "null" );
+	private static final byte[] HEX_DIGITS = bytes( "0123456789abcdef" );
+	private static final byte[] UNICODE_ESCAPE = bytes( "\\u00" );
+
+	private static final int CONTROL_LIMIT = 0x20;
+	private static final int NIBBLE_BITS = 4;
+	private static final int NIBBLE_MASK = 0xF;
+	private static final int HEX_RADIX = 16;
+	private static final int UNICODE_DIGITS = 4;
+
+	private JsonFaultCodec() {
+	}
+
+	private static byte[] bytes( String value ) {
+		return value.getBytes( StandardCharsets.US_ASCII );
+	}
+
+	/**
+	 * Write {@code fault} into {@code target}, from its position.
+	 * @param fault The fault to write
+	 * @param target Receives the object
+	 * @return The number of bytes written
+	 * @throws BufferOverflowException if {@code target} has too little room, leaving its position unchanged
+	 */
+	public static int encode( Fault<?> fault, ByteBuffer target ) {
+		return encode( fault, null, target );
+	}
+
+	/**
+	 * Write {@code fault}, and the chain of {@code cause}, into {@code target}, from its position.
+	 * At most {@link FaultRecord#MAX_CAUSES} causes are written.
+	 * @param fault The fault to write
+	 * @param cause The cause of the error of {@code fault}, or null if there is none
+	 * @param target Receives the object
+	 * @return The number of bytes written
+	 * @throws BufferOverflowException if {@code target} has too little room, leaving its position unchanged
+	 */
+	public static int encode( Fault<?> fault, Throwable cause, ByteBuffer target ) {
+		Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) );
+		Objects.requireNonNull( target, Fault.nullPointerError( "target" ) );
+		int start = target.position();
+		try {
+			target.put( TYPE_MEMBER );
+			putString( target, fault.getType().getName() );
+			target.put( MESSAGE_MEMBER );
+			putString( target, fault.getMessage() );
+			target.put( CONTEXT_MEMBER );
+			FaultContext context = fault.getContext();
+			for ( int i = 0; i < context.size(); i++ ) {
+				if ( i > 0 ) target.put( ( byte ) ',' );
+				putString( target, context.keyAt( i ) );
+				target.put( ( byte ) ':' );
+				putString( target, BinaryFaultCodec.text( context.valueAt( i ) ) );
+			}
+			target.put( CAUSES_MEMBER );
+			int causes = FaultRecord.causeCount( cause );
+			Throwable current = cause;
+			for ( int i = 0; i < causes; i++, current = current.getCause() ) {
+				if ( i > 0 ) target.put( ( byte ) ',' );
+				target.put( TYPE_MEMBER );
+				putString( target, current.getClass().getName() );
+				target.put( MESSAGE_MEMBER );
+				putString( target, current.getMessage() );
+				target.put( ( byte ) '}' );
+			}
+			target.put( END );
+		}
+		catch ( BufferOverflowException e ) {
+			target.position( start );
+			throw e;
+		}
+		return target.position() - start;
+	}
+
+	private static void putString( ByteBuffer target, CharSequence value ) {
+		if ( value == null ) {
+			target.put( NULL );
+			return;
+		}
+		target.put( ( byte ) '"' );
+		int run = 0;
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c >= CONTROL_LIMIT && c != '"' && c != '\\' ) continue;
+			Utf8.write( target, value, run, i );
+			run = i + 1;
+			if ( c < CONTROL_LIMIT ) {
+				target.put( UNICODE_ESCAPE );
+				target.put( HEX_DIGITS[ c >> NIBBLE_BITS ] );
+				target.put( HEX_DIGITS[ c & NIBBLE_MASK ] );
+			}
+			else {
+				target.put( ( byte ) '\\' );
+				target.put( ( byte ) c );
+			}
+		}
+		Utf8.write( target, value, run, value.length() );
+		target.put( ( byte ) '"' );
+	}
+
+	/**
+	 * Read one object from {@code source}, from its position, and rebuild its {@link Fault}.
+	 * @param source Holds the object
+	 * @return The decoded record
+	 * @throws IllegalArgumentException if the object is malformed or truncated, or names an unknown error type;
+	 *   the position of {@code source} is then unchanged
+	 */
+	public static FaultRecord decode( ByteBuffer source ) {
+		Objects.requireNonNull( source, Fault.nullPointerError( "source" ) );
+		Parser parser = new Parser( source );
+		FaultRecord record = parser.record();
+		source.position( parser.index );
+		return record;
+	}
+
+	/** Reads by absolute index, so the position of the source only moves once a whole object has been read. */
+	private static final class Parser {
+
+		private final ByteBuffer source;
+		private int index;
+
+		private Parser( ByteBuffer source ) {
+			this.source = source;
+			this.index = source.position();
+		}
+
+		private FaultRecord record() {
+			String type = null;
+			String message = null;
+			List<String> context = new ArrayList<>();
+			List<FaultRecord.Cause> causes = new ArrayList<>();
+			expect( '{' );
+			if ( ! skip( '}' ) ) {
+				do {
+					String member = name();
+					expect( ':' );
+					switch ( member ) {
+						case TYPE -> type = string();
+						case MESSAGE -> message = string();
+						case CONTEXT -> context( context );
+						case CAUSES -> causes( causes );
+						default -> throw malformed( UNKNOWN_MEMBER_TEMPLATE.formatted( member ) );
+					}
+				}
+				while ( skip( ',' ) );
+				expect( '}' );
+			}
+			Fault<?> fault = new Fault<>( FaultRecord.type( require( type, TYPE ) ), require( message, MESSAGE ) );
+			for ( int i = 0; i < context.size(); i += 2 ) fault = fault.with( context.get( i ), context.get( i + 1 ) );
+			return new FaultRecord( fault, causes );
+		}
+
+		private void context( List<String> entries ) {
+			expect( '{' );
+			if ( skip( '}' ) ) return;
+			do {
+				entries.add( name() );
+				expect( ':' );
+				entries.add( string() );
+			}
+			while ( skip( ',' ) );
+			expect( '}' );
+		}
+
+		private void causes( List<FaultRecord.Cause> causes ) {
+			expect( '[' );
+			if ( skip( ']' ) ) return;
+			do {
+				causes.add( cause() );
+			}
+			while ( skip( ',' ) );
+			expect( ']' );
+		}
+
+		private FaultRecord.Cause cause() {
+			String type = null;
+			String message = null;
+			expect( '{' );
+			if ( ! skip( '}' ) ) {
+				do {
+					String member = name();
+					expect( ':' );
+					switch ( member ) {
+						case TYPE -> type = string();
+						case MESSAGE -> message = string();
+						default -> throw malformed( UNKNOWN_MEMBER_TEMPLATE.formatted( member ) );
+					}
+				}
+				while ( skip( ',' ) );
+				expect( '}' );
+			}
+			return new FaultRecord.Cause( require( type, TYPE ), message );
+		}
+
+		/** @return The member name at the index. */
+		private String name() {
+			String name = string();
+			if ( name == null ) throw malformed( EXPECTED_TEMPLATE.formatted( '"' ) );
+			return name;
+		}
+
+		/** @return The string at the index, or null for a JSON {@code null}. */
+		private String string() {
+			if ( skip( 'n' ) ) {
+				for ( int i = 1; i < NULL.length; i++ ) expectByte( NULL[ i ] );
+				return null;
+			}
+			expect( '"' );
+			StringBuilder builder = new StringBuilder();
+			int run = index;
+			while ( true ) {
+				byte next = next();
+				if ( next == '"' ) {
+					appendRun( builder, run, index - 1 );
+					return builder.toString();
+				}
+				if ( next != '\\' ) continue;
+				appendRun( builder, run, index - 1 );
+				builder.append( escape( next() ) );
+				run = index;
+			}
+		}
+
+		private char escape( byte escaped ) {
+			return switch ( escaped ) {
+				case '"', '\\', '/' -> ( char ) escaped;
+				case 'b' -> '\b';
+				case 'f' -> '\f';
+				case 'n' -> '\n';
+				case 'r' -> '\r';
+				case 't' -> '\t';
+				case 'u' -> unicode();
+				default -> throw malformed( BAD_ESCAPE );
+			};
+		}
+
+		private char unicode() {
+			int value = 0;
+			for ( int i = 0; i < UNICODE_DIGITS; i++ ) {
+				int digit = Character.digit( next(), HEX_RADIX );
+				if ( digit < 0 ) throw malformed( BAD_ESCAPE );
+				value = value << NIBBLE_BITS | digit;
+			}
+			return ( char ) value;
+		}
+
+		private void appendRun( StringBuilder builder, int from, int to ) {
+			if ( from == to ) return;
+			byte[] bytes = new byte[ to - from ];
+			source.get( from, bytes );
+			builder.append( new String( bytes, StandardCharsets.UTF_8 ) );
+		}
+
+		private <T> T require( T value, String member ) {
+			if ( value == null ) throw malformed( MISSING_MEMBER_TEMPLATE.formatted( member ) );
+			return value;
+		}
+
+		private void expect( char expected ) {
+			if ( ! skip( expected ) ) throw malformed( EXPECTED_TEMPLATE.formatted( expected ) );
+		}
+
+		private void expectByte( byte expected ) {
+			if ( next() != expected ) throw malformed( EXPECTED_TEMPLATE.formatted( ( char ) expected ) );
+		}
+
+		/** @return true if, after any whitespace, {@code expected} was next, and so consumed. */
+		private boolean skip( char expected ) {
+			while ( index < source.limit() && isWhitespace( source.get( index ) ) ) index++;
+			if ( index < source.limit() && source.get( index ) == expected ) {
+				index++;
+				return true;
+			}
+			return false;
+		}
+
+		private byte next() {
+			if ( index >= source.limit() ) throw malformed( TRUNCATED );
+			return source.get( index++ );
+		}
+
+		private IllegalArgumentException malformed( String detail ) {
+			return FaultRecord.malformed( index, detail );
+		}
+
+		private static boolean isWhitespace( byte value ) {
+			return value == ' ' || value == '\t' || value == '\n' || value == '\r';
+		}
+
+	}
+
+}
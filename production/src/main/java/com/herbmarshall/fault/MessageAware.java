@@ -0,0 +1,20 @@
+package com.herbmarshall.fault;
+
+import java.util.function.Supplier;
+
+/**
+ * Implemented by error types that render their message only when it is read.
+ * A {@link Fault#lazy(Class, Supplier) lazy} fault whose message has not been rendered yet
+ * builds such a type with a null message and then passes it the renderer,
+ * so an error that is built, caught and discarded unread never renders its message.
+ * Implementations are expected to override {@link Throwable#getMessage()} to call the renderer.
+ */
+public interface MessageAware {
+
+	/**
+	 * Called once, right after the error is built, by a lazy fault whose message has not been rendered yet.
+	 * @param message Renders the message of the fault; it is memoised, so may be called any number of times
+	 */
+	void setMessage( Supplier<String> message );
+
+}
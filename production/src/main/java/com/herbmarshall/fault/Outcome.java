@@ -0,0 +1,192 @@
+package com.herbmarshall.fault;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Either a success value or a {@link Fault}, for code that cannot afford to throw.
+ * The error of a failure is only built when a caller asks for it, by {@link #orElseThrow()}
+ * or {@link #orElseThrow(Class)}.
+ * Failures carry no value, so each {@link Fault} shares a single failure instance across every {@code T}.
+ * @param <T> The success value type
+ */
+public final class Outcome<T> {
+
+	static final String NOT_SUCCESS_TEMPLATE = "Outcome is a failure: %s";
+	static final String NOT_FAILURE = "Outcome is a success";
+	static final String UNDECLARED_TEMPLATE = "Outcome is a failure with an undeclared checked error: %s";
+	static final String SUCCESS_TEMPLATE = "Success(%s)";
+	static final String FAILURE_TEMPLATE = "Failure%s";
+
+	private final T value;
+	private final Fault<?> fault;
+
+	private Outcome( T value, Fault<?> fault ) {
+		this.value = value;
+		this.fault = fault;
+	}
+
+	/**
+	 * @param value The success value, which may be null
+	 * @param <T> The success value type
+	 * @return A success holding {@code value}
+	 */
+	public static <T> Outcome<T> success( T value ) {
+		return new Outcome<>( value, null );
+	}
+
+	/**
+	 * @param fault The reason for the failure
+	 * @param <T> The success value type
+	 * @return The failure of {@code fault}, shared by every call
+	 * @see Fault#failure()
+	 */
+	public static <T> Outcome<T> failure( Fault<?> fault ) {
+		return Objects.requireNonNull( fault, Fault.nullPointerError( "fault" ) ).failure();
+	}
+
+	/** Only to be called by {@link Fault}, which caches the result. */
+	static <T> Outcome<T> newFailure( Fault<?> fault ) {
+		return new Outcome<>( null, fault );
+	}
+
+	/** @return true if this holds a value. */
+	public boolean isSuccess() {
+		return fault == null;
+	}
+
+	/** @return true if this holds a {@link Fault}. */
+	public boolean isFailure() {
+		return fault != null;
+	}
+
+	/**
+	 * @return The success value
+	 * @throws IllegalStateException if this is a failure
+	 */
+	public T getValue() {
+		if ( fault != null ) throw new IllegalStateException( NOT_SUCCESS_TEMPLATE.formatted( fault ) );
+		return value;
+	}
+
+	/**
+	 * @return The reason for the failure
+	 * @throws IllegalStateException if this is a success
+	 */
+	public Fault<?> getFault() {
+		if ( fault == null ) throw new IllegalStateException( NOT_FAILURE );
+		return fault;
+	}
+
+	/**
+	 * @param mapper Transforms the success value
+	 * @param <U> The new success value type
+	 * @return A success holding the transformed value, or this failure
+	 */
+	public <U> Outcome<U> map( Function<? super T, ? extends U> mapper ) {
+		Objects.requireNonNull( mapper, Fault.nullPointerError( "mapper" ) );
+		return fault == null ? success( mapper.apply( value ) ) : cast();
+	}
+
+	/**
+	 * @param mapper Transforms the success value into another outcome
+	 * @param <U> The new success value type
+	 * @return The outcome of {@code mapper}, or this failure
+	 */
+	public <U> Outcome<U> flatMap( Function<? super T, Outcome<U>> mapper ) {
+		Objects.requireNonNull( mapper, Fault.nullPointerError( "mapper" ) );
+		if ( fault != null ) return cast();
+		return Objects.requireNonNull( mapper.apply( value ), Fault.nullPointerError( "outcome" ) );
+	}
+
+	/**
+	 * @param recovery Produces a success value from the failure
+	 * @return This success, or a success holding the value produced from the failure
+	 */
+	public Outcome<T> recover( Function<? super Fault<?>, ? extends T> recovery ) {
+		Objects.requireNonNull( recovery, Fault.nullPointerError( "recovery" ) );
+		return fault == null ? this : success( recovery.apply( fault ) );
+	}
+
+	/**
+	 * @param other Returned if this is a failure
+	 * @return The success value, or {@code other}
+	 */
+	public T orElse( T other ) {
+		return fault == null ? value : other;
+	}
+
+	/**
+	 * @param other Called if this is a failure
+	 * @return The success value, or the value of {@code other}
+	 */
+	public T orElseGet( Supplier<? extends T> other ) {
+		Objects.requireNonNull( other, Fault.nullPointerError( "other" ) );
+		return fault == null ? value : other.get();
+	}
+
+	/**
+	 * Return the success value, or throw a new error built by the {@link Fault}.
+	 * An unchecked error is thrown as built. A checked error cannot be declared here,
+	 * so it is thrown as the cause of an {@link UndeclaredThrowableException};
+	 * use {@link #orElseThrow(Class)} to throw it as built.
+	 * @return The success value
+	 * @throws UndeclaredThrowableException holding the built error, if it is checked
+	 * @see Fault#build()
+	 */
+	public T orElseThrow() {
+		if ( fault != null ) throw unchecked( fault.build() );
+		return value;
+	}
+
+	/**
+	 * Return the success value, or throw a new error built by the {@link Fault}, as built if it is an {@code E}.
+	 * @param type The checked error type the caller declares, usually the type of the fault
+	 * @param <E> The checked error type
+	 * @return The success value
+	 * @throws E if this is a failure, and the built error is an {@code E}
+	 * @throws UndeclaredThrowableException holding the built error, if it is checked and not an {@code E}
+	 * @throws NullPointerException if {@code type} is null
+	 * @see Fault#build()
+	 */
+	public <E extends Throwable> T orElseThrow( Class<E> type ) throws E {
+		Objects.requireNonNull( type, Fault.nullPointerError( "type" ) );
+		if ( fault == null ) return value;
+		Throwable error = fault.build();
+		if ( type.isInstance( error ) ) throw type.cast( error );
+		throw unchecked( error );
+	}
+
+	/** @return {@code error} if unchecked, otherwise an unchecked error holding it; an {@link Error} is thrown. */
+	private RuntimeException unchecked( Throwable error ) {
+		if ( error instanceof RuntimeException runtime ) return runtime;
+		if ( error instanceof Error fatal ) throw fatal;
+		return new UndeclaredThrowableException( error, UNDECLARED_TEMPLATE.formatted( fault ) );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private <U> Outcome<U> cast() {
+		return ( Outcome<U> ) this;
+	}
+
+	@Override
+	public String toString() {
+		return fault == null ? SUCCESS_TEMPLATE.formatted( value ) : FAILURE_TEMPLATE.formatted( fault );
+	}
+
+	@Override
+	public boolean equals( Object other ) {
+		if ( this == other ) return true;
+		if ( other == null || getClass() != other.getClass() ) return false;
+		Outcome<?> outcome = ( Outcome<?> ) other;
+		return Objects.equals( value, outcome.value ) && Objects.equals( fault, outcome.fault );
+	}
+
+	@Override
+	public int hashCode() {
+		return fault == null ? Objects.hashCode( value ) : fault.hashCode();
+	}
+
+}
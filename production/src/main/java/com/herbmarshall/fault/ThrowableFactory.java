@@ -0,0 +1,359 @@
+package com.herbmarshall.fault;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.herbmarshall.fault.ConstructorResolver.INSTANTIATION_FAILURE_TEMPLATE;
+
+/**
+ * Per-type cache of the constructors used by {@link Fault} to build a {@link Throwable}.
+ * Each shape is resolved once, on first use, and kept as a strongly typed constructor.
+ * Constructors registered by a {@link FaultFactoryProvider} are used as is.
+ * Where possible that constructor is spun by {@link LambdaMetafactory}, so it compiles to a plain {@code new E(...)};
+ * types it cannot handle fall back to invoking the resolved {@link MethodHandle}.
+ * Constructors are chosen by {@link ConstructorResolver}, so one taking a supertype, such as {@code (CharSequence)},
+ * or one that is not public is used too.
+ * A type whose only caused constructor takes a narrower cause, such as {@code (String, IOException)},
+ * is built reflectively, choosing the constructor by the runtime type of each cause.
+ * Lightweight instances use the {@code (String, Throwable, boolean, boolean)} shape, when the type exposes it.
+ * @param <E> The error type
+ */
+final class ThrowableFactory<E extends Throwable> {
+
+	private static final ClassValue<ThrowableFactory<?>> FACTORIES = new ClassValue<>() {
+		@Override
+		protected ThrowableFactory<?> computeValue( Class<?> type ) {
+			return new ThrowableFactory<>( type.asSubclass( Throwable.class ), true );
+		}
+	};
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType MESSAGE_SHAPE = MethodType.methodType(
+		Throwable.class,
+		String.class
+	);
+	private static final MethodType CAUSED_SHAPE = MethodType.methodType(
+		Throwable.class,
+		String.class,
+		Throwable.class
+	);
+	private static final MethodType LIGHTWEIGHT_SHAPE = MethodType.methodType(
+		Throwable.class,
+		String.class,
+		Throwable.class,
+		boolean.class,
+		boolean.class
+	);
+
+	private static final int ENABLE_SUPPRESSION_INDEX = 2;
+
+	/** Marks a type that has no lightweight shape. */
+	private static final CausedConstructor<?> NO_LIGHTWEIGHT = ( message, cause ) -> {
+		throw new IllegalStateException();
+	};
+
+	private final Class<E> type;
+	private final boolean spinning;
+
+	private volatile MessageConstructor<E> message;
+	private volatile CausedConstructor<E> caused;
+	private volatile CausedConstructor<E> lightweight;
+
+	ThrowableFactory( Class<E> type, boolean spinning ) {
+		this.type = Objects.requireNonNull( type );
+		this.spinning = spinning;
+	}
+
+	E create( String message ) {
+		MessageConstructor<E> constructor = messageConstructor();
+		try {
+			return constructor.newInstance( message );
+		}
+		catch ( Error e ) {
+			throw e;
+		}
+		catch ( Throwable e ) {
+			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
+		}
+	}
+
+	E create( String message, Throwable cause ) {
+		CausedConstructor<E> constructor = causedConstructor();
+		if ( constructor instanceof Narrowing<E> narrowing ) return narrowing.newInstance( message, cause );
+		try {
+			return constructor.newInstance( message, cause );
+		}
+		catch ( Error e ) {
+			throw e;
+		}
+		catch ( Throwable e ) {
+			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
+		}
+	}
+
+	/**
+	 * Create an instance without a stack trace and with suppression disabled.
+	 * Types without the four argument shape are created as by {@link #create(String)} or
+	 * {@link #create(String, Throwable)}.
+	 * @param cause The cause, may be null
+	 */
+	E createLightweight( String message, Throwable cause ) {
+		CausedConstructor<E> constructor = lightweightConstructor();
+		if ( constructor == NO_LIGHTWEIGHT ) return cause == null ? create( message ) : create( message, cause );
+		try {
+			return constructor.newInstance( message, cause );
+		}
+		catch ( Error e ) {
+			throw e;
+		}
+		catch ( Throwable e ) {
+			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
+		}
+	}
+
+	/** @return true if the {@code (String)} shape, or its absence, has already been resolved. */
+	boolean isMessageResolved() {
+		return message != null;
+	}
+
+	/** @return true if the {@code (String, Throwable)} shape, or its absence, has already been resolved. */
+	boolean isCausedResolved() {
+		return caused != null;
+	}
+
+	/** @return true if the lightweight shape, or its absence, has already been resolved. */
+	boolean isLightweightResolved() {
+		return lightweight != null;
+	}
+
+	/**
+	 * Resolve the {@code (String)} shape now, rather than on first use.
+	 * @throws UnsupportedOperationException if {@code E} has no such constructor
+	 */
+	void preloadMessage() {
+		messageConstructor();
+	}
+
+	/**
+	 * Resolve the {@code (String, Throwable)} shape now, rather than on first use.
+	 * @throws UnsupportedOperationException if {@code E} has no such constructor
+	 */
+	void preloadCaused() {
+		causedConstructor();
+	}
+
+	/** Resolve the lightweight shape, or its absence, now, rather than on first use. */
+	void preloadLightweight() {
+		lightweightConstructor();
+	}
+
+	private MessageConstructor<E> messageConstructor() {
+		MessageConstructor<E> constructor = message;
+		if ( constructor == null ) {
+			try {
+				constructor = resolveMessage();
+			}
+			catch ( UnsupportedOperationException e ) {
+				constructor = new Unresolved<>( e );
+			}
+			message = constructor;
+		}
+		if ( constructor instanceof Unresolved<E> unresolved ) throw unresolved.failure();
+		return constructor;
+	}
+
+	private CausedConstructor<E> causedConstructor() {
+		CausedConstructor<E> constructor = caused;
+		if ( constructor == null ) {
+			try {
+				constructor = resolveCaused();
+			}
+			catch ( UnsupportedOperationException e ) {
+				constructor = new Unresolved<>( e );
+			}
+			caused = constructor;
+		}
+		if ( constructor instanceof Unresolved<E> unresolved ) throw unresolved.failure();
+		return constructor;
+	}
+
+	private MessageConstructor<E> resolveMessage() {
+		Function<String, E> registered = FactoryRegistry.message( type );
+		if ( registered != null ) return registered::apply;
+		MethodHandle handle = resolve(
+			ConstructorResolver.using( type )
+				.allowNonPublic()
+				.tryParameters( String.class )
+				.tryParameters( Object.class )
+		);
+		MessageConstructor<E> spun = spin( MessageConstructor.class, handle, String.class );
+		return spun == null ? messageFallback( handle.asType( MESSAGE_SHAPE ) ) : spun;
+	}
+
+	private CausedConstructor<E> resolveCaused() {
+		BiFunction<String, Throwable, E> registered = FactoryRegistry.caused( type );
+		if ( registered != null ) return registered::apply;
+		ConstructorResolver<E> resolver = ConstructorResolver.using( type )
+			.allowNonPublic()
+			.tryParameters( String.class, Throwable.class )
+			.tryParameters( Object.class, Throwable.class );
+		MethodHandle handle;
+		try {
+			handle = resolve( resolver );
+		}
+		catch ( UnsupportedOperationException e ) {
+			if ( ! resolver.acceptsNarrower() ) throw e;
+			return new Narrowing<>( resolver );
+		}
+		CausedConstructor<E> spun = spin( CausedConstructor.class, handle, String.class, Throwable.class );
+		return spun == null ? causedFallback( handle.asType( CAUSED_SHAPE ) ) : spun;
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private CausedConstructor<E> lightweightConstructor() {
+		CausedConstructor<E> constructor = lightweight;
+		if ( constructor == null ) {
+			try {
+				constructor = causedFallback(
+					MethodHandles.insertArguments(
+						resolveLightweight().asType( LIGHTWEIGHT_SHAPE ),
+						ENABLE_SUPPRESSION_INDEX,
+						false,
+						false
+					)
+				);
+			}
+			catch ( UnsupportedOperationException | IllegalAccessException e ) {
+				constructor = ( CausedConstructor<E> ) NO_LIGHTWEIGHT;
+			}
+			lightweight = constructor;
+		}
+		return constructor;
+	}
+
+	private MethodHandle resolveLightweight() throws IllegalAccessException {
+		Constructor<E> constructor = ConstructorResolver.using( type )
+			.allowProtected()
+			.tryParameters( String.class, Throwable.class, boolean.class, boolean.class )
+			.resolve();
+		MethodHandles.Lookup lookup = Modifier.isPublic( constructor.getModifiers() ) ?
+			LOOKUP :
+			MethodHandles.privateLookupIn( type, LOOKUP );
+		return lookup.unreflectConstructor( constructor );
+	}
+
+	private MethodHandle resolve( ConstructorResolver<E> resolver ) {
+		try {
+			return LOOKUP.unreflectConstructor( resolver.resolve() );
+		}
+		catch ( IllegalAccessException e ) {
+			throw new UnsupportedOperationException( INSTANTIATION_FAILURE_TEMPLATE.formatted( type ), e );
+		}
+	}
+
+	/**
+	 * Spin an implementation of {@code face} that directly invokes the constructor behind {@code handle}.
+	 * @return The spun constructor, or null if {@code type} cannot be linked from here
+	 */
+	@SuppressWarnings( "unchecked" )
+	private <C> C spin( Class<? super C> face, MethodHandle handle, Class<?>... parameters ) {
+		if ( ! spinning || ! linkable( type ) ) return null;
+		try {
+			return ( C ) LambdaMetafactory.metafactory(
+				LOOKUP,
+				"newInstance",
+				MethodType.methodType( face ),
+				MethodType.methodType( Throwable.class, parameters ),
+				handle,
+				MethodType.methodType( type, parameters )
+			).getTarget().invoke();
+		}
+		catch ( Throwable e ) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private MessageConstructor<E> messageFallback( MethodHandle handle ) {
+		return message -> ( E ) ( Throwable ) handle.invokeExact( message );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private CausedConstructor<E> causedFallback( MethodHandle handle ) {
+		return ( message, cause ) -> ( E ) ( Throwable ) handle.invokeExact( message, cause );
+	}
+
+	/** A spun class references {@code type} by name, so it must resolve to the same class from this loader. */
+	private static boolean linkable( Class<?> type ) {
+		if ( type.isHidden() ) return false;
+		try {
+			return Class.forName( type.getName(), false, ThrowableFactory.class.getClassLoader() ) == type;
+		}
+		catch ( ClassNotFoundException e ) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings( "unchecked" )
+	static <E extends Throwable> ThrowableFactory<E> of( Class<E> type ) {
+		return ( ThrowableFactory<E> ) FACTORIES.get( type );
+	}
+
+	@FunctionalInterface
+	interface MessageConstructor<E extends Throwable> {
+		E newInstance( String message ) throws Throwable;
+	}
+
+	@FunctionalInterface
+	interface CausedConstructor<E extends Throwable> {
+		E newInstance( String message, Throwable cause ) throws Throwable;
+	}
+
+	/**
+	 * Builds a type whose only caused constructor takes a narrower cause, choosing the constructor for each cause.
+	 * @param resolver Resolves the constructor, and already reports its failures
+	 */
+	private record Narrowing<E extends Throwable>( ConstructorResolver<E> resolver ) implements CausedConstructor<E> {
+
+		/** @throws UnsupportedOperationException if no constructor accepts {@code cause}, or it fails */
+		@Override
+		public E newInstance( String message, Throwable cause ) {
+			return resolver.create( message, cause );
+		}
+
+	}
+
+	/**
+	 * Marks a shape that could not be resolved, so the search is not repeated on every build.
+	 * @param reason Why the shape could not be resolved
+	 */
+	private record Unresolved<E extends Throwable>(
+		UnsupportedOperationException reason
+	) implements MessageConstructor<E>, CausedConstructor<E> {
+
+		/** @return A new error for this use, with the same message, caused by the original. */
+		UnsupportedOperationException failure() {
+			return new UnsupportedOperationException( reason.getMessage(), reason );
+		}
+
+		@Override
+		public E newInstance( String message ) {
+			throw failure();
+		}
+
+		@Override
+		public E newInstance( String message, Throwable cause ) {
+			throw failure();
+		}
+
+	}
+
+}
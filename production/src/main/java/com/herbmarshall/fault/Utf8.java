@@ -0,0 +1,101 @@
+package com.herbmarshall.fault;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding straight from a {@link CharSequence} into a {@link ByteBuffer}, without an intermediate array.
+ * Unpaired surrogates are written as {@code ?}, as {@link String#getBytes(java.nio.charset.Charset)} does.
+ */
+final class Utf8 {
+
+	private static final int ONE_BYTE_LIMIT = 0x80;
+	private static final int TWO_BYTE_LIMIT = 0x800;
+	private static final int TWO_BYTE_LEAD = 0xC0;
+	private static final int THREE_BYTE_LEAD = 0xE0;
+	private static final int FOUR_BYTE_LEAD = 0xF0;
+	private static final int CONTINUATION = 0x80;
+	private static final int CONTINUATION_MASK = 0x3F;
+	private static final int CONTINUATION_BITS = 6;
+	private static final int THREE_BYTE_SHIFT = CONTINUATION_BITS * 2;
+	private static final int FOUR_BYTE_SHIFT = CONTINUATION_BITS * 3;
+	private static final byte REPLACEMENT = '?';
+
+	private Utf8() {
+	}
+
+	/**
+	 * @param target Receives the encoded bytes, from its position
+	 * @param value The characters to encode
+	 * @return The number of bytes written
+	 * @throws BufferOverflowException if {@code target} has too little room
+	 */
+	static int write( ByteBuffer target, CharSequence value ) {
+		return write( target, value, 0, value.length() );
+	}
+
+	/**
+	 * @param target Receives the encoded bytes, from its position
+	 * @param value Holds the characters to encode
+	 * @param from The index of the first character to encode
+	 * @param to The index after the last character to encode
+	 * @return The number of bytes written
+	 * @throws BufferOverflowException if {@code target} has too little room
+	 */
+	static int write( ByteBuffer target, CharSequence value, int from, int to ) {
+		int start = target.position();
+		for ( int i = from; i < to; i++ ) {
+			char c = value.charAt( i );
+			if ( c < ONE_BYTE_LIMIT ) target.put( ( byte ) c );
+			else if ( c < TWO_BYTE_LIMIT ) {
+				target.put( ( byte ) ( TWO_BYTE_LEAD | c >> CONTINUATION_BITS ) );
+				target.put( continuation( c, 0 ) );
+			}
+			else if ( ! Character.isSurrogate( c ) ) {
+				target.put( ( byte ) ( THREE_BYTE_LEAD | c >> THREE_BYTE_SHIFT ) );
+				target.put( continuation( c, 1 ) );
+				target.put( continuation( c, 0 ) );
+			}
+			else if ( isPair( value, i, to ) ) {
+				int codePoint = Character.toCodePoint( c, value.charAt( ++i ) );
+				target.put( ( byte ) ( FOUR_BYTE_LEAD | codePoint >> FOUR_BYTE_SHIFT ) );
+				target.put( continuation( codePoint, 2 ) );
+				target.put( continuation( codePoint, 1 ) );
+				target.put( continuation( codePoint, 0 ) );
+			}
+			else target.put( REPLACEMENT );
+		}
+		return target.position() - start;
+	}
+
+	private static boolean isPair( CharSequence value, int index, int to ) {
+		return Character.isHighSurrogate( value.charAt( index ) ) &&
+			index + 1 < to &&
+			Character.isLowSurrogate( value.charAt( index + 1 ) );
+	}
+
+	private static byte continuation( int value, int index ) {
+		return ( byte ) ( CONTINUATION | value >> CONTINUATION_BITS * index & CONTINUATION_MASK );
+	}
+
+	/**
+	 * @param source Holds the encoded bytes, from its position
+	 * @param length The number of bytes to decode
+	 * @return The decoded characters
+	 * @throws BufferUnderflowException if {@code source} has fewer than {@code length} bytes remaining
+	 */
+	static String read( ByteBuffer source, int length ) {
+		if ( source.hasArray() ) {
+			if ( length > source.remaining() ) throw new BufferUnderflowException();
+			int offset = source.arrayOffset() + source.position();
+			source.position( source.position() + length );
+			return new String( source.array(), offset, length, StandardCharsets.UTF_8 );
+		}
+		byte[] bytes = new byte[ length ];
+		source.get( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+}
@@ -0,0 +1,343 @@
+package com.herbmarshall.fault;
+
+import com.herbmarshall.standardPipe.OverridePlan;
+import com.herbmarshall.standardPipe.Standard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.herbmarshall.fault.AsyncFaultPrinter.CAPACITY_TEMPLATE;
+import static com.herbmarshall.fault.AsyncFaultPrinter.CLOSED;
+import static com.herbmarshall.fault.AsyncFaultPrinter.DROPPED_TEMPLATE;
+import static com.herbmarshall.fault.AsyncFaultPrinter.OverflowPolicy;
+
+class AsyncFaultPrinterTest {
+
+	@Nested
+	class print {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Fault<?> faultA = randomFault();
+			Fault<?> faultB = randomFault();
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( buffer ).start() ) {
+				// Act
+				boolean outputA = printer.print( faultA );
+				boolean outputB = printer.print( faultB );
+				printer.flush();
+				// Assert
+				Assertions.assertTrue( outputA );
+				Assertions.assertTrue( outputB );
+				Assertions.assertEquals( faultA + "\n" + faultB + "\n", buffer.toString() );
+			}
+		}
+
+		@Test
+		void standard() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Fault<?> fault = randomFault();
+			OverridePlan override = Standard.out.withOverride( buffer );
+			// Act
+			override.execute( () -> {
+				try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( Standard.out ).start() ) {
+					printer.print( fault );
+				}
+			} );
+			// Assert
+			Assertions.assertEquals( fault + "\n", buffer.toString() );
+		}
+
+		@Test
+		void concurrentProducers() throws Exception {
+			// Arrange
+			int threads = 4;
+			int perThread = 500;
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			ExecutorService executor = Executors.newFixedThreadPool( threads );
+			Set<String> expected = new HashSet<>();
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( buffer )
+				.capacity( 64 )
+				.overflow( OverflowPolicy.BLOCK )
+				.start()
+			) {
+				List<Future<?>> futures = new ArrayList<>();
+				for ( int t = 0; t < threads; t++ ) {
+					List<Fault<?>> faults = new ArrayList<>();
+					for ( int i = 0; i < perThread; i++ ) faults.add( randomFault() );
+					faults.forEach( fault -> expected.add( fault.toString() ) );
+					// Act
+					futures.add( executor.submit( () -> faults.forEach( printer::print ) ) );
+				}
+				for ( Future<?> future : futures ) future.get();
+				printer.flush();
+				// Assert
+				Assertions.assertEquals( 0, printer.dropped() );
+			}
+			finally {
+				executor.shutdown();
+			}
+			Assertions.assertEquals( expected, Set.of( buffer.toString().split( "\n" ) ) );
+		}
+
+		@Test
+		void fault_null() {
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( new ByteArrayOutputStream() ).start() ) {
+				// Act
+				try {
+					printer.print( null );
+					Assertions.fail();
+				}
+				// Assert
+				catch ( NullPointerException e ) {
+					Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+				}
+			}
+		}
+
+		@Test
+		void closed() {
+			// Arrange
+			AsyncFaultPrinter printer = AsyncFaultPrinter.to( new ByteArrayOutputStream() ).start();
+			printer.close();
+			// Act
+			try {
+				printer.print( randomFault() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				Assertions.assertEquals( CLOSED, e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class overflow {
+
+		@Test
+		void drop() throws InterruptedException {
+			// Arrange
+			BlockingStream stream = new BlockingStream();
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( stream )
+				.capacity( 2 )
+				.overflow( OverflowPolicy.DROP )
+				.start()
+			) {
+				printer.print( randomFault() );
+				stream.entered.await();
+				printer.print( randomFault() );
+				printer.print( randomFault() );
+				// Act
+				boolean output = printer.print( randomFault() );
+				// Assert
+				Assertions.assertFalse( output );
+				Assertions.assertEquals( 1, printer.dropped() );
+				stream.release.countDown();
+				printer.flush();
+				Assertions.assertEquals( 3, stream.buffer.toString().split( "\n" ).length );
+			}
+		}
+
+		@Test
+		void count() throws InterruptedException {
+			// Arrange
+			BlockingStream stream = new BlockingStream();
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( stream )
+				.capacity( 1 )
+				.overflow( OverflowPolicy.COUNT )
+				.start()
+			) {
+				printer.print( randomFault() );
+				stream.entered.await();
+				printer.print( randomFault() );
+				printer.print( randomFault() );
+				// Act
+				printer.print( randomFault() );
+				printer.print( randomFault() );
+				stream.release.countDown();
+				printer.flush();
+				// Assert
+				Assertions.assertEquals( 2, printer.dropped() );
+				Assertions.assertTrue( stream.buffer.toString().contains(
+					DROPPED_TEMPLATE.formatted( AsyncFaultPrinter.class.getSimpleName(), 2 )
+				) );
+			}
+		}
+
+	}
+
+	@Nested
+	class capacity {
+
+		@Test
+		void notPositive() {
+			// Arrange
+			AsyncFaultPrinter.Builder builder = AsyncFaultPrinter.to( new ByteArrayOutputStream() );
+			// Act
+			try {
+				builder.capacity( 0 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( CAPACITY_TEMPLATE.formatted( 0 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Test
+	void close() {
+		// Arrange
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		AsyncFaultPrinter printer = AsyncFaultPrinter.to( buffer ).start();
+		Fault<?> fault = randomFault();
+		printer.print( fault );
+		// Act
+		printer.close();
+		// Assert
+		Assertions.assertEquals( fault + "\n", buffer.toString() );
+	}
+
+	@Test
+	void batchBound() throws Exception {
+		int threads = 4;
+		int capacity = 4;
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			// Arrange
+			BatchStream stream = new BatchStream();
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( stream )
+				.capacity( capacity )
+				.overflow( OverflowPolicy.BLOCK )
+				.start()
+			) {
+				List<Future<?>> futures = new ArrayList<>();
+				// Act
+				for ( int t = 0; t < threads; t++ ) {
+					futures.add( executor.submit( () -> {
+						for ( int i = 0; i < 2_000; i++ ) printer.print( randomFault() );
+					} ) );
+				}
+				for ( Future<?> future : futures ) future.get();
+				printer.flush();
+			}
+			// Assert
+			Assertions.assertEquals( threads * 2_000, stream.lines.stream().mapToInt( Integer::intValue ).sum() );
+			for ( int lines : stream.lines ) Assertions.assertTrue( lines <= capacity, lines + " lines in one batch" );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void closeRacingProducers() throws Exception {
+		int threads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			for ( int round = 0; round < 300; round++ ) {
+				// Arrange
+				ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+				AsyncFaultPrinter printer = AsyncFaultPrinter.to( buffer )
+					.capacity( 1 << 16 )
+					.overflow( OverflowPolicy.DROP )
+					.start();
+				Fault<?> fault = randomFault();
+				CountDownLatch started = new CountDownLatch( threads );
+				List<Future<Integer>> futures = new ArrayList<>();
+				for ( int t = 0; t < threads; t++ ) {
+					futures.add( executor.submit( () -> {
+						int printed = 0;
+						started.countDown();
+						try {
+							while ( true ) if ( printer.print( fault ) ) printed++;
+						}
+						catch ( IllegalStateException e ) {
+							return printed;
+						}
+					} ) );
+				}
+				started.await();
+				Thread.sleep( 1 );
+				// Act
+				printer.close();
+				// Assert
+				int printed = 0;
+				for ( Future<Integer> future : futures ) printed += future.get();
+				String output = buffer.toString();
+				int lines = output.isEmpty() ? 0 : output.split( "\n" ).length;
+				Assertions.assertEquals( printed, lines );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private Fault<?> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+	/** Records the number of lines in each write. */
+	private static final class BatchStream extends OutputStream {
+
+		private final List<Integer> lines = new ArrayList<>();
+
+		@Override
+		public void write( int b ) {
+			write( new byte[] { ( byte ) b }, 0, 1 );
+		}
+
+		@Override
+		public synchronized void write( byte[] bytes, int offset, int length ) {
+			int count = 0;
+			for ( int i = offset; i < offset + length; i++ ) if ( bytes[ i ] == '\n' ) count++;
+			lines.add( count );
+		}
+
+	}
+
+	/** Holds the writer inside its first write until released. */
+	private static final class BlockingStream extends OutputStream {
+
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private final CountDownLatch entered = new CountDownLatch( 1 );
+		private final CountDownLatch release = new CountDownLatch( 1 );
+
+		@Override
+		public void write( int b ) {
+			buffer.write( b );
+		}
+
+		@Override
+		public void write( byte[] bytes, int offset, int length ) {
+			entered.countDown();
+			try {
+				release.await();
+			}
+			catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+			}
+			buffer.write( bytes, offset, length );
+		}
+
+	}
+
+}
@@ -0,0 +1,231 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.BinaryFaultCodec.TRUNCATED;
+import static com.herbmarshall.fault.BinaryFaultCodec.VERSION_TEMPLATE;
+import static com.herbmarshall.fault.FaultRecord.MALFORMED_TEMPLATE;
+import static com.herbmarshall.fault.FaultRecord.MAX_CAUSES;
+import static com.herbmarshall.fault.FaultRecord.UNKNOWN_TYPE_TEMPLATE;
+
+class BinaryFaultCodecTest {
+
+	private static final int CAPACITY = 4096;
+
+	@Nested
+	class roundTrip {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			int written = BinaryFaultCodec.encode( fault, buffer );
+			// Assert
+			Assertions.assertEquals( written, buffer.position() );
+			FaultRecord output = BinaryFaultCodec.decode( buffer.flip() );
+			Assertions.assertEquals( fault, output.fault() );
+			Assertions.assertEquals( IllegalStateException.class, output.fault().getType() );
+			Assertions.assertTrue( output.fault().getContext().isEmpty() );
+			Assertions.assertEquals( List.of(), output.causes() );
+			Assertions.assertFalse( buffer.hasRemaining() );
+		}
+
+		@Test
+		void context() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault()
+				.with( "tenant", "acme" )
+				.with( "request", 42 )
+				.with( "empty", null );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			BinaryFaultCodec.encode( fault, buffer );
+			// Assert
+			FaultContext output = BinaryFaultCodec.decode( buffer.flip() ).fault().getContext();
+			Assertions.assertEquals( FaultContext.EMPTY.with( "tenant", "acme" )
+				.with( "request", "42" )
+				.with( "empty", null ), output );
+		}
+
+		@Test
+		void causes() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			IOException root = new IOException( randomString() );
+			UncheckedIOException cause = new UncheckedIOException( null, root );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			BinaryFaultCodec.encode( fault, cause, buffer );
+			// Assert
+			Assertions.assertEquals(
+				List.of(
+					new FaultRecord.Cause( UncheckedIOException.class.getName(), null ),
+					new FaultRecord.Cause( IOException.class.getName(), root.getMessage() )
+				),
+				BinaryFaultCodec.decode( buffer.flip() ).causes()
+			);
+		}
+
+		@Test
+		void causes_cycle() {
+			// Arrange
+			IllegalStateException first = new IllegalStateException();
+			IllegalArgumentException second = new IllegalArgumentException( first );
+			first.initCause( second );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			BinaryFaultCodec.encode( randomFault(), first, buffer );
+			// Assert
+			Assertions.assertEquals( MAX_CAUSES, BinaryFaultCodec.decode( buffer.flip() ).causes().size() );
+		}
+
+		@Test
+		void unicode() {
+			// Arrange
+			String message = "caf\u00e9 \u20ac \ud83d\ude00";
+			Fault<IllegalStateException> fault = new Fault<>( IllegalStateException.class, message )
+				.with( "\u00fc", "\u4e2d\u6587" );
+			ByteBuffer buffer = ByteBuffer.allocateDirect( CAPACITY );
+			// Act
+			BinaryFaultCodec.encode( fault, buffer );
+			// Assert
+			Fault<?> output = BinaryFaultCodec.decode( buffer.flip() ).fault();
+			Assertions.assertEquals( fault.getMessage(), output.getMessage() );
+			Assertions.assertEquals( "\u4e2d\u6587", output.getContext().get( "\u00fc" ) );
+		}
+
+		@Test
+		void many() {
+			// Arrange
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalArgumentException> second = new Fault<>( IllegalArgumentException.class, randomString() );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			BinaryFaultCodec.encode( first, buffer );
+			BinaryFaultCodec.encode( second, buffer );
+			buffer.flip();
+			// Act
+			FaultRecord output = BinaryFaultCodec.decode( buffer );
+			// Assert
+			Assertions.assertEquals( first, output.fault() );
+			Assertions.assertEquals( second, BinaryFaultCodec.decode( buffer ).fault() );
+		}
+
+	}
+
+	@Nested
+	class encode {
+
+		@Test
+		void overflow() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( 16 );
+			buffer.put( ( byte ) 7 );
+			// Act
+			try {
+				BinaryFaultCodec.encode( randomFault(), buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( BufferOverflowException e ) {
+				Assertions.assertEquals( 1, buffer.position() );
+			}
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			try {
+				BinaryFaultCodec.encode( null, buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class decode {
+
+		@Test
+		void truncated() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			BinaryFaultCodec.encode( randomFault(), buffer );
+			buffer.flip().limit( buffer.limit() - 1 );
+			// Act
+			try {
+				BinaryFaultCodec.decode( buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( MALFORMED_TEMPLATE.formatted( 0, TRUNCATED ), e.getMessage() );
+				Assertions.assertEquals( 0, buffer.position() );
+			}
+		}
+
+		@Test
+		void version() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			BinaryFaultCodec.encode( randomFault(), buffer );
+			buffer.put( 0, ( byte ) 9 ).flip();
+			// Act
+			try {
+				BinaryFaultCodec.decode( buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					MALFORMED_TEMPLATE.formatted( 0, VERSION_TEMPLATE.formatted( 9 ) ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void unknownType() {
+			// Arrange
+			String type = "com.example." + randomString();
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			buffer.put( BinaryFaultCodec.VERSION ).putInt( type.length() ).put( type.getBytes() );
+			// Act
+			try {
+				BinaryFaultCodec.decode( buffer.flip() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( UNKNOWN_TYPE_TEMPLATE.formatted( type ), e.getMessage() );
+				Assertions.assertEquals( 0, buffer.position() );
+			}
+		}
+
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.ChaosScenario.NO_PHASES;
+import static com.herbmarshall.fault.ChaosScenario.PHASE_LENGTH_TEMPLATE;
+
+class ChaosScenarioTest {
+
+	private static final Duration SECOND = Duration.ofSeconds( 1 );
+
+	@Nested
+	class phaseAt {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			ChaosScenario scenario = ChaosScenario.on( randomName() )
+				.fail( randomFault(), 1, SECOND )
+				.pause( SECOND.multipliedBy( 2 ) )
+				.build();
+			// Act
+			// Assert
+			Assertions.assertEquals( 0, scenario.phaseAt( 0 ) );
+			Assertions.assertEquals( 0, scenario.phaseAt( SECOND.toNanos() - 1 ) );
+			Assertions.assertEquals( 1, scenario.phaseAt( SECOND.toNanos() ) );
+			Assertions.assertEquals( -1, scenario.phaseAt( SECOND.toNanos() * 3 ) );
+			Assertions.assertEquals( SECOND.multipliedBy( 3 ), scenario.getLength() );
+			Assertions.assertNull( scenario.ruleOf( 1 ) );
+		}
+
+		@Test
+		void repeating() {
+			// Arrange
+			ChaosScenario scenario = ChaosScenario.on( randomName() )
+				.fail( randomFault(), 1, SECOND )
+				.pause( SECOND )
+				.repeat()
+				.build();
+			// Act
+			int output = scenario.phaseAt( SECOND.toNanos() * 4 );
+			// Assert
+			Assertions.assertEquals( 0, output );
+			Assertions.assertEquals( 1, scenario.phaseAt( SECOND.toNanos() * 5 ) );
+		}
+
+	}
+
+	@Nested
+	class build {
+
+		@Test
+		void noPhases() {
+			// Arrange
+			ChaosScenario.Builder builder = ChaosScenario.on( randomName() );
+			// Act
+			try {
+				builder.build();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				Assertions.assertEquals( NO_PHASES, e.getMessage() );
+			}
+		}
+
+		@Test
+		void length_notPositive() {
+			// Arrange
+			ChaosScenario.Builder builder = ChaosScenario.on( randomName() );
+			// Act
+			try {
+				builder.pause( Duration.ZERO );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( PHASE_LENGTH_TEMPLATE.formatted( Duration.ZERO ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void point_null() {
+			// Arrange
+			// Act
+			try {
+				ChaosScenario.on( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "point" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private String randomName() {
+		return UUID.randomUUID().toString();
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
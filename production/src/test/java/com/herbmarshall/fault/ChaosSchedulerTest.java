@@ -0,0 +1,313 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static com.herbmarshall.fault.ChaosScheduler.CLOSED;
+import static com.herbmarshall.fault.ChaosScheduler.STARTED;
+import static com.herbmarshall.fault.ChaosScheduler.TICK_TEMPLATE;
+import static com.herbmarshall.fault.InjectionSite.TYPE_MISMATCH_TEMPLATE;
+
+class ChaosSchedulerTest {
+
+	private static final Duration SECOND = Duration.ofSeconds( 1 );
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@AfterEach
+	void tearDown() {
+		FaultInjection.disableAll();
+	}
+
+	@Nested
+	class tick {
+
+		@Test
+		void phases() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			ChaosScenario scenario = ChaosScenario.on( point.getName() )
+				.fail( fault, 1, SECOND.multipliedBy( 30 ) )
+				.delay( Duration.ofMillis( 200 ), 1, SECOND.multipliedBy( 60 ) )
+				.build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( scenario );
+				Assertions.assertSame( fault, point.getRule().getFault() );
+				// Act
+				advance( SECOND.multipliedBy( 30 ) );
+				scheduler.tick();
+				// Assert
+				Assertions.assertEquals( Duration.ofMillis( 200 ), point.getRule().getLatency() );
+				advance( SECOND.multipliedBy( 60 ) );
+				scheduler.tick();
+				Assertions.assertNull( point.getRule() );
+				Assertions.assertEquals( 0, scheduler.getRunning() );
+			}
+		}
+
+		@Test
+		void pause() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			ChaosScenario scenario = ChaosScenario.on( point.getName() )
+				.pause( SECOND )
+				.fail( randomFault(), 1, SECOND )
+				.repeat()
+				.build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( scenario );
+				Assertions.assertNull( point.getRule() );
+				advance( SECOND );
+				scheduler.tick();
+				Assertions.assertNotNull( point.getRule() );
+				// Act
+				advance( SECOND );
+				scheduler.tick();
+				// Assert
+				Assertions.assertNull( point.getRule() );
+				Assertions.assertEquals( 1, scheduler.getRunning() );
+			}
+		}
+
+		@Test
+		void delay() {
+			// Arrange
+			Duration latency = Duration.ofMillis( 20 );
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( ChaosScenario.on( point.getName() ).delay( latency, 1, SECOND ).build() );
+				long start = System.nanoTime();
+				// Act
+				point.check();
+				// Assert
+				Assertions.assertTrue( System.nanoTime() - start >= latency.toNanos() );
+			}
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			String name = randomName();
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			InjectionPoint<RuntimeException> other = InjectionPoint.named( randomName(), RuntimeException.class );
+			ChaosScenario failing = ChaosScenario.on( name )
+				.fail( randomFault(), 1, SECOND )
+				.fail( fault, 1, SECOND )
+				.build();
+			ChaosScenario scenario = ChaosScenario.on( other.getName() ).fail( randomFault(), 1, SECOND ).build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( failing ).schedule( scenario );
+				InjectionPoint<RuntimeException> point = InjectionPoint.named( name, RuntimeException.class );
+				advance( SECOND );
+				// Act
+				try {
+					scheduler.tick();
+					Assertions.fail();
+				}
+				// Assert
+				catch ( IllegalArgumentException e ) {
+					Assertions.assertEquals(
+						TYPE_MISMATCH_TEMPLATE.formatted( name, IOException.class.getName() ),
+						e.getMessage()
+					);
+				}
+				Assertions.assertNull( point.getRule() );
+				Assertions.assertNull( other.getRule() );
+				Assertions.assertEquals( 1, scheduler.getRunning() );
+			}
+		}
+
+	}
+
+	@Nested
+	class schedule {
+
+		@Test
+		void type_mismatch() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			ChaosScenario scenario = ChaosScenario.on( point.getName() )
+				.pause( SECOND )
+				.fail( fault, 1, SECOND )
+				.build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				// Act
+				try {
+					scheduler.schedule( scenario );
+					Assertions.fail();
+				}
+				// Assert
+				catch ( IllegalArgumentException e ) {
+					Assertions.assertEquals(
+						TYPE_MISMATCH_TEMPLATE.formatted( point.getName(), IOException.class.getName() ),
+						e.getMessage()
+					);
+					Assertions.assertEquals( 0, scheduler.getRunning() );
+				}
+			}
+		}
+
+		@Test
+		void closed() {
+			// Arrange
+			ChaosScheduler scheduler = new ChaosScheduler( clock::get );
+			scheduler.close();
+			// Act
+			try {
+				scheduler.schedule( ChaosScenario.on( randomName() ).pause( SECOND ).build() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				Assertions.assertEquals( CLOSED, e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class cancel {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			ChaosScenario scenario = ChaosScenario.on( point.getName() ).fail( randomFault(), 1, SECOND ).build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( scenario );
+				// Act
+				boolean output = scheduler.cancel( scenario );
+				// Assert
+				Assertions.assertTrue( output );
+				Assertions.assertNull( point.getRule() );
+				Assertions.assertFalse( scheduler.cancel( scenario ) );
+			}
+		}
+
+	}
+
+	@Nested
+	class start {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			ChaosScenario scenario = ChaosScenario.on( point.getName() ).fail( randomFault(), 1, SECOND ).build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( scenario ).start( Duration.ofMillis( 1 ) );
+				// Act
+				advance( SECOND );
+				// Assert
+				long deadline = System.nanoTime() + SECOND.toNanos() * 5;
+				while ( scheduler.getRunning() > 0 && System.nanoTime() < deadline ) Thread.onSpinWait();
+				Assertions.assertEquals( 0, scheduler.getRunning() );
+				Assertions.assertNull( point.getRule() );
+			}
+		}
+
+		@Test
+		void tickFailure() {
+			// Arrange
+			String name = randomName();
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			InjectionPoint<RuntimeException> other = InjectionPoint.named( randomName(), RuntimeException.class );
+			ChaosScenario failing = ChaosScenario.on( name )
+				.fail( randomFault(), 1, SECOND )
+				.fail( fault, 1, SECOND )
+				.build();
+			ChaosScenario scenario = ChaosScenario.on( other.getName() )
+				.fail( randomFault(), 1, SECOND.multipliedBy( 3 ) )
+				.build();
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				scheduler.schedule( failing ).schedule( scenario );
+				InjectionPoint<RuntimeException> point = InjectionPoint.named( name, RuntimeException.class );
+				scheduler.start( Duration.ofMillis( 1 ) );
+				// Act
+				advance( SECOND );
+				awaitUntil( () -> point.getRule() == null );
+				advance( SECOND.multipliedBy( 2 ) );
+				// Assert
+				awaitUntil( () -> scheduler.getRunning() == 0 );
+				Assertions.assertEquals( 0, scheduler.getRunning() );
+				Assertions.assertNull( other.getRule() );
+			}
+		}
+
+		@Test
+		void twice() {
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				// Arrange
+				scheduler.start( SECOND );
+				// Act
+				try {
+					scheduler.start( SECOND );
+					Assertions.fail();
+				}
+				// Assert
+				catch ( IllegalStateException e ) {
+					Assertions.assertEquals( STARTED, e.getMessage() );
+				}
+			}
+		}
+
+		@Test
+		void interval_notPositive() {
+			try ( ChaosScheduler scheduler = new ChaosScheduler( clock::get ) ) {
+				// Arrange
+				// Act
+				try {
+					scheduler.start( Duration.ZERO );
+					Assertions.fail();
+				}
+				// Assert
+				catch ( IllegalArgumentException e ) {
+					Assertions.assertEquals( TICK_TEMPLATE.formatted( Duration.ZERO ), e.getMessage() );
+				}
+			}
+		}
+
+	}
+
+	@Test
+	void close() {
+		// Arrange
+		InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+		ChaosScheduler scheduler = new ChaosScheduler( clock::get )
+			.schedule( ChaosScenario.on( point.getName() ).fail( randomFault(), 1, SECOND ).build() )
+			.start( SECOND );
+		// Act
+		scheduler.close();
+		// Assert
+		Assertions.assertNull( point.getRule() );
+		Assertions.assertEquals( 0, scheduler.getRunning() );
+	}
+
+	private static void awaitUntil( BooleanSupplier condition ) {
+		long deadline = System.nanoTime() + SECOND.toNanos() * 5;
+		while ( ! condition.getAsBoolean() && System.nanoTime() < deadline ) Thread.onSpinWait();
+	}
+
+	private void advance( Duration duration ) {
+		clock.addAndGet( duration.toNanos() );
+	}
+
+	private String randomName() {
+		return UUID.randomUUID().toString();
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Constructor;
 import java.util.Random;
 import java.util.UUID;
 
@@ -61,10 +62,14 @@ class ConstructorResolverTest {
 
 		@Test
 		void genericallyTypedParameter() {
-			error(
-				ObjectConstructor.class,
-				CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( ObjectConstructor.class )
-			);
+			// Arrange
+			UUID argument = random();
+			ConstructorResolver<ObjectConstructor> resolver = ConstructorResolver.using( ObjectConstructor.class )
+				.tryParameters( UUID.class );
+			// Act
+			ObjectConstructor output = resolver.create( argument );
+			// Assert
+			Assertions.assertEquals( argument, output.value );
 		}
 
 		@Test
@@ -122,6 +127,14 @@ class ConstructorResolverTest {
 			);
 		}
 
+		@Test
+		void protectedConstructor() {
+			error(
+				ProtectedConstructor.class,
+				CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( ProtectedConstructor.class )
+			);
+		}
+
 		@Test
 		void abstractClass() {
 			error(
@@ -176,6 +189,74 @@ class ConstructorResolverTest {
 			}
 		}
 
+		@Test
+		void runtimeType() {
+			// Arrange
+			IllegalStateException argument = new IllegalStateException();
+			ConstructorResolver<NarrowConstructor> resolver = ConstructorResolver.using( NarrowConstructor.class )
+				.tryParameters( RuntimeException.class );
+			// Act
+			NarrowConstructor output = resolver.create( argument );
+			// Assert
+			Assertions.assertSame( argument, output.value );
+		}
+
+		@Test
+		void runtimeType_notApplicable() {
+			// Arrange
+			ConstructorResolver<NarrowConstructor> resolver = ConstructorResolver.using( NarrowConstructor.class )
+				.tryParameters( RuntimeException.class );
+			// Act
+			try {
+				resolver.create( new IllegalArgumentException() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( NarrowConstructor.class ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void nullArgument() {
+			// Arrange
+			ConstructorResolver<StandardConstructor> resolver = ConstructorResolver.using( StandardConstructor.class )
+				.tryParameters( UUID.class );
+			// Act
+			StandardConstructor output = resolver.create( ( Object ) null );
+			// Assert
+			Assertions.assertNull( output.value );
+		}
+
+		@Test
+		void unboxing() {
+			// Arrange
+			int argument = random.nextInt();
+			ConstructorResolver<PrimitiveConstructor> resolver = ConstructorResolver.using( PrimitiveConstructor.class )
+				.tryParameters( int.class );
+			// Act
+			PrimitiveConstructor output = resolver.create( argument );
+			// Assert
+			Assertions.assertEquals( argument, output.value );
+		}
+
+		@Test
+		void allowNonPublic() {
+			// Arrange
+			UUID argument = random();
+			ConstructorResolver<InaccessibleConstructor> resolver =
+				ConstructorResolver.using( InaccessibleConstructor.class )
+				.allowNonPublic()
+				.tryParameters( UUID.class );
+			// Act
+			InaccessibleConstructor output = resolver.create( argument );
+			// Assert
+			Assertions.assertEquals( argument, output.value );
+		}
+
 		@Test
 		void noParametersProvided() {
 			// Arrange
@@ -197,6 +278,197 @@ class ConstructorResolverTest {
 
 	}
 
+	@Nested
+	class acceptsNarrower {
+
+		@Test
+		void narrower() {
+			// Arrange
+			ConstructorResolver<NarrowConstructor> resolver = ConstructorResolver.using( NarrowConstructor.class )
+				.tryParameters( RuntimeException.class );
+			// Act
+			boolean output = resolver.acceptsNarrower();
+			// Assert
+			Assertions.assertTrue( output );
+		}
+
+		@Test
+		void unrelated() {
+			// Arrange
+			ConstructorResolver<NarrowConstructor> resolver = ConstructorResolver.using( NarrowConstructor.class )
+				.tryParameters( UUID.class );
+			// Act
+			boolean output = resolver.acceptsNarrower();
+			// Assert
+			Assertions.assertFalse( output );
+		}
+
+	}
+
+	@Nested
+	class resolve {
+
+		@Test
+		void happyPath() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<StandardConstructor> resolver = ConstructorResolver.using( StandardConstructor.class )
+				.tryParameters( UUID.class );
+			// Act
+			Constructor<StandardConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( StandardConstructor.class.getConstructor( UUID.class ), output );
+		}
+
+		@Test
+		void allowProtected() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<ProtectedConstructor> resolver = ConstructorResolver.using( ProtectedConstructor.class )
+				.allowProtected()
+				.tryParameters( UUID.class );
+			// Act
+			Constructor<ProtectedConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( ProtectedConstructor.class.getDeclaredConstructor( UUID.class ), output );
+		}
+
+		@Test
+		void supertype() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<SupertypeConstructor> resolver = ConstructorResolver.using( SupertypeConstructor.class )
+				.tryParameters( String.class );
+			// Act
+			Constructor<SupertypeConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( SupertypeConstructor.class.getConstructor( CharSequence.class ), output );
+		}
+
+		@Test
+		void mostSpecific() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<SupertypeConstructor> resolver = ConstructorResolver.using( SupertypeConstructor.class )
+				.tryParameters( StringBuilder.class );
+			// Act
+			Constructor<SupertypeConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( SupertypeConstructor.class.getConstructor( CharSequence.class ), output );
+		}
+
+		@Test
+		void primitiveWidening() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<PrimitiveConstructor> resolver = ConstructorResolver.using( PrimitiveConstructor.class )
+				.tryParameters( char.class );
+			// Act
+			Constructor<PrimitiveConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( PrimitiveConstructor.class.getConstructor( int.class ), output );
+		}
+
+		@Test
+		void wideningBeforeBoxing() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<PrimitiveConstructor> resolver = ConstructorResolver.using( PrimitiveConstructor.class )
+				.tryParameters( byte.class );
+			// Act
+			Constructor<PrimitiveConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( PrimitiveConstructor.class.getConstructor( int.class ), output );
+		}
+
+		@Test
+		void boxing() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<PrimitiveConstructor> resolver = ConstructorResolver.using( PrimitiveConstructor.class )
+				.tryParameters( boolean.class );
+			// Act
+			Constructor<PrimitiveConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( PrimitiveConstructor.class.getConstructor( Object.class ), output );
+		}
+
+		@Test
+		void subtypingBeforeUnboxing() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<PrimitiveConstructor> resolver = ConstructorResolver.using( PrimitiveConstructor.class )
+				.tryParameters( Character.class );
+			// Act
+			Constructor<PrimitiveConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( PrimitiveConstructor.class.getConstructor( Object.class ), output );
+		}
+
+		@Test
+		void ambiguous() {
+			// Arrange
+			ConstructorResolver<AmbiguousConstructor> resolver = ConstructorResolver.using( AmbiguousConstructor.class )
+				.tryParameters( String.class, String.class );
+			// Act
+			try {
+				resolver.resolve();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					AMBIGUOUS_CONSTRUCTOR_TEMPLATE.formatted(
+						AmbiguousConstructor.class,
+						"(java.lang.String, java.lang.String)"
+					),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void memoised() {
+			// Arrange
+			Constructor<StandardConstructor> expected = ConstructorResolver.using( StandardConstructor.class )
+				.tryParameters( UUID.class )
+				.resolve();
+			// Act
+			Constructor<StandardConstructor> output = ConstructorResolver.using( StandardConstructor.class )
+				.tryParameters( UUID.class )
+				.resolve();
+			// Assert
+			Assertions.assertSame( expected, output );
+		}
+
+		@Test
+		void allowNonPublic() throws NoSuchMethodException {
+			// Arrange
+			ConstructorResolver<InaccessibleConstructor> resolver =
+				ConstructorResolver.using( InaccessibleConstructor.class )
+				.allowNonPublic()
+				.tryParameters( UUID.class );
+			// Act
+			Constructor<InaccessibleConstructor> output = resolver.resolve();
+			// Assert
+			Assertions.assertEquals( InaccessibleConstructor.class.getDeclaredConstructor( UUID.class ), output );
+		}
+
+		@Test
+		void allowProtected_private() {
+			// Arrange
+			ConstructorResolver<InaccessibleConstructor> resolver =
+				ConstructorResolver.using( InaccessibleConstructor.class )
+				.allowProtected()
+				.tryParameters( UUID.class );
+			// Act
+			try {
+				resolver.resolve();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( InaccessibleConstructor.class ),
+					e.getMessage()
+				);
+			}
+		}
+
+	}
+
 	private UUID random() {
 		return UUID.randomUUID();
 	}
@@ -242,10 +514,51 @@ class ConstructorResolverTest {
 		}
 	}
 
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class NarrowConstructor {
+		final IllegalStateException value;
+		public NarrowConstructor( IllegalStateException value ) {
+			this.value = value;
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class SupertypeConstructor {
+		public SupertypeConstructor( CharSequence value ) {}
+		public SupertypeConstructor( Object value ) {}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class PrimitiveConstructor {
+		final Object value;
+		public PrimitiveConstructor( int value ) {
+			this.value = value;
+		}
+		public PrimitiveConstructor( long value ) {
+			this.value = value;
+		}
+		public PrimitiveConstructor( Object value ) {
+			this.value = value;
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class AmbiguousConstructor {
+		public AmbiguousConstructor( CharSequence first, Object second ) {}
+		public AmbiguousConstructor( Object first, CharSequence second ) {}
+	}
+
 	static class NoArgConstructor {}
 
 	static final class InaccessibleConstructor {
-		private InaccessibleConstructor( UUID value ) {}
+		final UUID value;
+		private InaccessibleConstructor( UUID value ) {
+			this.value = value;
+		}
+	}
+
+	static class ProtectedConstructor {
+		protected ProtectedConstructor( UUID value ) {}
 	}
 
 	@SuppressWarnings( "checkstyle:RedundantModifier" )
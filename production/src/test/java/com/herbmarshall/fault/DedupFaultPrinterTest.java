@@ -0,0 +1,396 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.herbmarshall.fault.DedupFaultPrinter.CAPACITY_TEMPLATE;
+import static com.herbmarshall.fault.DedupFaultPrinter.REPEATED_TEMPLATE;
+import static com.herbmarshall.fault.DedupFaultPrinter.WINDOW_TEMPLATE;
+
+class DedupFaultPrinterTest {
+
+	private static final long WINDOW = Duration.ofSeconds( 1 ).toNanos();
+
+	@Nested
+	class print {
+
+		@Test
+		void collapsed() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			AtomicLong time = new AtomicLong();
+			DedupFaultPrinter printer = printer( stream, time );
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			List<Boolean> output = new ArrayList<>();
+			for ( int i = 0; i < 5; i++ ) output.add( printer.print( fault ) );
+			// Assert
+			Assertions.assertEquals( List.of( true, false, false, false, false ), output );
+			Assertions.assertEquals( lines( fault.toString() ), text( stream ) );
+		}
+
+		@Test
+		void windowCloses() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			AtomicLong time = new AtomicLong();
+			DedupFaultPrinter printer = printer( stream, time );
+			Fault<IllegalStateException> fault = randomFault();
+			printer.print( fault );
+			printer.print( fault );
+			printer.print( fault );
+			time.addAndGet( WINDOW );
+			// Act
+			boolean output = printer.print( fault );
+			// Assert
+			Assertions.assertTrue( output );
+			Assertions.assertEquals(
+				lines( fault.toString(), REPEATED_TEMPLATE.formatted( fault, 2 ), fault.toString() ),
+				text( stream )
+			);
+		}
+
+		@Test
+		void sweep() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			AtomicLong time = new AtomicLong();
+			DedupFaultPrinter printer = printer( stream, time );
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalStateException> second = randomFault();
+			printer.print( first );
+			printer.print( first );
+			time.addAndGet( WINDOW );
+			// Act
+			printer.print( second );
+			// Assert
+			Assertions.assertEquals(
+				lines( first.toString(), REPEATED_TEMPLATE.formatted( first, 1 ), second.toString() ),
+				text( stream )
+			);
+			Assertions.assertEquals( 1, printer.size() );
+		}
+
+		@Test
+		void distinct() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = printer( stream, new AtomicLong() );
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalStateException> second = randomFault();
+			// Act
+			boolean output = printer.print( first ) & printer.print( second );
+			// Assert
+			Assertions.assertTrue( output );
+			Assertions.assertEquals( lines( first.toString(), second.toString() ), text( stream ) );
+		}
+
+		@Test
+		void equalFaults() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = printer( stream, new AtomicLong() );
+			String message = randomString();
+			printer.print( new Fault<>( IllegalStateException.class, message ) );
+			// Act
+			boolean output = printer.print( Fault.lazy( IllegalStateException.class, () -> message ) );
+			// Assert
+			Assertions.assertFalse( output );
+		}
+
+		@Test
+		void bounded() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = DedupFaultPrinter.to( stream )
+				.capacity( 4 )
+				.clock( new AtomicLong()::get )
+				.build();
+			List<Fault<IllegalStateException>> faults = new ArrayList<>();
+			for ( int i = 0; i < 100; i++ ) faults.add( randomFault() );
+			// Act
+			for ( Fault<IllegalStateException> fault : faults ) {
+				printer.print( fault );
+				printer.print( fault );
+			}
+			// Assert
+			Assertions.assertTrue( printer.size() <= 4 );
+			String output = text( stream );
+			for ( Fault<IllegalStateException> fault : faults ) {
+				Assertions.assertTrue( output.contains( fault.toString() ) );
+			}
+		}
+
+		@Test
+		void sameSlot() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = printer( stream, new AtomicLong() );
+			Fault<IllegalStateException> first = new Fault<>( IllegalStateException.class, "Aa" );
+			Fault<IllegalStateException> second = new Fault<>( IllegalStateException.class, "BB" );
+			Assertions.assertEquals( first.hashCode(), second.hashCode() );
+			// Act
+			for ( int i = 0; i < 10; i++ ) {
+				printer.print( first );
+				printer.print( second );
+			}
+			// Assert
+			Assertions.assertEquals( lines( first.toString(), second.toString() ), text( stream ) );
+			Assertions.assertEquals( 2, printer.size() );
+		}
+
+		@Test
+		void full() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = DedupFaultPrinter.to( stream )
+				.capacity( 2 )
+				.clock( new AtomicLong()::get )
+				.build();
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalStateException> second = randomFault();
+			Fault<IllegalStateException> third = randomFault();
+			printer.print( first );
+			printer.print( second );
+			// Act
+			List<Boolean> output = List.of( printer.print( third ), printer.print( third ), printer.print( first ) );
+			// Assert
+			Assertions.assertEquals( List.of( true, true, false ), output );
+			Assertions.assertEquals( 2, printer.size() );
+		}
+
+		@Test
+		void expiredEvicted() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			AtomicLong time = new AtomicLong();
+			DedupFaultPrinter printer = DedupFaultPrinter.to( stream )
+				.window( Duration.ofNanos( WINDOW ) )
+				.capacity( 2 )
+				.clock( time::get )
+				.build();
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalStateException> second = randomFault();
+			printer.print( first );
+			printer.print( first );
+			printer.print( second );
+			time.addAndGet( WINDOW );
+			Fault<IllegalStateException> third = randomFault();
+			// Act
+			boolean output = printer.print( third ) & ! printer.print( third );
+			// Assert
+			Assertions.assertTrue( output );
+			Assertions.assertEquals(
+				lines( first.toString(), second.toString(), REPEATED_TEMPLATE.formatted( first, 1 ), third.toString() ),
+				text( stream )
+			);
+		}
+
+		@Test
+		void concurrent() throws InterruptedException {
+			// Arrange
+			int threads = 8;
+			int perThread = 10_000;
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = printer( stream, new AtomicLong() );
+			Fault<IllegalStateException> fault = randomFault();
+			List<Thread> workers = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				workers.add( new Thread( () -> {
+					for ( int i = 0; i < perThread; i++ ) printer.print( fault );
+				} ) );
+			}
+			// Act
+			for ( Thread worker : workers ) worker.start();
+			for ( Thread worker : workers ) worker.join();
+			printer.flush();
+			// Assert
+			Assertions.assertEquals(
+				lines( fault.toString(), REPEATED_TEMPLATE.formatted( fault, threads * perThread - 1 ) ),
+				text( stream )
+			);
+		}
+
+		@Test
+		void writeFailure() {
+			// Arrange
+			IOException error = new IOException( randomString() );
+			OutputStream stream = new OutputStream() {
+				@Override
+				public void write( int b ) throws IOException {
+					throw error;
+				}
+			};
+			DedupFaultPrinter printer = DedupFaultPrinter.to( stream ).build();
+			// Act
+			try {
+				printer.print( randomFault() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UncheckedIOException e ) {
+				Assertions.assertSame( error, e.getCause() );
+			}
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			DedupFaultPrinter printer = DedupFaultPrinter.to( new ByteArrayOutputStream() ).build();
+			// Act
+			try {
+				printer.print( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class flush {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			DedupFaultPrinter printer = printer( stream, new AtomicLong() );
+			Fault<IllegalStateException> repeated = randomFault();
+			Fault<IllegalStateException> single = randomFault();
+			printer.print( repeated );
+			printer.print( repeated );
+			printer.print( single );
+			// Act
+			printer.flush();
+			// Assert
+			Assertions.assertEquals(
+				lines( repeated.toString(), single.toString(), REPEATED_TEMPLATE.formatted( repeated, 1 ) ),
+				text( stream )
+			);
+			Assertions.assertEquals( 0, printer.size() );
+			Assertions.assertTrue( printer.print( repeated ) );
+		}
+
+	}
+
+	@Test
+	void close() {
+		// Arrange
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		DedupFaultPrinter printer = printer( stream, new AtomicLong() );
+		Fault<IllegalStateException> fault = randomFault();
+		printer.print( fault );
+		printer.print( fault );
+		printer.print( fault );
+		// Act
+		printer.close();
+		// Assert
+		Assertions.assertEquals( lines( fault.toString(), REPEATED_TEMPLATE.formatted( fault, 2 ) ), text( stream ) );
+	}
+
+	@Nested
+	class builder {
+
+		@Test
+		void window_zero() {
+			// Arrange
+			DedupFaultPrinter.Builder builder = DedupFaultPrinter.to( new ByteArrayOutputStream() );
+			// Act
+			try {
+				builder.window( Duration.ZERO );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( WINDOW_TEMPLATE.formatted( Duration.ZERO ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void window_null() {
+			// Arrange
+			DedupFaultPrinter.Builder builder = DedupFaultPrinter.to( new ByteArrayOutputStream() );
+			// Act
+			try {
+				builder.window( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "window" ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void capacity_zero() {
+			// Arrange
+			DedupFaultPrinter.Builder builder = DedupFaultPrinter.to( new ByteArrayOutputStream() );
+			// Act
+			try {
+				builder.capacity( 0 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( CAPACITY_TEMPLATE.formatted( 0 ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void stream_null() {
+			// Arrange
+			OutputStream stream = null;
+			// Act
+			try {
+				DedupFaultPrinter.to( stream );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "stream" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private static DedupFaultPrinter printer( OutputStream stream, AtomicLong time ) {
+		return DedupFaultPrinter.to( stream )
+			.window( Duration.ofNanos( WINDOW ) )
+			.clock( time::get )
+			.build();
+	}
+
+	private static String text( ByteArrayOutputStream stream ) {
+		return stream.toString( StandardCharsets.UTF_8 );
+	}
+
+	private static String lines( String... lines ) {
+		StringBuilder builder = new StringBuilder();
+		for ( String line : lines ) builder.append( line ).append( System.lineSeparator() );
+		return builder.toString();
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,211 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FactoryRegistry.PROVIDER_FAILURE_TEMPLATE;
+
+@SuppressWarnings( "unused" )
+class FactoryRegistryTest {
+
+	@Nested
+	class message {
+
+		@Test
+		void registered() {
+			// Arrange
+			String message = randomString();
+			// Act
+			Registered output = FactoryRegistry.message( Registered.class ).apply( message );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertTrue( output.provided );
+		}
+
+		@Test
+		void notRegistered() {
+			// Arrange
+			// Act
+			Object output = FactoryRegistry.message( IllegalStateException.class );
+			// Assert
+			Assertions.assertNull( output );
+		}
+
+		@Test
+		void usedByFault() {
+			// Arrange
+			Fault<Registered> fault = new Fault<>( Registered.class, randomString() );
+			// Act
+			Registered output = fault.build();
+			// Assert
+			Assertions.assertTrue( output.provided );
+		}
+
+	}
+
+	@Nested
+	class caused {
+
+		@Test
+		void registered() {
+			// Arrange
+			String message = randomString();
+			Throwable cause = new Exception();
+			// Act
+			Registered output = FactoryRegistry.caused( Registered.class ).apply( message, cause );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertSame( cause, output.getCause() );
+			Assertions.assertTrue( output.provided );
+		}
+
+		@Test
+		void notProvided() {
+			// Arrange
+			// Act
+			Object output = FactoryRegistry.caused( MessageOnly.class );
+			// Assert
+			Assertions.assertNull( output );
+		}
+
+		@Test
+		void usedByFault() {
+			// Arrange
+			Fault<Registered> fault = new Fault<>( Registered.class, randomString() );
+			// Act
+			Registered output = fault.build( new Exception() );
+			// Assert
+			Assertions.assertTrue( output.provided );
+		}
+
+	}
+
+	@Nested
+	class load {
+
+		@Test
+		void failingProvider() {
+			// Arrange
+			List<ServiceConfigurationError> failures = new ArrayList<>();
+			FaultFactoryProvider failing = new Failing();
+			// Act
+			Map<Class<?>, FactoryRegistry.Registration<?>> output = FactoryRegistry.load(
+				List.of( failing, new Provider() ).iterator(),
+				failures::add
+			);
+			// Assert
+			Assertions.assertEquals( 1, failures.size() );
+			Assertions.assertEquals(
+				PROVIDER_FAILURE_TEMPLATE.formatted( Failing.class ),
+				failures.get( 0 ).getMessage()
+			);
+			Assertions.assertEquals( IllegalStateException.class, failures.get( 0 ).getCause().getClass() );
+			Assertions.assertFalse( output.containsKey( IllegalStateException.class ) );
+			Assertions.assertTrue( output.containsKey( Registered.class ) );
+		}
+
+		@Test
+		void configurationError() {
+			// Arrange
+			List<ServiceConfigurationError> failures = new ArrayList<>();
+			ServiceConfigurationError error = new ServiceConfigurationError( randomString() );
+			Iterator<FaultFactoryProvider> providers = new Iterator<>() {
+				private int index = 0;
+				@Override
+				public boolean hasNext() {
+					return index < 2;
+				}
+				@Override
+				public FaultFactoryProvider next() {
+					if ( index++ == 0 ) throw error;
+					return new Provider();
+				}
+			};
+			// Act
+			Map<Class<?>, FactoryRegistry.Registration<?>> output = FactoryRegistry.load( providers, failures::add );
+			// Assert
+			Assertions.assertEquals( List.of( error ), failures );
+			Assertions.assertTrue( output.containsKey( Registered.class ) );
+		}
+
+		@Test
+		void noProviders() {
+			// Arrange
+			List<ServiceConfigurationError> failures = new ArrayList<>();
+			// Act
+			Map<Class<?>, FactoryRegistry.Registration<?>> output = FactoryRegistry.load(
+				List.<FaultFactoryProvider>of().iterator(),
+				failures::add
+			);
+			// Assert
+			Assertions.assertEquals( Map.of(), output );
+			Assertions.assertEquals( List.of(), failures );
+		}
+
+	}
+
+	private String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+	/** Registered through {@code META-INF/services} in the test resources. */
+	public static final class Provider implements FaultFactoryProvider {
+
+		@Override
+		public void register( Registrar registrar ) {
+			registrar.register(
+				Registered.class,
+				message -> new Registered( message, null, true ),
+				( message, cause ) -> new Registered( message, cause, true )
+			);
+			registrar.register(
+				MessageOnly.class,
+				MessageOnly::new,
+				null
+			);
+		}
+
+	}
+
+	/** Registers one type, then fails. */
+	static final class Failing implements FaultFactoryProvider {
+
+		@Override
+		public void register( Registrar registrar ) {
+			registrar.register( IllegalStateException.class, IllegalStateException::new, IllegalStateException::new );
+			throw new IllegalStateException( "Expected Failure" );
+		}
+
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class Registered extends Exception {
+		final boolean provided;
+		public Registered( String message ) {
+			this( message, null, false );
+		}
+		public Registered( String message, Throwable cause ) {
+			this( message, cause, false );
+		}
+		Registered( String message, Throwable cause, boolean provided ) {
+			super( message, cause );
+			this.provided = provided;
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class MessageOnly extends Exception {
+		public MessageOnly( String message ) {
+			super( message );
+		}
+	}
+
+}
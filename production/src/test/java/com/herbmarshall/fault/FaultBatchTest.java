@@ -0,0 +1,233 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultBatch.DEFAULT_LIMIT;
+import static com.herbmarshall.fault.FaultBatch.DROPPED_TEMPLATE;
+import static com.herbmarshall.fault.FaultBatch.LIMIT_TEMPLATE;
+
+class FaultBatchTest {
+
+	@Nested
+	class build {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> parent = randomFault();
+			Fault<IllegalArgumentException> first = new Fault<>( IllegalArgumentException.class, randomString() );
+			Fault<IOException> second = new Fault<>( IOException.class, randomString() );
+			IOException cause = new IOException();
+			FaultBatch<IllegalStateException> batch = parent.batch()
+				.add( first )
+				.add( second, cause );
+			// Act
+			IllegalStateException output = batch.build();
+			// Assert
+			Assertions.assertEquals( parent.getMessage(), output.getMessage() );
+			Throwable[] suppressed = output.getSuppressed();
+			Assertions.assertEquals( 2, suppressed.length );
+			Assertions.assertEquals( IllegalArgumentException.class, suppressed[ 0 ].getClass() );
+			Assertions.assertEquals( first.getMessage(), suppressed[ 0 ].getMessage() );
+			Assertions.assertNull( suppressed[ 0 ].getCause() );
+			Assertions.assertNotEquals( 0, suppressed[ 0 ].getStackTrace().length );
+			Assertions.assertEquals( IOException.class, suppressed[ 1 ].getClass() );
+			Assertions.assertEquals( second.getMessage(), suppressed[ 1 ].getMessage() );
+			Assertions.assertSame( cause, suppressed[ 1 ].getCause() );
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			Fault<IllegalStateException> parent = randomFault();
+			FaultBatch<IllegalStateException> batch = parent.batch();
+			// Act
+			IllegalStateException output = batch.build();
+			// Assert
+			Assertions.assertEquals( parent.getMessage(), output.getMessage() );
+			Assertions.assertEquals( 0, output.getSuppressed().length );
+		}
+
+		@Test
+		void lightweight() {
+			// Arrange
+			Fault<IllegalStateException> parent = randomFault();
+			Fault<FaultTest.Stackless> child = new Fault<>( FaultTest.Stackless.class, randomString() );
+			IOException cause = new IOException();
+			FaultBatch<IllegalStateException> batch = parent.batch()
+				.lightweight()
+				.add( child )
+				.add( child, cause );
+			// Act
+			IllegalStateException output = batch.build();
+			// Assert
+			Assertions.assertNotEquals( 0, output.getStackTrace().length );
+			Throwable[] suppressed = output.getSuppressed();
+			Assertions.assertEquals( 2, suppressed.length );
+			Assertions.assertEquals( 0, suppressed[ 0 ].getStackTrace().length );
+			Assertions.assertNull( suppressed[ 0 ].getCause() );
+			Assertions.assertEquals( 0, suppressed[ 1 ].getStackTrace().length );
+			Assertions.assertSame( cause, suppressed[ 1 ].getCause() );
+		}
+
+		@Test
+		void dropped() {
+			// Arrange
+			Fault<IllegalStateException> parent = randomFault();
+			Fault<IllegalStateException> kept = randomFault();
+			FaultBatch<IllegalStateException> batch = parent.batch()
+				.limit( 1 )
+				.add( kept )
+				.add( randomFault() )
+				.add( randomFault() );
+			// Act
+			IllegalStateException output = batch.build();
+			// Assert
+			Assertions.assertEquals( DROPPED_TEMPLATE.formatted( parent.getMessage(), 2 ), output.getMessage() );
+			Assertions.assertEquals( 1, output.getSuppressed().length );
+			Assertions.assertEquals( kept.getMessage(), output.getSuppressed()[ 0 ].getMessage() );
+		}
+
+		@Test
+		void repeatable() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch().add( randomFault() );
+			// Act
+			IllegalStateException output = batch.build();
+			// Assert
+			IllegalStateException other = batch.build();
+			Assertions.assertNotSame( output, other );
+			Assertions.assertNotSame( output.getSuppressed()[ 0 ], other.getSuppressed()[ 0 ] );
+		}
+
+	}
+
+	@Nested
+	class limit {
+
+		@Test
+		void defaultLimit() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch();
+			// Act
+			for ( int i = 0; i <= DEFAULT_LIMIT; i++ ) batch.add( randomFault() );
+			// Assert
+			Assertions.assertEquals( DEFAULT_LIMIT, batch.size() );
+			Assertions.assertEquals( 1, batch.getDropped() );
+		}
+
+		@Test
+		void shrink() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch()
+				.add( randomFault() )
+				.add( randomFault() )
+				.add( randomFault() );
+			// Act
+			batch.limit( 1 );
+			// Assert
+			Assertions.assertEquals( 1, batch.size() );
+			Assertions.assertEquals( 2, batch.getDropped() );
+		}
+
+		@Test
+		void notPositive() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch();
+			// Act
+			try {
+				batch.limit( 0 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( LIMIT_TEMPLATE.formatted( 0 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class add {
+
+		@Test
+		void fault_null() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch();
+			// Act
+			try {
+				batch.add( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class addAll {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			List<Fault<IllegalStateException>> faults = List.of( randomFault(), randomFault() );
+			FaultBatch<IllegalStateException> batch = randomFault().batch();
+			// Act
+			batch.addAll( faults );
+			// Assert
+			Throwable[] suppressed = batch.build().getSuppressed();
+			Assertions.assertEquals( faults.get( 0 ).getMessage(), suppressed[ 0 ].getMessage() );
+			Assertions.assertEquals( faults.get( 1 ).getMessage(), suppressed[ 1 ].getMessage() );
+		}
+
+		@Test
+		void faults_null() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch();
+			// Act
+			try {
+				batch.addAll( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "faults" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class isEmpty {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			FaultBatch<IllegalStateException> batch = randomFault().batch();
+			// Act
+			boolean output = batch.isEmpty();
+			// Assert
+			Assertions.assertTrue( output );
+			Assertions.assertFalse( batch.add( randomFault() ).isEmpty() );
+		}
+
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
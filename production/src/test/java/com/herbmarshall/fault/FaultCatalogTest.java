@@ -0,0 +1,213 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.herbmarshall.fault.FaultCatalog.NOT_CATALOGUED_TEMPLATE;
+import static com.herbmarshall.fault.FaultCatalog.UNKNOWN_CODE_TEMPLATE;
+
+class FaultCatalogTest {
+
+	@Nested
+	class intern {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			Fault<IllegalStateException> output = catalog.intern( fault );
+			// Assert
+			Assertions.assertSame( fault, output );
+			Assertions.assertEquals( 0, catalog.codeOf( fault ) );
+			Assertions.assertEquals( 1, catalog.size() );
+		}
+
+		@Test
+		void equal() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			Fault<IllegalStateException> fault = randomFault();
+			catalog.intern( fault );
+			// Act
+			Fault<IllegalStateException> output = catalog.intern(
+				new Fault<>( IllegalStateException.class, fault.getMessage() )
+			);
+			// Assert
+			Assertions.assertSame( fault, output );
+			Assertions.assertEquals( 1, catalog.size() );
+		}
+
+		@Test
+		void denseCodes() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			List<Fault<?>> faults = new ArrayList<>();
+			for ( int i = 0; i < 200; i++ ) faults.add( randomFault() );
+			// Act
+			faults.forEach( catalog::intern );
+			// Assert
+			for ( int i = 0; i < faults.size(); i++ ) {
+				Assertions.assertEquals( i, catalog.codeOf( faults.get( i ) ) );
+				Assertions.assertSame( faults.get( i ), catalog.byCode( i ) );
+			}
+		}
+
+		@Test
+		void concurrent() throws Exception {
+			// Arrange
+			int threads = 8;
+			FaultCatalog catalog = new FaultCatalog();
+			List<Fault<?>> faults = new ArrayList<>();
+			for ( int i = 0; i < 500; i++ ) faults.add( randomFault() );
+			ExecutorService executor = Executors.newFixedThreadPool( threads );
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				// Act
+				for ( int t = 0; t < threads; t++ ) {
+					futures.add( executor.submit( () -> faults.forEach( catalog::intern ) ) );
+				}
+				for ( Future<?> future : futures ) future.get();
+			}
+			finally {
+				executor.shutdown();
+			}
+			// Assert
+			Assertions.assertEquals( faults.size(), catalog.size() );
+			Set<Integer> codes = new HashSet<>();
+			for ( Fault<?> fault : faults ) {
+				int code = catalog.codeOf( fault );
+				codes.add( code );
+				Assertions.assertSame( fault, catalog.byCode( code ) );
+			}
+			Assertions.assertEquals( faults.size(), codes.size() );
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			// Act
+			try {
+				catalog.intern( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class byCode {
+
+		@Test
+		void unknown() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			catalog.intern( randomFault() );
+			// Act
+			try {
+				catalog.byCode( 1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( UNKNOWN_CODE_TEMPLATE.formatted( 1 ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void negative() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			// Act
+			try {
+				catalog.byCode( -1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( UNKNOWN_CODE_TEMPLATE.formatted( -1 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class lookup {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			Fault<IllegalStateException> fault = catalog.intern( randomFault() );
+			// Act
+			Fault<IllegalStateException> output = catalog.lookup( IllegalStateException.class, fault.getMessage() );
+			// Assert
+			Assertions.assertSame( fault, output );
+		}
+
+		@Test
+		void type_different() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			Fault<IllegalStateException> fault = catalog.intern( randomFault() );
+			// Act
+			Fault<?> output = catalog.lookup( IllegalArgumentException.class, fault.getMessage() );
+			// Assert
+			Assertions.assertNull( output );
+		}
+
+		@Test
+		void message_different() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			catalog.intern( randomFault() );
+			// Act
+			Fault<?> output = catalog.lookup( IllegalStateException.class, UUID.randomUUID().toString() );
+			// Assert
+			Assertions.assertNull( output );
+		}
+
+	}
+
+	@Nested
+	class codeOf {
+
+		@Test
+		void notCatalogued() {
+			// Arrange
+			FaultCatalog catalog = new FaultCatalog();
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			try {
+				catalog.codeOf( fault );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( NOT_CATALOGUED_TEMPLATE.formatted( fault ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
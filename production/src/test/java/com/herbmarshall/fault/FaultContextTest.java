@@ -0,0 +1,168 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultContext.INDEX_TEMPLATE;
+
+class FaultContextTest {
+
+	@Nested
+	class with {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String key = randomString();
+			String value = randomString();
+			// Act
+			FaultContext output = FaultContext.EMPTY.with( key, value );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			Assertions.assertEquals( key, output.keyAt( 0 ) );
+			Assertions.assertEquals( value, output.valueAt( 0 ) );
+			Assertions.assertEquals( value, output.get( key ) );
+			Assertions.assertTrue( FaultContext.EMPTY.isEmpty() );
+		}
+
+		@Test
+		void insertionOrder() {
+			// Arrange
+			FaultContext context = FaultContext.EMPTY.with( "b", 1 ).with( "a", 2 );
+			// Act
+			FaultContext output = context.with( "c", 3 );
+			// Assert
+			Assertions.assertEquals( "b", output.keyAt( 0 ) );
+			Assertions.assertEquals( "a", output.keyAt( 1 ) );
+			Assertions.assertEquals( "c", output.keyAt( 2 ) );
+			Assertions.assertEquals( 2, context.size() );
+		}
+
+		@Test
+		void replace() {
+			// Arrange
+			FaultContext context = FaultContext.EMPTY.with( "a", 1 ).with( "b", 2 );
+			// Act
+			FaultContext output = context.with( "a", 3 );
+			// Assert
+			Assertions.assertEquals( 2, output.size() );
+			Assertions.assertEquals( 3, output.get( "a" ) );
+			Assertions.assertEquals( "a", output.keyAt( 0 ) );
+			Assertions.assertEquals( 1, context.get( "a" ) );
+		}
+
+		@Test
+		void value_null() {
+			// Arrange
+			String key = randomString();
+			// Act
+			FaultContext output = FaultContext.EMPTY.with( key, null );
+			// Assert
+			Assertions.assertTrue( output.containsKey( key ) );
+			Assertions.assertNull( output.get( key ) );
+		}
+
+		@Test
+		void key_null() {
+			// Arrange
+			FaultContext context = FaultContext.EMPTY;
+			// Act
+			try {
+				context.with( null, randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "key" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class get {
+
+		@Test
+		void missing() {
+			// Arrange
+			FaultContext context = FaultContext.EMPTY.with( randomString(), randomString() );
+			// Act
+			Object output = context.get( randomString() );
+			// Assert
+			Assertions.assertNull( output );
+			Assertions.assertFalse( context.containsKey( randomString() ) );
+		}
+
+	}
+
+	@Nested
+	class keyAt {
+
+		@Test
+		void outOfBounds() {
+			// Arrange
+			FaultContext context = FaultContext.EMPTY.with( randomString(), randomString() );
+			// Act
+			try {
+				context.keyAt( 1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IndexOutOfBoundsException e ) {
+				Assertions.assertEquals( INDEX_TEMPLATE.formatted( 1, 1 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class valueAt {
+
+		@Test
+		void outOfBounds() {
+			// Arrange
+			FaultContext context = FaultContext.EMPTY;
+			// Act
+			try {
+				context.valueAt( -1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IndexOutOfBoundsException e ) {
+				Assertions.assertEquals( INDEX_TEMPLATE.formatted( -1, 0 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Test
+	void toString_() {
+		// Arrange
+		FaultContext context = FaultContext.EMPTY.with( "tenant", "acme" ).with( "request", 42 );
+		// Act
+		String output = context.toString();
+		// Assert
+		Assertions.assertEquals( "{tenant=acme, request=42}", output );
+		Assertions.assertEquals( "{}", FaultContext.EMPTY.toString() );
+	}
+
+	@Test
+	void equals_() {
+		// Arrange
+		FaultContext context = FaultContext.EMPTY.with( "a", 1 );
+		// Act
+		boolean output = context.equals( FaultContext.EMPTY.with( "a", 1 ) );
+		// Assert
+		Assertions.assertTrue( output );
+		Assertions.assertEquals( context.hashCode(), FaultContext.EMPTY.with( "a", 1 ).hashCode() );
+		Assertions.assertNotEquals( context, FaultContext.EMPTY.with( "a", 2 ) );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
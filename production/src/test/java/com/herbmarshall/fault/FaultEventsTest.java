@@ -0,0 +1,256 @@
+package com.herbmarshall.fault;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultEvents.PREFIX;
+
+class FaultEventsTest {
+
+	@Nested
+	class build {
+
+		@Test
+		void happyPath() throws IOException {
+			// Arrange
+			Fault<Uncached> fault = new Fault<>( Uncached.class, randomString() );
+			// Act
+			List<RecordedEvent> output = record( "Build", () -> {
+				fault.build();
+				fault.build();
+			} );
+			// Assert
+			Assertions.assertEquals( 2, output.size() );
+			assertFault( fault, output.get( 0 ) );
+			Assertions.assertFalse( output.get( 0 ).getBoolean( "cacheHit" ) );
+			Assertions.assertTrue( output.get( 1 ).getBoolean( "cacheHit" ) );
+			Assertions.assertFalse( output.get( 0 ).getBoolean( "caused" ) );
+			Assertions.assertFalse( output.get( 0 ).getBoolean( "lightweight" ) );
+		}
+
+		@Test
+		void cause() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			List<RecordedEvent> output = record( "Build", () -> fault.build( new RuntimeException() ) );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			assertFault( fault, output.get( 0 ) );
+			Assertions.assertTrue( output.get( 0 ).getBoolean( "caused" ) );
+		}
+
+		@Test
+		void lightweight() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			List<RecordedEvent> output = record( "Build", fault::buildLightweight );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			Assertions.assertTrue( output.get( 0 ).getBoolean( "lightweight" ) );
+			Assertions.assertFalse( output.get( 0 ).getBoolean( "caused" ) );
+		}
+
+		@Test
+		void batchDropped() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			Fault<IllegalStateException> kept = randomFault();
+			FaultBatch<IllegalStateException> batch = fault.batch().limit( 1 ).add( kept ).add( randomFault() );
+			// Act
+			List<RecordedEvent> output = record( "Build", batch::build );
+			// Assert
+			Assertions.assertEquals( 2, output.size() );
+			assertFault( kept, output.get( 1 ) );
+			assertFault( fault, output.get( 0 ) );
+			Assertions.assertFalse( output.get( 0 ).getBoolean( "caused" ) );
+		}
+
+		@Test
+		void template() throws IOException {
+			// Arrange
+			FaultTemplate<IllegalStateException> template = new FaultTemplate<>(
+				IllegalStateException.class,
+				randomString() + " {}"
+			);
+			// Act
+			List<RecordedEvent> output = record( "Build", () -> template.build( randomString() ) );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			assertFault( new Fault<>( template.getType(), template.getPattern() ), output.get( 0 ) );
+		}
+
+		@Test
+		void disabled() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			List<RecordedEvent> output = record( "Print", fault::build );
+			// Assert
+			Assertions.assertEquals( List.of(), output );
+		}
+
+	}
+
+	@Nested
+	class print {
+
+		@Test
+		void happyPath() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			// Act
+			List<RecordedEvent> output = record( "Print", () -> fault.print( stream ) );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			assertFault( fault, output.get( 0 ) );
+			Assertions.assertEquals( stream.size(), output.get( 0 ).getInt( "bytes" ) );
+		}
+
+		@Test
+		void printAll() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> faultA = randomFault();
+			Fault<IllegalStateException> faultB = randomFault().with( randomString(), randomString() );
+			Path file = Files.createTempFile( "faultEvents", ".log" );
+			// Act
+			List<RecordedEvent> output;
+			try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.WRITE ) ) {
+				output = record( "Print", () -> Fault.printAll( channel, faultA, faultB ) );
+			}
+			// Assert
+			Assertions.assertEquals( 2, output.size() );
+			assertFault( faultA, output.get( 0 ) );
+			assertFault( faultB, output.get( 1 ) );
+			Assertions.assertEquals( faultA.encodedLine().length, output.get( 0 ).getInt( "bytes" ) );
+			Assertions.assertEquals( faultB.encodedLine().length, output.get( 1 ).getInt( "bytes" ) );
+			Files.delete( file );
+		}
+
+	}
+
+	@Nested
+	class validate {
+
+		@Test
+		void failure() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			IllegalArgumentException error = new IllegalArgumentException( randomString() );
+			// Act
+			List<RecordedEvent> output = record( "ValidationFailure", () -> {
+				try {
+					fault.validate( error, new ByteArrayOutputStream() );
+					Assertions.fail();
+				}
+				catch ( AssertionError e ) {
+					Assertions.assertEquals( Fault.typeError( fault.getType(), error.getClass() ), e.getMessage() );
+				}
+			} );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			assertFault( fault, output.get( 0 ) );
+			Assertions.assertEquals(
+				IllegalArgumentException.class.getName(),
+				output.get( 0 ).<RecordedClass>getValue( "actualType" ).getName()
+			);
+			Assertions.assertEquals( error.getMessage(), output.get( 0 ).getString( "actualMessage" ) );
+		}
+
+		@Test
+		void template() throws IOException {
+			// Arrange
+			FaultTemplate<IllegalStateException> template = new FaultTemplate<>(
+				IllegalStateException.class,
+				randomString() + " {}"
+			);
+			IllegalStateException error = new IllegalStateException( randomString() );
+			// Act
+			List<RecordedEvent> output = record( "ValidationFailure", () -> {
+				try {
+					template.validate( error, new ByteArrayOutputStream() );
+					Assertions.fail();
+				}
+				catch ( AssertionError e ) {
+					Assertions.assertEquals(
+						FaultTemplate.messageError( template.getPattern(), error.getMessage() ),
+						e.getMessage()
+					);
+				}
+			} );
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			assertFault( new Fault<>( template.getType(), template.getPattern() ), output.get( 0 ) );
+			Assertions.assertEquals( error.getMessage(), output.get( 0 ).getString( "actualMessage" ) );
+		}
+
+		@Test
+		void success() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			List<RecordedEvent> output = record(
+				"ValidationFailure",
+				() -> fault.validate( fault.build(), new ByteArrayOutputStream() )
+			);
+			// Assert
+			Assertions.assertEquals( List.of(), output );
+		}
+
+	}
+
+	private static List<RecordedEvent> record( String event, Runnable action ) throws IOException {
+		Path file = Files.createTempFile( "faultEvents", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PREFIX + event );
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump( file );
+		}
+		return RecordingFile.readAllEvents( file ).stream()
+			.filter( recorded -> recorded.getEventType().getName().startsWith( PREFIX ) )
+			.toList();
+	}
+
+	private static void assertFault( Fault<?> fault, RecordedEvent event ) {
+		Assertions.assertEquals( fault.getType().getName(), event.<RecordedClass>getValue( "faultType" ).getName() );
+		Assertions.assertEquals( fault.getMessage(), event.getString( "message" ) );
+		Assertions.assertFalse( event.getDuration().isNegative() );
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+	/** Built by no other test, so its constructor is resolved by the first build here. */
+	public static final class Uncached extends RuntimeException {
+
+		/** Create instance. */
+		public Uncached( String message ) {
+			super( message );
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultFingerprint.FRAMES_TEMPLATE;
+
+class FaultFingerprintTest {
+
+	@Nested
+	class of {
+
+		@Test
+		void sameOrigin() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			long[] output = new long[ 2 ];
+			// Act
+			for ( int i = 0; i < output.length; i++ ) output[ i ] = FaultFingerprint.of( fault.build() );
+			// Assert
+			Assertions.assertEquals( output[ 0 ], output[ 1 ] );
+		}
+
+		@Test
+		void differentLine() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			long first = FaultFingerprint.of( fault.build() );
+			long second = FaultFingerprint.of( fault.build() );
+			// Assert
+			Assertions.assertNotEquals( first, second );
+			Assertions.assertEquals( FaultFingerprint.of( fault.build(), 0 ), FaultFingerprint.of( fault.build(), 0 ) );
+		}
+
+		@Test
+		void differentMessage() {
+			// Arrange
+			IllegalStateException[] errors = new IllegalStateException[ 2 ];
+			for ( int i = 0; i < errors.length; i++ ) errors[ i ] = randomFault().build();
+			// Act
+			long first = FaultFingerprint.of( errors[ 0 ] );
+			long second = FaultFingerprint.of( errors[ 1 ] );
+			// Assert
+			Assertions.assertNotEquals( first, second );
+		}
+
+		@Test
+		void differentType() {
+			// Arrange
+			String message = randomString();
+			// Act
+			long first = FaultFingerprint.of( new IllegalStateException( message ), 0 );
+			long second = FaultFingerprint.of( new IllegalArgumentException( message ), 0 );
+			// Assert
+			Assertions.assertNotEquals( first, second );
+		}
+
+		@Test
+		void stable() {
+			// Arrange
+			IllegalStateException error = new IllegalStateException( "Resource could not be found" );
+			error.setStackTrace( new StackTraceElement[] {
+				new StackTraceElement( "com.example.Service", "load", "Service.java", 42 )
+			} );
+			// Act
+			long output = FaultFingerprint.of( error );
+			// Assert
+			Assertions.assertEquals( 0x0bb1139a73d16bfcL, output );
+		}
+
+		@Test
+		void builderFramesSkipped() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			IllegalStateException error = new IllegalStateException( fault.getMessage() );
+			StackTraceElement caller = new StackTraceElement( "com.example.Service", "load", "Service.java", 42 );
+			error.setStackTrace( new StackTraceElement[] {
+				new StackTraceElement( ThrowableFactory.class.getName(), "create", null, 1 ),
+				new StackTraceElement( Fault.class.getName(), "build", null, 2 ),
+				caller
+			} );
+			IllegalStateException direct = new IllegalStateException( fault.getMessage() );
+			direct.setStackTrace( new StackTraceElement[] { caller } );
+			// Act
+			long output = FaultFingerprint.of( error );
+			// Assert
+			Assertions.assertEquals( FaultFingerprint.of( direct ), output );
+		}
+
+		@Test
+		void noStackTrace() {
+			// Arrange
+			IllegalStateException error = randomFault().build();
+			long expected = FaultFingerprint.of( error, 0 );
+			error.setStackTrace( new StackTraceElement[ 0 ] );
+			// Act
+			long output = FaultFingerprint.of( error );
+			// Assert
+			Assertions.assertEquals( expected, output );
+		}
+
+		@Test
+		void error_null() {
+			// Arrange
+			// Act
+			try {
+				FaultFingerprint.of( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "error" ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void frames_negative() {
+			// Arrange
+			IllegalStateException error = randomFault().build();
+			// Act
+			try {
+				FaultFingerprint.of( error, -1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( FRAMES_TEMPLATE.formatted( -1 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class here {
+
+		@Test
+		void matchesBuilt() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			long[] output = { FaultFingerprint.of( fault.build() ), FaultFingerprint.here( fault ) };
+			// Assert
+			Assertions.assertEquals( output[ 0 ], output[ 1 ] );
+		}
+
+		@Test
+		void narrowCause() {
+			// Arrange
+			Fault<ThrowableFactoryTest.NarrowCauseConstructor> fault = new Fault<>(
+				ThrowableFactoryTest.NarrowCauseConstructor.class,
+				UUID.randomUUID().toString()
+			);
+			IllegalStateException cause = new IllegalStateException();
+			// Act
+			long[] output = { FaultFingerprint.of( fault.build( cause ) ), FaultFingerprint.here( fault ) };
+			// Assert
+			Assertions.assertEquals( output[ 0 ], output[ 1 ] );
+		}
+
+		@Test
+		void injection() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			String name = UUID.randomUUID().toString();
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( name, RuntimeException.class )
+				.enable( InjectionRule.every( fault, 1 ) );
+			IllegalStateException direct = new IllegalStateException( fault.getMessage() );
+			int line = new Throwable().getStackTrace()[ 0 ].getLineNumber() + 3;
+			// Act
+			try {
+				point.check();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				direct.setStackTrace( new StackTraceElement[] {
+					new StackTraceElement( getClass().getName(), "injection", null, line )
+				} );
+				Assertions.assertEquals( FaultFingerprint.of( direct, 1 ), FaultFingerprint.of( e, 1 ) );
+			}
+			finally {
+				point.disable();
+			}
+		}
+
+		@Test
+		void frames() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			long[] output = { FaultFingerprint.of( fault.build(), 2 ), FaultFingerprint.here( fault, 2 ) };
+			// Assert
+			Assertions.assertEquals( output[ 0 ], output[ 1 ] );
+			Assertions.assertNotEquals( FaultFingerprint.here( fault, 1 ), output[ 1 ] );
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			// Act
+			try {
+				FaultFingerprint.here( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
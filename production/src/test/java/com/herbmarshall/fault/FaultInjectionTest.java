@@ -0,0 +1,216 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultInjection.ENABLED_SUFFIX;
+import static com.herbmarshall.fault.FaultInjection.EVERY_SUFFIX;
+import static com.herbmarshall.fault.FaultInjection.FAULT_REFERENCE_TEMPLATE;
+import static com.herbmarshall.fault.FaultInjection.FAULT_SUFFIX;
+import static com.herbmarshall.fault.FaultInjection.LATENCY_SUFFIX;
+import static com.herbmarshall.fault.FaultInjection.LATENCY_TRIGGER_TEMPLATE;
+import static com.herbmarshall.fault.FaultInjection.PROBABILITY_SUFFIX;
+import static com.herbmarshall.fault.FaultInjection.TRIGGER_TEMPLATE;
+
+class FaultInjectionTest {
+
+	public static final Fault<IllegalStateException> STATE =
+		new Fault<>( IllegalStateException.class, "Injected state failure" );
+
+	private static final String STATE_REFERENCE = FaultInjectionTest.class.getName() + "#STATE";
+
+	@AfterEach
+	void tearDown() {
+		FaultInjection.disableAll();
+	}
+
+	@Nested
+	class configure {
+
+		@Test
+		void properties() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			Properties properties = new Properties();
+			properties.setProperty( point.getName() + FAULT_SUFFIX, STATE_REFERENCE );
+			properties.setProperty( point.getName() + EVERY_SUFFIX, "1" );
+			// Act
+			FaultInjection.configure( properties );
+			// Assert
+			Assertions.assertSame( STATE, point.getRule().getFault() );
+			try {
+				point.check();
+				Assertions.fail();
+			}
+			catch ( IllegalStateException e ) {
+				STATE.validate( e );
+			}
+		}
+
+		@Test
+		void file() throws IOException {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			Path file = Files.createTempFile( "faultInjection", ".properties" );
+			Files.writeString( file, String.join( "\n",
+				point.getName() + FAULT_SUFFIX + " = " + STATE_REFERENCE,
+				point.getName() + PROBABILITY_SUFFIX + " = 1"
+			) );
+			// Act
+			FaultInjection.configure( file );
+			// Assert
+			Assertions.assertSame( STATE, point.getRule().getFault() );
+		}
+
+		@Test
+		void latency() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			Properties properties = new Properties();
+			properties.setProperty( point.getName() + LATENCY_SUFFIX, "PT0.2S" );
+			properties.setProperty( point.getName() + PROBABILITY_SUFFIX, "0" );
+			// Act
+			FaultInjection.configure( properties );
+			// Assert
+			Assertions.assertEquals( Duration.ofMillis( 200 ), point.getRule().getLatency() );
+			Assertions.assertNull( point.getRule().getFault() );
+		}
+
+		@Test
+		void latency_every() {
+			// Arrange
+			String name = randomName();
+			Properties properties = new Properties();
+			properties.setProperty( name + LATENCY_SUFFIX, "PT0.2S" );
+			properties.setProperty( name + EVERY_SUFFIX, "2" );
+			// Act
+			try {
+				FaultInjection.configure( properties );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					LATENCY_TRIGGER_TEMPLATE.formatted( name, name + PROBABILITY_SUFFIX ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void replaces() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class )
+				.enable( InjectionRule.every( STATE, 1 ) );
+			// Act
+			FaultInjection.configure( new Properties() );
+			// Assert
+			Assertions.assertNull( point.getRule() );
+			point.check();
+		}
+
+		@Test
+		void disabled() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			Properties properties = new Properties();
+			properties.setProperty( point.getName() + FAULT_SUFFIX, STATE_REFERENCE );
+			properties.setProperty( point.getName() + EVERY_SUFFIX, "1" );
+			properties.setProperty( point.getName() + ENABLED_SUFFIX, "false" );
+			// Act
+			FaultInjection.configure( properties );
+			// Assert
+			Assertions.assertNull( point.getRule() );
+		}
+
+		@Test
+		void trigger_missing() {
+			// Arrange
+			String name = randomName();
+			Properties properties = new Properties();
+			properties.setProperty( name + FAULT_SUFFIX, STATE_REFERENCE );
+			// Act
+			try {
+				FaultInjection.configure( properties );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					TRIGGER_TEMPLATE.formatted( name, name + PROBABILITY_SUFFIX, name + EVERY_SUFFIX ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void reference_invalid() {
+			// Arrange
+			String name = randomName();
+			String reference = FaultInjectionTest.class.getName() + "#MISSING";
+			Properties properties = new Properties();
+			properties.setProperty( name + FAULT_SUFFIX, reference );
+			properties.setProperty( name + EVERY_SUFFIX, "1" );
+			// Act
+			try {
+				FaultInjection.configure( properties );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( FAULT_REFERENCE_TEMPLATE.formatted( reference ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void invalid_unchanged() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			FaultInjection.enable( point.getName(), InjectionRule.every( STATE, 1 ) );
+			Properties properties = new Properties();
+			properties.setProperty( randomName() + FAULT_SUFFIX, STATE_REFERENCE );
+			// Act
+			try {
+				FaultInjection.configure( properties );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertSame( STATE, point.getRule().getFault() );
+			}
+		}
+
+	}
+
+	@Nested
+	class disable {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String name = randomName();
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( name, RuntimeException.class );
+			FaultInjection.enable( name, InjectionRule.every( STATE, 1 ) );
+			// Act
+			FaultInjection.disable( name );
+			// Assert
+			Assertions.assertNull( point.getRule() );
+			point.check();
+		}
+
+	}
+
+	private String randomName() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,351 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.herbmarshall.fault.FaultJournal.CLOSED;
+import static com.herbmarshall.fault.FaultJournal.MIN_SEGMENT_SIZE;
+import static com.herbmarshall.fault.FaultJournal.SCRATCH_SIZE;
+import static com.herbmarshall.fault.FaultJournal.SEGMENT_SIZE_TEMPLATE;
+
+class FaultJournalTest {
+
+	@Nested
+	class append {
+
+		@Test
+		void happyPath() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> fault = randomFault().with( "tenant", "acme" );
+			IllegalArgumentException cause = new IllegalArgumentException( randomString() );
+			try ( FaultJournal journal = FaultJournal.open( directory ) ) {
+				// Act
+				FaultJournal output = journal.append( fault, cause );
+				// Assert
+				Assertions.assertSame( journal, output );
+			}
+			try ( FaultJournal.Tailer tailer = FaultJournal.tail( directory ) ) {
+				FaultRecord record = tailer.next();
+				Assertions.assertEquals( fault, record.fault() );
+				Assertions.assertEquals( fault.getContext(), record.fault().getContext() );
+				Assertions.assertEquals(
+					List.of( new FaultRecord.Cause( IllegalArgumentException.class.getName(), cause.getMessage() ) ),
+					record.causes()
+				);
+				Assertions.assertNull( tailer.next() );
+			}
+		}
+
+		@Test
+		void rotation() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			List<Fault<?>> faults = new ArrayList<>();
+			for ( int i = 0; i < 500; i++ ) faults.add( randomFault() );
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				// Act
+				faults.forEach( journal::append );
+			}
+			// Assert
+			Assertions.assertEquals( faults, readAll( directory ) );
+			try ( FaultJournal.Tailer tailer = FaultJournal.tail( directory ) ) {
+				while ( tailer.next() != null ) continue;
+				Assertions.assertTrue( tailer.getSegment() > 1 );
+			}
+		}
+
+		@Test
+		void concurrent() throws Exception {
+			// Arrange
+			int threads = 8;
+			int perThread = 500;
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			List<Fault<?>> read = new ArrayList<>();
+			ExecutorService executor = Executors.newFixedThreadPool( threads );
+			try (
+				FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE );
+				FaultJournal.Tailer tailer = FaultJournal.tail( directory )
+			) {
+				List<Future<?>> futures = new ArrayList<>();
+				// Act
+				for ( int t = 0; t < threads; t++ ) {
+					String name = "thread" + t;
+					futures.add( executor.submit( () -> {
+						for ( int i = 0; i < perThread; i++ ) {
+							journal.append( new Fault<>( IllegalStateException.class, name + " " + i ) );
+						}
+					} ) );
+				}
+				while ( ! futures.stream().allMatch( Future::isDone ) ) {
+					FaultRecord record = tailer.next();
+					if ( record != null ) read.add( record.fault() );
+				}
+				for ( Future<?> future : futures ) future.get();
+				for ( FaultRecord record = tailer.next(); record != null; record = tailer.next() ) {
+					read.add( record.fault() );
+				}
+			}
+			finally {
+				executor.shutdown();
+			}
+			// Assert
+			Assertions.assertEquals( threads * perThread, read.size() );
+			for ( int t = 0; t < threads; t++ ) {
+				String prefix = "thread" + t + " ";
+				List<String> messages = read.stream()
+					.map( Fault::getMessage )
+					.filter( message -> message.startsWith( prefix ) )
+					.toList();
+				Assertions.assertEquals( perThread, messages.size() );
+				for ( int i = 0; i < perThread; i++ ) Assertions.assertEquals( prefix + i, messages.get( i ) );
+			}
+		}
+
+		@Test
+		void largerThanScratch() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> large =
+				new Fault<>( IllegalStateException.class, "x".repeat( SCRATCH_SIZE * 4 ) );
+			Fault<IllegalStateException> small = randomFault();
+			try ( FaultJournal journal = FaultJournal.open( directory ) ) {
+				// Act
+				journal.append( small ).append( large ).append( small );
+			}
+			// Assert
+			Assertions.assertEquals( List.of( small, large, small ), readAll( directory ) );
+		}
+
+		@Test
+		void tooLarge() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> fault =
+				new Fault<>( IllegalStateException.class, "x".repeat( MIN_SEGMENT_SIZE ) );
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				// Act
+				try {
+					journal.append( fault );
+					Assertions.fail();
+				}
+				// Assert
+				catch ( IllegalArgumentException e ) {
+					Assertions.assertNull( FaultJournal.tail( directory ).next() );
+				}
+			}
+		}
+
+		@Test
+		void closed() throws IOException {
+			// Arrange
+			FaultJournal journal = FaultJournal.open( Files.createTempDirectory( "faultJournal" ) );
+			journal.close();
+			// Act
+			try {
+				journal.append( randomFault() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				Assertions.assertEquals( CLOSED, e.getMessage() );
+			}
+		}
+
+		@Test
+		void fault_null() throws IOException {
+			// Arrange
+			try ( FaultJournal journal = FaultJournal.open( Files.createTempDirectory( "faultJournal" ) ) ) {
+				// Act
+				try {
+					journal.append( null );
+					Assertions.fail();
+				}
+				// Assert
+				catch ( NullPointerException e ) {
+					Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+				}
+			}
+		}
+
+	}
+
+	@Nested
+	class open {
+
+		@Test
+		void newSegment() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalStateException> second = randomFault();
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				journal.append( first );
+			}
+			// Act
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				journal.append( second );
+			}
+			// Assert
+			Assertions.assertTrue( Files.exists( FaultJournal.segment( directory, 1 ) ) );
+			Assertions.assertEquals( List.of( first, second ), readAll( directory ) );
+		}
+
+		@Test
+		void segmentSize_tooSmall() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			// Act
+			try {
+				FaultJournal.open( directory, MIN_SEGMENT_SIZE - 1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					SEGMENT_SIZE_TEMPLATE.formatted( MIN_SEGMENT_SIZE, MIN_SEGMENT_SIZE - 1 ),
+					e.getMessage()
+				);
+			}
+		}
+
+	}
+
+	@Nested
+	class recover {
+
+		@Test
+		void tornRecord() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalStateException> torn = randomFault();
+			Fault<IllegalStateException> later = randomFault();
+			int tornOffset;
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				journal.append( first ).append( torn );
+			}
+			tornOffset = FaultJournal.align( Integer.BYTES * 2 + encodedLength( first ) );
+			corrupt( FaultJournal.segment( directory, 0 ), tornOffset + Integer.BYTES * 2 + 1 );
+			try ( FaultJournal.Tailer tailer = FaultJournal.tail( directory ) ) {
+				Assertions.assertEquals( first, tailer.next().fault() );
+				Assertions.assertNull( tailer.next() );
+				// Act
+				try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+					journal.append( later );
+				}
+				// Assert
+				Assertions.assertEquals( later, tailer.next().fault() );
+				Assertions.assertNull( tailer.next() );
+			}
+		}
+
+		@Test
+		void unwrittenRecord() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> lost = randomFault();
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				journal.append( randomFault() ).append( lost );
+			}
+			write( FaultJournal.segment( directory, 0 ), 0, ByteBuffer.allocate( Integer.BYTES ) );
+			// Act
+			long output = FaultJournal.recover( directory );
+			// Assert
+			Assertions.assertEquals( 0, output );
+			Assertions.assertEquals( List.of(), readAll( directory ) );
+			Fault<IllegalStateException> later = randomFault();
+			try ( FaultJournal journal = FaultJournal.open( directory, MIN_SEGMENT_SIZE ) ) {
+				journal.append( later );
+			}
+			Assertions.assertEquals( List.of( later ), readAll( directory ) );
+		}
+
+		@Test
+		void empty() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			// Act
+			long output = FaultJournal.recover( directory );
+			// Assert
+			Assertions.assertEquals( -1, output );
+		}
+
+	}
+
+	@Nested
+	class tail {
+
+		@Test
+		void follow() throws IOException {
+			// Arrange
+			Path directory = Files.createTempDirectory( "faultJournal" );
+			Fault<IllegalStateException> fault = randomFault();
+			try (
+				FaultJournal.Tailer tailer = FaultJournal.tail( directory );
+				FaultJournal journal = FaultJournal.open( directory )
+			) {
+				Assertions.assertNull( tailer.next() );
+				journal.append( fault );
+				// Act
+				FaultRecord output = tailer.next();
+				// Assert
+				Assertions.assertEquals( fault, output.fault() );
+				Assertions.assertNull( tailer.next() );
+			}
+		}
+
+	}
+
+	private static List<Fault<?>> readAll( Path directory ) {
+		List<Fault<?>> faults = new ArrayList<>();
+		try ( FaultJournal.Tailer tailer = FaultJournal.tail( directory ) ) {
+			for ( FaultRecord record = tailer.next(); record != null; record = tailer.next() ) {
+				faults.add( record.fault() );
+			}
+		}
+		return faults;
+	}
+
+	private static int encodedLength( Fault<?> fault ) {
+		return BinaryFaultCodec.encode( fault, ByteBuffer.allocate( MIN_SEGMENT_SIZE ) );
+	}
+
+	private static void corrupt( Path file, int position ) throws IOException {
+		ByteBuffer value = ByteBuffer.allocate( 1 );
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			channel.read( value, position );
+		}
+		value.put( 0, ( byte ) ( value.get( 0 ) ^ 0xFF ) ).rewind();
+		write( file, position, value );
+	}
+
+	private static void write( Path file, int position, ByteBuffer value ) throws IOException {
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.WRITE ) ) {
+			channel.write( value, position );
+		}
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,205 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultMetrics.Counts;
+import static com.herbmarshall.fault.FaultMetrics.MAX_FAULTS;
+
+class FaultMetricsTest {
+
+	@BeforeEach
+	void setUp() {
+		FaultMetrics.reset();
+		FaultMetrics.enable();
+	}
+
+	@AfterEach
+	void tearDown() {
+		FaultMetrics.disable();
+		FaultMetrics.reset();
+	}
+
+	@Nested
+	class snapshot {
+
+		@Test
+		void build() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			fault.build();
+			fault.buildLightweight();
+			// Act
+			Counts output = FaultMetrics.snapshot().of( fault );
+			// Assert
+			Assertions.assertEquals( new Counts( 2, 0, 0, 0 ), output );
+		}
+
+		@Test
+		void build_cause() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			fault.build( new Exception() );
+			fault.buildLightweight( new Exception() );
+			// Act
+			Counts output = FaultMetrics.snapshot().of( fault );
+			// Assert
+			Assertions.assertEquals( new Counts( 0, 2, 0, 0 ), output );
+		}
+
+		@Test
+		void print() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			fault.print( new ByteArrayOutputStream() );
+			try ( AsyncFaultPrinter printer = AsyncFaultPrinter.to( new ByteArrayOutputStream() ).start() ) {
+				printer.print( fault );
+			}
+			// Act
+			Counts output = FaultMetrics.snapshot().of( fault );
+			// Assert
+			Assertions.assertEquals( new Counts( 0, 0, 2, 0 ), output );
+		}
+
+		@Test
+		void validate() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			fault.validate( fault.build(), new ByteArrayOutputStream() );
+			try {
+				fault.validate( new IllegalStateException(), new ByteArrayOutputStream() );
+				Assertions.fail();
+			}
+			catch ( AssertionError ignored ) {
+			}
+			// Act
+			Counts output = FaultMetrics.snapshot().of( fault );
+			// Assert
+			Assertions.assertEquals( new Counts( 1, 0, 0, 1 ), output );
+		}
+
+		@Test
+		void template() {
+			// Arrange
+			String pattern = UUID.randomUUID() + " {}";
+			FaultTemplate<IllegalStateException> template = new FaultTemplate<>( IllegalStateException.class, pattern );
+			template.validate( template.build( 1 ), new ByteArrayOutputStream() );
+			template.build( 2 );
+			try {
+				template.validate( new IllegalStateException(), new ByteArrayOutputStream() );
+				Assertions.fail();
+			}
+			catch ( AssertionError ignored ) {
+			}
+			// Act
+			Counts output = FaultMetrics.snapshot().of( new Fault<>( IllegalStateException.class, pattern ) );
+			// Assert
+			Assertions.assertEquals( new Counts( 2, 0, 0, 1 ), output );
+		}
+
+		@Test
+		void equalFaults() {
+			// Arrange
+			String message = UUID.randomUUID().toString();
+			Fault<IllegalStateException> faultA = new Fault<>( IllegalStateException.class, message );
+			Fault<IllegalStateException> faultB = new Fault<>( IllegalStateException.class, message );
+			faultA.build();
+			faultB.build();
+			// Act
+			Counts output = FaultMetrics.snapshot().of( faultA );
+			// Assert
+			Assertions.assertEquals( new Counts( 2, 0, 0, 0 ), output );
+		}
+
+		@Test
+		void type() {
+			// Arrange
+			randomFault().build();
+			randomFault().build();
+			new Fault<>( UnsupportedOperationException.class, UUID.randomUUID().toString() ).build();
+			// Act
+			FaultMetrics.Snapshot output = FaultMetrics.snapshot();
+			// Assert
+			Assertions.assertEquals( new Counts( 2, 0, 0, 0 ), output.of( IllegalStateException.class ) );
+			Assertions.assertEquals( new Counts( 1, 0, 0, 0 ), output.of( UnsupportedOperationException.class ) );
+		}
+
+		@Test
+		void tooManyFaults() {
+			// Arrange
+			for ( int i = 0; i < MAX_FAULTS; i++ ) randomFault().build();
+			Fault<IllegalStateException> fault = randomFault();
+			fault.build();
+			// Act
+			FaultMetrics.Snapshot output = FaultMetrics.snapshot();
+			// Assert
+			Assertions.assertEquals( MAX_FAULTS, output.faults().size() );
+			Assertions.assertEquals( new Counts( 0, 0, 0, 0 ), output.of( fault ) );
+			Assertions.assertEquals( MAX_FAULTS + 1, output.of( IllegalStateException.class ).builds() );
+		}
+
+		@Test
+		void immutable() {
+			// Arrange
+			randomFault().build();
+			FaultMetrics.Snapshot snapshot = FaultMetrics.snapshot();
+			// Act
+			try {
+				snapshot.faults().clear();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException ignored ) {
+			}
+		}
+
+	}
+
+	@Nested
+	class disable {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			fault.build();
+			// Act
+			FaultMetrics.disable();
+			fault.build();
+			// Assert
+			Assertions.assertFalse( FaultMetrics.isEnabled() );
+			Assertions.assertEquals( new Counts( 1, 0, 0, 0 ), FaultMetrics.snapshot().of( fault ) );
+		}
+
+	}
+
+	@Nested
+	class reset {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			fault.build();
+			// Act
+			FaultMetrics.reset();
+			fault.build();
+			// Assert
+			FaultMetrics.Snapshot output = FaultMetrics.snapshot();
+			Assertions.assertEquals( new Counts( 1, 0, 0, 0 ), output.of( fault ) );
+			Assertions.assertEquals( new Counts( 1, 0, 0, 0 ), output.of( IllegalStateException.class ) );
+		}
+
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
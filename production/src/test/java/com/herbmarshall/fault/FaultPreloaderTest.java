@@ -0,0 +1,210 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static com.herbmarshall.fault.ConstructorResolver.CONSTRUCTOR_NOT_FOUND_TEMPLATE;
+
+class FaultPreloaderTest {
+
+	@Nested
+	class preload {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			List<Class<? extends Throwable>> types = List.of(
+				IllegalStateException.class,
+				Complete.class,
+				MessageOnly.class,
+				NoMessage.class,
+				Complete.class
+			);
+			// Act
+			FaultPreloader.Report output = FaultPreloader.preload( types );
+			// Assert
+			Assertions.assertEquals( Set.of( IllegalStateException.class, Complete.class ), output.ready() );
+			Assertions.assertEquals( Set.of( NoMessage.class ), output.unbuildable().keySet() );
+			Assertions.assertEquals(
+				CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( NoMessage.class ),
+				output.unbuildable().get( NoMessage.class ).getMessage()
+			);
+			Assertions.assertEquals( Set.of( MessageOnly.class ), output.uncaused().keySet() );
+			Assertions.assertFalse( output.isComplete() );
+		}
+
+		@Test
+		void resolved() {
+			// Arrange
+			ThrowableFactory<Preloaded> factory = ThrowableFactory.of( Preloaded.class );
+			Assertions.assertFalse( factory.isMessageResolved() );
+			// Act
+			FaultPreloader.preload( List.of( Preloaded.class ) );
+			// Assert
+			Assertions.assertTrue( factory.isMessageResolved() );
+			Assertions.assertTrue( factory.isCausedResolved() );
+			Assertions.assertTrue( factory.isLightweightResolved() );
+			Assertions.assertTrue( Preloaded.initialized );
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			// Act
+			FaultPreloader.Report output = FaultPreloader.preload( List.of() );
+			// Assert
+			Assertions.assertEquals( new FaultPreloader.Report( Set.of(), Map.of(), Map.of() ), output );
+			Assertions.assertTrue( output.isComplete() );
+		}
+
+		@Test
+		void type_null() {
+			// Arrange
+			List<Class<? extends Throwable>> types = new ArrayList<>();
+			types.add( null );
+			// Act
+			try {
+				FaultPreloader.preload( types );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "types" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class scan {
+
+		@Test
+		void directory() {
+			// Arrange
+			ClassLoader loader = FaultPreloaderTest.class.getClassLoader();
+			// Act
+			List<Class<? extends Throwable>> output = FaultPreloader.scan( "com.herbmarshall.fault", loader );
+			// Assert
+			Assertions.assertTrue(
+				output.containsAll( List.of( Complete.class, MessageOnly.class, NoMessage.class ) )
+			);
+			Assertions.assertFalse( output.contains( Abstract.class ) );
+			Assertions.assertTrue( output.stream().allMatch( Throwable.class::isAssignableFrom ) );
+		}
+
+		@Test
+		void jar() throws IOException {
+			// Arrange
+			Path jar = Files.createTempFile( "faultPreloader", ".jar" );
+			String entry = Complete.class.getName().replace( '.', '/' ) + ".class";
+			try (
+				OutputStream file = Files.newOutputStream( jar );
+				JarOutputStream stream = new JarOutputStream( file );
+				InputStream bytes = FaultPreloaderTest.class.getClassLoader().getResourceAsStream( entry )
+			) {
+				for ( String directory : List.of( "com/", "com/herbmarshall/", "com/herbmarshall/fault/" ) ) {
+					stream.putNextEntry( new JarEntry( directory ) );
+					stream.closeEntry();
+				}
+				stream.putNextEntry( new JarEntry( entry ) );
+				bytes.transferTo( stream );
+				stream.closeEntry();
+			}
+			try ( URLClassLoader loader = new URLClassLoader( new URL[] { jar.toUri().toURL() }, null ) ) {
+				// Act
+				List<Class<? extends Throwable>> output = FaultPreloader.scan( "com.herbmarshall", loader );
+				// Assert
+				Assertions.assertEquals( 1, output.size() );
+				Assertions.assertEquals( Complete.class.getName(), output.get( 0 ).getName() );
+				Assertions.assertSame( loader, output.get( 0 ).getClassLoader() );
+			}
+		}
+
+		@Test
+		void unknownPackage() {
+			// Arrange
+			ClassLoader loader = FaultPreloaderTest.class.getClassLoader();
+			// Act
+			List<Class<? extends Throwable>> output = FaultPreloader.scan( "com.example.missing", loader );
+			// Assert
+			Assertions.assertEquals( List.of(), output );
+		}
+
+		@Test
+		void packageName_null() {
+			// Arrange
+			ClassLoader loader = FaultPreloaderTest.class.getClassLoader();
+			// Act
+			try {
+				FaultPreloader.scan( null, loader );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "packageName" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	/** Has every shape. */
+	public static class Complete extends RuntimeException {
+		public Complete( String message ) {
+			super( message );
+		}
+		public Complete( String message, Throwable cause ) {
+			super( message, cause );
+		}
+	}
+
+	/** Has no caused shape. */
+	public static class MessageOnly extends RuntimeException {
+		public MessageOnly( String message ) {
+			super( message );
+		}
+	}
+
+	/** Has no message shape. */
+	public static class NoMessage extends RuntimeException {
+		public NoMessage() {
+			super();
+		}
+	}
+
+	/** Never built. */
+	public abstract static class Abstract extends RuntimeException {
+		public Abstract( String message ) {
+			super( message );
+		}
+	}
+
+	/** Preloaded by exactly one test. */
+	public static class Preloaded extends RuntimeException {
+		static boolean initialized;
+		static {
+			initialized = true;
+		}
+		public Preloaded( String message ) {
+			super( message );
+		}
+		public Preloaded( String message, Throwable cause ) {
+			super( message, cause );
+		}
+	}
+
+}
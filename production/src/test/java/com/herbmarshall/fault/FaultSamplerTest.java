@@ -0,0 +1,193 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultSampler.RATE_TEMPLATE;
+
+class FaultSamplerTest {
+
+	@BeforeEach
+	void setUp() {
+		FaultSampler.reset();
+	}
+
+	@AfterEach
+	void tearDown() {
+		FaultSampler.setRate( 0 );
+		FaultSampler.reset();
+	}
+
+	@Nested
+	class snapshot {
+
+		@Test
+		void everyBuild() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			FaultSampler.setRate( 1 );
+			int line = new Throwable().getStackTrace()[ 0 ].getLineNumber() + 1;
+			for ( int i = 0; i < 3; i++ ) fault.build();
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals(
+				List.of( new FaultSampler.Site(
+					getClass().getName(),
+					"everyBuild",
+					line,
+					IllegalStateException.class,
+					3,
+					3
+				) ),
+				output
+			);
+		}
+
+		@Test
+		void allBuilds() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			FaultSampler.setRate( 1 );
+			fault.build();
+			fault.build( new RuntimeException() );
+			fault.buildLightweight();
+			fault.buildLightweight( new RuntimeException() );
+			fault.batch().add( randomFault() ).build();
+			fault.batch().limit( 1 ).add( randomFault() ).add( randomFault() ).build();
+			new FaultTemplate<>( IllegalStateException.class, randomString() ).build();
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals( 7, output.size() );
+			Assertions.assertEquals( 9, output.stream().mapToLong( FaultSampler.Site::samples ).sum() );
+			for ( FaultSampler.Site site : output ) Assertions.assertEquals( getClass().getName(), site.className() );
+		}
+
+		@Test
+		void injection() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomString(), RuntimeException.class )
+				.enable( InjectionRule.every( randomFault(), 1 ) );
+			FaultSampler.setRate( 1 );
+			try {
+				point.check();
+				Assertions.fail();
+			}
+			catch ( IllegalStateException ignored ) {
+			}
+			finally {
+				point.disable();
+			}
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			Assertions.assertEquals( getClass().getName(), output.get( 0 ).className() );
+			Assertions.assertEquals( "injection", output.get( 0 ).methodName() );
+		}
+
+		@Test
+		void ranked() {
+			// Arrange
+			FaultSampler.setRate( 1 );
+			randomFault().build();
+			for ( int i = 0; i < 3; i++ ) new Fault<>( IllegalArgumentException.class, randomString() ).build();
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals( 2, output.size() );
+			Assertions.assertEquals( IllegalArgumentException.class, output.get( 0 ).type() );
+			Assertions.assertEquals( 3, output.get( 0 ).samples() );
+			Assertions.assertEquals( IllegalStateException.class, output.get( 1 ).type() );
+		}
+
+		@Test
+		void sampled() {
+			// Arrange
+			int builds = 100_000;
+			int rate = 100;
+			Fault<IllegalStateException> fault = randomFault();
+			FaultSampler.setRate( rate );
+			for ( int i = 0; i < builds; i++ ) fault.buildLightweight();
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals( 1, output.size() );
+			long samples = output.get( 0 ).samples();
+			Assertions.assertTrue( samples > builds / rate / 2 && samples < builds / rate * 2, "samples " + samples );
+			Assertions.assertEquals( samples * rate, output.get( 0 ).estimate() );
+			Assertions.assertEquals( 0, FaultSampler.overflow() );
+		}
+
+		@Test
+		void disabled() {
+			// Arrange
+			randomFault().build();
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals( List.of(), output );
+		}
+
+		@Test
+		void rateChanged() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			FaultSampler.setRate( 1 );
+			fault.build();
+			FaultSampler.setRate( 0 );
+			fault.build();
+			// Act
+			List<FaultSampler.Site> output = FaultSampler.snapshot();
+			// Assert
+			Assertions.assertEquals( 1, output.get( 0 ).samples() );
+		}
+
+	}
+
+	@Nested
+	class setRate {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			int rate = 64;
+			// Act
+			FaultSampler.setRate( rate );
+			// Assert
+			Assertions.assertEquals( rate, FaultSampler.getRate() );
+		}
+
+		@Test
+		void negative() {
+			// Arrange
+			// Act
+			try {
+				FaultSampler.setRate( -1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( RATE_TEMPLATE.formatted( -1 ), e.getMessage() );
+				Assertions.assertEquals( 0, FaultSampler.getRate() );
+			}
+		}
+
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
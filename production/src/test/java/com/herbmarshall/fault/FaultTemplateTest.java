@@ -0,0 +1,258 @@
+package com.herbmarshall.fault;
+
+import com.herbmarshall.standardPipe.OverridePlan;
+import com.herbmarshall.standardPipe.Standard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultTemplate.ARGUMENT_COUNT_TEMPLATE;
+
+class FaultTemplateTest {
+
+	private static final String PATTERN = "user {} not found in {}";
+
+	@Nested
+	class constructor {
+
+		@Test
+		void type_null() {
+			// Arrange
+			// Act
+			try {
+				new FaultTemplate<>( null, PATTERN );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "type" ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void pattern_null() {
+			// Arrange
+			// Act
+			try {
+				new FaultTemplate<>( IllegalStateException.class, null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "pattern" ),
+					e.getMessage()
+				);
+			}
+		}
+
+	}
+
+	@Test
+	void template() {
+		// Arrange
+		// Act
+		FaultTemplate<IllegalStateException> output = Fault.template( IllegalStateException.class, PATTERN );
+		// Assert
+		Assertions.assertEquals( IllegalStateException.class, output.getType() );
+		Assertions.assertEquals( PATTERN, output.getPattern() );
+	}
+
+	@Test
+	void getSlotCount() {
+		Assertions.assertEquals( 0, template( "no slots" ).getSlotCount() );
+		Assertions.assertEquals( 1, template( "{}" ).getSlotCount() );
+		Assertions.assertEquals( 2, template( PATTERN ).getSlotCount() );
+		Assertions.assertEquals( 2, template( "{}{}" ).getSlotCount() );
+	}
+
+	@Nested
+	class render {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String user = randomString();
+			FaultTemplate<?> template = template( PATTERN );
+			// Act
+			String output = template.render( user, 42 );
+			// Assert
+			Assertions.assertEquals( "user " + user + " not found in 42", output );
+		}
+
+		@Test
+		void edges() {
+			Assertions.assertEquals( "ab", template( "{}{}" ).render( "a", "b" ) );
+			Assertions.assertEquals( "[null]", template( "[{}]" ).render( ( Object ) null ) );
+			Assertions.assertEquals( "plain", template( "plain" ).render() );
+		}
+
+		@Test
+		void charSequence() {
+			// Arrange
+			StringBuilder value = new StringBuilder( randomString() );
+			// Act
+			String output = template( "<{}>" ).render( value );
+			// Assert
+			Assertions.assertEquals( "<" + value + ">", output );
+		}
+
+		@Test
+		void wrongArgumentCount() {
+			// Arrange
+			FaultTemplate<?> template = template( PATTERN );
+			// Act
+			try {
+				template.render( randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( ARGUMENT_COUNT_TEMPLATE.formatted( 2, 1 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Test
+	void with() {
+		// Arrange
+		FaultTemplate<IllegalStateException> template = template( PATTERN );
+		// Act
+		Fault<IllegalStateException> output = template.with( "a", "b" );
+		// Assert
+		Assertions.assertEquals( new Fault<>( IllegalStateException.class, "user a not found in b" ), output );
+	}
+
+	@Test
+	void build() {
+		// Arrange
+		FaultTemplate<IllegalStateException> template = template( PATTERN );
+		// Act
+		IllegalStateException output = template.build( "a", "b" );
+		// Assert
+		Assertions.assertEquals( "user a not found in b", output.getMessage() );
+	}
+
+	@Nested
+	class matches {
+
+		@Test
+		void happyPath() {
+			FaultTemplate<?> template = template( PATTERN );
+			Assertions.assertTrue( template.matches( template.render( randomString(), randomString() ) ) );
+			Assertions.assertTrue( template.matches( "user  not found in " ) );
+			Assertions.assertTrue( template.matches( "user x not found in not found in y" ) );
+		}
+
+		@Test
+		void mismatch() {
+			FaultTemplate<?> template = template( PATTERN );
+			Assertions.assertFalse( template.matches( null ) );
+			Assertions.assertFalse( template.matches( "" ) );
+			Assertions.assertFalse( template.matches( "user x missing in y" ) );
+			Assertions.assertFalse( template.matches( "admin x not found in y" ) );
+		}
+
+		@Test
+		void overlappingLiterals() {
+			FaultTemplate<?> template = template( "ab{}ba" );
+			Assertions.assertTrue( template.matches( "abba" ) );
+			Assertions.assertFalse( template.matches( "aba" ) );
+		}
+
+		@Test
+		void noSlots() {
+			FaultTemplate<?> template = template( "plain" );
+			Assertions.assertTrue( template.matches( "plain" ) );
+			Assertions.assertFalse( template.matches( "plainer" ) );
+		}
+
+	}
+
+	@Nested
+	class validate {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			FaultTemplate<IllegalStateException> template = template( PATTERN );
+			IllegalStateException error = new IllegalStateException( template.render( "a", "b" ) );
+			OverridePlan override = Standard.err.withOverride( buffer );
+			// Act
+			FaultTemplate<?> output = override.execute( () -> template.validate( error ) );
+			// Assert
+			Assertions.assertSame( template, output );
+			Assertions.assertEquals( "", buffer.toString() );
+		}
+
+		@Test
+		void badType() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			FaultTemplate<IllegalStateException> template = template( PATTERN );
+			RuntimeException error = new RuntimeException( template.render( "a", "b" ) );
+			// Act
+			try {
+				template.validate( error, new PrintStream( buffer ) );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Assertions.assertEquals(
+					Fault.typeError( IllegalStateException.class, RuntimeException.class ),
+					e.getMessage()
+				);
+				Assertions.assertNotEquals( "", buffer.toString() );
+			}
+		}
+
+		@Test
+		void wrongMessage() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			FaultTemplate<IllegalStateException> template = template( PATTERN );
+			String message = randomString();
+			IllegalStateException error = new IllegalStateException( message );
+			// Act
+			try {
+				template.validate( error, new PrintStream( buffer ) );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Assertions.assertEquals(
+					FaultTemplate.messageError( PATTERN, message ),
+					e.getMessage()
+				);
+				Assertions.assertNotEquals( "", buffer.toString() );
+			}
+		}
+
+	}
+
+	@Test
+	void equals() {
+		Assertions.assertEquals( template( PATTERN ), template( PATTERN ) );
+		Assertions.assertEquals( template( PATTERN ).hashCode(), template( PATTERN ).hashCode() );
+		Assertions.assertNotEquals( template( PATTERN ), template( "other {}" ) );
+		Assertions.assertNotEquals( template( PATTERN ), Fault.template( RuntimeException.class, PATTERN ) );
+	}
+
+	private FaultTemplate<IllegalStateException> template( String pattern ) {
+		return Fault.template( IllegalStateException.class, pattern );
+	}
+
+	private String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -7,12 +7,32 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.herbmarshall.fault.Fault.TO_STRING_TEMPLATE;
 
@@ -92,6 +112,178 @@ class FaultTest {
 
 	}
 
+	@Nested
+	class lazy {
+
+		@Test
+		void type_null() {
+			// Arrange
+			// Act
+			try {
+				Fault.lazy( null, FaultTest.this::randomString );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "type" ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void messageSupplier_null() {
+			// Arrange
+			// Act
+			try {
+				Fault.lazy( randomType(), null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "messageSupplier" ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void renderedNull() {
+			// Arrange
+			Fault<?> fault = Fault.lazy( randomType(), () -> null );
+			// Act
+			try {
+				fault.getMessage();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "message" ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void deferred() {
+			// Arrange
+			AtomicInteger calls = new AtomicInteger();
+			String message = randomString();
+			// Act
+			Fault<?> fault = Fault.lazy( randomType(), () -> {
+				calls.incrementAndGet();
+				return message;
+			} );
+			// Assert
+			Assertions.assertEquals( 0, calls.get() );
+			Assertions.assertEquals( message, fault.getMessage() );
+			Assertions.assertEquals( message, fault.build().getMessage() );
+			Assertions.assertEquals( TO_STRING_TEMPLATE.formatted( fault.getType(), message ), fault.toString() );
+			Assertions.assertEquals( 1, calls.get() );
+		}
+
+		@Test
+		void concurrent() throws Exception {
+			// Arrange
+			int threads = 8;
+			AtomicInteger calls = new AtomicInteger();
+			CountDownLatch start = new CountDownLatch( 1 );
+			Fault<?> fault = Fault.lazy( randomType(), () -> {
+				calls.incrementAndGet();
+				return randomString();
+			} );
+			ExecutorService executor = Executors.newFixedThreadPool( threads );
+			try {
+				// Act
+				List<Future<String>> outputs = new ArrayList<>();
+				for ( int i = 0; i < threads; i++ ) {
+					outputs.add( executor.submit( () -> {
+						start.await();
+						return fault.getMessage();
+					} ) );
+				}
+				start.countDown();
+				// Assert
+				for ( Future<String> output : outputs ) {
+					Assertions.assertSame( fault.getMessage(), output.get() );
+				}
+				Assertions.assertEquals( 1, calls.get() );
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+
+		@Test
+		void messageAware() {
+			// Arrange
+			AtomicInteger calls = new AtomicInteger();
+			String message = randomString();
+			Fault<Deferred> fault = Fault.lazy( Deferred.class, () -> {
+				calls.incrementAndGet();
+				return message;
+			} );
+			// Act
+			Deferred output = fault.build();
+			// Assert
+			Assertions.assertEquals( 0, calls.get() );
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertEquals( message, fault.build( new IOException() ).getMessage() );
+			Assertions.assertEquals( message, fault.getMessage() );
+			Assertions.assertEquals( 1, calls.get() );
+		}
+
+		@Test
+		void messageAware_rendered() {
+			// Arrange
+			String message = randomString();
+			Fault<Deferred> fault = Fault.lazy( Deferred.class, () -> message );
+			fault.getMessage();
+			// Act
+			Deferred output = fault.build();
+			// Assert
+			Assertions.assertNull( output.message );
+			Assertions.assertEquals( message, output.getMessage() );
+		}
+
+		@Test
+		void monitorNotUsed() throws Exception {
+			// Arrange
+			String message = randomString();
+			Fault<?> fault = Fault.lazy( randomType(), () -> message );
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				synchronized ( fault ) {
+					// Act
+					Future<String> output = executor.submit( fault::getMessage );
+					// Assert
+					Assertions.assertEquals( message, output.get( 10, TimeUnit.SECONDS ) );
+				}
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+
+		@Test
+		void equalsEager() {
+			// Arrange
+			Class<? extends Throwable> type = randomType();
+			String message = randomString();
+			Fault<?> eager = new Fault<>( type, message );
+			// Act
+			Fault<?> output = Fault.lazy( type, () -> message );
+			// Assert
+			Assertions.assertEquals( eager, output );
+			Assertions.assertEquals( output, eager );
+			Assertions.assertEquals( eager.hashCode(), output.hashCode() );
+		}
+
+	}
+
 	@Test
 	void getErrorType() {
 		// Arrange
@@ -179,6 +371,224 @@ class FaultTest {
 
 	}
 
+	@Nested
+	class buildLightweight {
+
+		@Test
+		void noArg() {
+			exceptions.keySet().forEach( this::noArg );
+		}
+
+		@SuppressWarnings( "unchecked" )
+		private <E extends Throwable> void noArg( Class<E> type ) {
+			// Arrange
+			String message = randomString();
+			Fault<E> fault = new Fault<>( type, message );
+			// Act
+			E output = fault.buildLightweight();
+			// Assert
+			E expected = ( E ) exceptions.get( type ).message.apply( message );
+			throwableIsEqual( expected, output );
+		}
+
+		@Test
+		void throwable() {
+			exceptions.keySet().forEach( this::throwable );
+		}
+
+		@SuppressWarnings( "unchecked" )
+		private <E extends Throwable> void throwable( Class<E> type ) {
+			// Arrange
+			String message = randomString();
+			Fault<E> fault = new Fault<>( type, message );
+			Exception cause = new Exception();
+			// Act
+			E output = fault.buildLightweight( cause );
+			// Assert
+			E expected = ( E ) exceptions.get( type ).caused.apply( message, cause );
+			throwableIsEqual( expected, output );
+		}
+
+		@Test
+		void stackless() {
+			// Arrange
+			String message = randomString();
+			Fault<Stackless> fault = new Fault<>( Stackless.class, message );
+			// Act
+			Stackless output = fault.buildLightweight();
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertEquals( 0, output.getStackTrace().length );
+		}
+
+		@Test
+		void cause_null() {
+			// Arrange
+			Fault<?> fault = new Fault<>( randomType(), randomString() );
+			// Act
+			try {
+				fault.buildLightweight( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "cause" ),
+					e.getMessage()
+				);
+			}
+		}
+
+	}
+
+	@Nested
+	class preload {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<Contextual> fault = new Fault<>( Contextual.class, randomString() );
+			// Act
+			FaultPreloader.Report output = Fault.preload( fault, new Fault<>( Contextual.class, randomString() ) );
+			// Assert
+			Assertions.assertEquals( Set.of( Contextual.class ), output.ready() );
+			Assertions.assertTrue( output.isComplete() );
+		}
+
+		@Test
+		void unbuildable() {
+			// Arrange
+			Fault<Stackless> fault = new Fault<>( Stackless.class, randomString() );
+			// Act
+			FaultPreloader.Report output = Fault.preload( fault );
+			// Assert
+			Assertions.assertEquals( Set.of( Stackless.class ), output.unbuildable().keySet() );
+			Assertions.assertEquals(
+				ConstructorResolver.CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( Stackless.class ),
+				output.unbuildable().get( Stackless.class ).getMessage()
+			);
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			// Act
+			try {
+				Fault.preload( ( Fault<?> ) null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "faults" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class with {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String message = randomString();
+			Fault<IllegalStateException> fault = new Fault<>( IllegalStateException.class, message );
+			// Act
+			Fault<IllegalStateException> output = fault.with( "tenant", "acme" ).with( "request", 42 );
+			// Assert
+			Assertions.assertNotSame( fault, output );
+			Assertions.assertTrue( fault.getContext().isEmpty() );
+			Assertions.assertEquals( "acme", output.getContext().get( "tenant" ) );
+			Assertions.assertEquals( 42, output.getContext().get( "request" ) );
+			Assertions.assertEquals( fault, output );
+			Assertions.assertEquals( fault.hashCode(), output.hashCode() );
+		}
+
+		@Test
+		void lazy() {
+			// Arrange
+			AtomicInteger calls = new AtomicInteger();
+			String message = randomString();
+			Fault<IllegalStateException> fault = Fault.lazy( IllegalStateException.class, () -> {
+				calls.incrementAndGet();
+				return message;
+			} );
+			Fault<IllegalStateException> output = fault.with( randomString(), randomString() );
+			// Act
+			String rendered = output.getMessage();
+			// Assert
+			Assertions.assertEquals( message, rendered );
+			Assertions.assertEquals( message, fault.getMessage() );
+			Assertions.assertEquals( 1, calls.get() );
+		}
+
+		@Test
+		void build() {
+			// Arrange
+			Fault<Contextual> fault = new Fault<>( Contextual.class, randomString() ).with( "tenant", "acme" );
+			// Act
+			Contextual output = fault.build();
+			// Assert
+			Assertions.assertSame( fault.getContext(), output.context );
+			Assertions.assertSame( fault.getContext(), fault.build( new IOException() ).context );
+			Assertions.assertSame( fault.getContext(), fault.buildLightweight().context );
+		}
+
+		@Test
+		void build_noContext() {
+			// Arrange
+			Fault<Contextual> fault = new Fault<>( Contextual.class, randomString() );
+			// Act
+			Contextual output = fault.build();
+			// Assert
+			Assertions.assertNull( output.context );
+		}
+
+		@Test
+		void print() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Class<? extends Throwable> type = randomType();
+			String message = randomString();
+			Fault<?> fault = new Fault<>( type, message ).with( "tenant", "acme" ).with( "request", 42 );
+			// Act
+			fault.print( new PrintStream( buffer ) );
+			// Assert
+			Assertions.assertEquals(
+				TO_STRING_TEMPLATE.formatted( type, message ) + " {tenant=acme, request=42}\n",
+				buffer.toString()
+			);
+		}
+
+		@Test
+		void validate() {
+			// Arrange
+			Fault<IllegalStateException> fault = new Fault<>( IllegalStateException.class, randomString() );
+			IllegalStateException error = fault.build();
+			// Act
+			Fault<IllegalStateException> output = fault.with( randomString(), randomString() )
+				.validate( error, OutputStream.nullOutputStream() );
+			// Assert
+			Assertions.assertEquals( fault, output );
+		}
+
+		@Test
+		void key_null() {
+			// Arrange
+			Fault<?> fault = new Fault<>( randomType(), randomString() );
+			// Act
+			try {
+				fault.with( null, randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "key" ), e.getMessage() );
+			}
+		}
+
+	}
+
 	@Nested
 	class print_noArg {
 
@@ -238,6 +648,142 @@ class FaultTest {
 	}
 
 
+	@Nested
+	class print_unbuffered {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Class<? extends Throwable> type = randomType();
+			String message = randomString();
+			Fault<?> fault = new Fault<>( type, message );
+			// Act
+			Fault<?> output = fault.print( buffer );
+			// Assert
+			Assertions.assertSame( fault, output );
+			Assertions.assertEquals( TO_STRING_TEMPLATE.formatted( type, message ) + "\n", buffer.toString() );
+		}
+
+		@Test
+		void utf8() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Class<? extends Throwable> type = randomType();
+			String message = "\u00e9chec \u2603";
+			Fault<?> fault = new Fault<>( type, message );
+			// Act
+			fault.print( buffer );
+			// Assert
+			Assertions.assertEquals(
+				TO_STRING_TEMPLATE.formatted( type, message ) + "\n",
+				buffer.toString( StandardCharsets.UTF_8 )
+			);
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			IOException cause = new IOException();
+			OutputStream stream = new OutputStream() {
+				@Override
+				public void write( int b ) throws IOException {
+					throw cause;
+				}
+			};
+			Fault<?> fault = new Fault<>( randomType(), randomString() );
+			// Act
+			try {
+				fault.print( stream );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UncheckedIOException e ) {
+				Assertions.assertSame( cause, e.getCause() );
+			}
+		}
+
+		@Test
+		void encodedOnce() {
+			// Arrange
+			Fault<?> fault = new Fault<>( randomType(), randomString() );
+			// Act
+			byte[] outputA = fault.encodedLine();
+			byte[] outputB = fault.encodedLine();
+			// Assert
+			Assertions.assertSame( outputA, outputB );
+		}
+
+		@Test
+		void mutableContext() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			StringBuilder value = new StringBuilder( "a" );
+			Fault<?> fault = new Fault<>( randomType(), randomString() ).with( "key", value );
+			fault.print( buffer );
+			buffer.reset();
+			value.append( "b" );
+			// Act
+			fault.print( buffer );
+			// Assert
+			Assertions.assertEquals( fault + "\n", buffer.toString() );
+			Assertions.assertTrue( buffer.toString().contains( "{key=ab}" ) );
+		}
+
+	}
+
+	@Nested
+	class printTo {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Class<? extends Throwable> type = randomType();
+			String message = randomString();
+			Fault<?> fault = new Fault<>( type, message );
+			// Act
+			Fault<?> output = fault.printTo( Channels.newChannel( buffer ) );
+			// Assert
+			Assertions.assertSame( fault, output );
+			Assertions.assertEquals( TO_STRING_TEMPLATE.formatted( type, message ) + "\n", buffer.toString() );
+		}
+
+		@Test
+		void channel_null() {
+			// Arrange
+			Fault<?> fault = new Fault<>( randomType(), randomString() );
+			// Act
+			try {
+				fault.printTo( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals(
+					Fault.nullPointerError( "channel" ),
+					e.getMessage()
+				);
+			}
+		}
+
+	}
+
+	@Test
+	void printAll() throws IOException {
+		// Arrange
+		Path file = Files.createTempFile( "fault", ".log" );
+		Fault<?> faultA = new Fault<>( randomType(), randomString() );
+		Fault<?> faultB = new Fault<>( randomType(), randomString() );
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.WRITE ) ) {
+			// Act
+			Fault.printAll( channel, faultA, faultB );
+		}
+		// Assert
+		Assertions.assertEquals( faultA + "\n" + faultB + "\n", Files.readString( file ) );
+		Files.delete( file );
+	}
+
 	@Nested
 	class validate_Throwable {
 
@@ -621,6 +1167,19 @@ class FaultTest {
 			Assertions.assertFalse( output );
 		}
 
+		@Test
+		void objectsHash() {
+			// Arrange
+			Class<? extends Throwable> type = randomType();
+			String message = randomString();
+			Fault<?> fault = new Fault<>( type, message );
+			// Act
+			int output = fault.hashCode();
+			// Assert
+			Assertions.assertEquals( Objects.hash( type, message ), output );
+			Assertions.assertEquals( output, fault.hashCode() );
+		}
+
 	}
 
 	private String getStackTrace( Throwable e ) {
@@ -675,6 +1234,44 @@ class FaultTest {
 		throw new IllegalStateException( "Could not find String not equal to '" + exclude + "'" );
 	}
 
+	public static class Contextual extends RuntimeException implements ContextAware {
+		private FaultContext context;
+		public Contextual( String message ) {
+			super( message );
+		}
+		public Contextual( String message, Throwable cause ) {
+			super( message, cause );
+		}
+		@Override
+		public void setContext( FaultContext context ) {
+			this.context = context;
+		}
+	}
+
+	public static class Deferred extends RuntimeException implements MessageAware {
+		private Supplier<String> message;
+		public Deferred( String message ) {
+			super( message );
+		}
+		public Deferred( String message, Throwable cause ) {
+			super( message, cause );
+		}
+		@Override
+		public void setMessage( Supplier<String> message ) {
+			this.message = message;
+		}
+		@Override
+		public String getMessage() {
+			return message == null ? super.getMessage() : message.get();
+		}
+	}
+
+	static class Stackless extends RuntimeException {
+		protected Stackless( String message, Throwable cause, boolean suppression, boolean writable ) {
+			super( message, cause, suppression, writable );
+		}
+	}
+
 	private record ThrowableConstructor<E extends Throwable>(
 		Function<String, E> message,
 		BiFunction<String, Throwable, E> caused
@@ -0,0 +1,259 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultTranslator.DUPLICATE_TEMPLATE;
+import static com.herbmarshall.fault.FaultTranslator.INTERFACE_TEMPLATE;
+
+class FaultTranslatorTest {
+
+	@Nested
+	class map {
+
+		@Test
+		void duplicate() {
+			// Arrange
+			FaultTranslator.Builder builder = FaultTranslator.builder()
+				.map( IOException.class, randomFault() );
+			// Act
+			try {
+				builder.map( IOException.class, randomFault() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( DUPLICATE_TEMPLATE.formatted( IOException.class.getName() ), e.getMessage() );
+			}
+		}
+
+		@Test
+		@SuppressWarnings( "unchecked" )
+		void type_interface() {
+			// Arrange
+			FaultTranslator.Builder builder = FaultTranslator.builder();
+			Class<? extends Throwable> type = ( Class<? extends Throwable> ) ( Class<?> ) Runnable.class;
+			// Act
+			try {
+				builder.map( type, randomFault() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( INTERFACE_TEMPLATE.formatted( Runnable.class.getName() ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void type_null() {
+			// Arrange
+			FaultTranslator.Builder builder = FaultTranslator.builder();
+			// Act
+			try {
+				builder.map( null, randomFault() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "type" ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			FaultTranslator.Builder builder = FaultTranslator.builder();
+			// Act
+			try {
+				builder.map( IOException.class, ( Fault<?> ) null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void builtTranslatorUnchanged() {
+			// Arrange
+			FaultTranslator.Builder builder = FaultTranslator.builder();
+			FaultTranslator translator = builder.build();
+			// Act
+			builder.map( IOException.class, randomFault() );
+			// Assert
+			Assertions.assertFalse( translator.isMapped( IOException.class ) );
+		}
+
+	}
+
+	@Nested
+	class faultOf {
+
+		@Test
+		void exact() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, fault )
+				.build();
+			// Act
+			Fault<?> output = translator.faultOf( new IOException() );
+			// Assert
+			Assertions.assertSame( fault, output );
+		}
+
+		@Test
+		void superclass() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, fault )
+				.build();
+			// Act
+			Fault<?> output = translator.faultOf( new FileNotFoundException() );
+			// Assert
+			Assertions.assertSame( fault, output );
+		}
+
+		@Test
+		void mostSpecific() {
+			// Arrange
+			Fault<IllegalStateException> general = randomFault();
+			Fault<IllegalStateException> specific = randomFault();
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( Exception.class, general )
+				.map( FileNotFoundException.class, specific )
+				.map( IOException.class, randomFault() )
+				.build();
+			// Act
+			Fault<?> output = translator.faultOf( new FileNotFoundException() );
+			// Assert
+			Assertions.assertSame( specific, output );
+			Assertions.assertSame( general, translator.faultOf( new IllegalArgumentException() ) );
+		}
+
+		@Test
+		void unmapped() {
+			// Arrange
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, randomFault() )
+				.build();
+			// Act
+			Fault<?> output = translator.faultOf( new IllegalArgumentException() );
+			// Assert
+			Assertions.assertNull( output );
+		}
+
+		@Test
+		void function() {
+			// Arrange
+			Fault<IllegalStateException> missing = randomFault();
+			Fault<IllegalStateException> other = randomFault();
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, error -> error instanceof FileNotFoundException ? missing : other )
+				.build();
+			// Act
+			Fault<?> output = translator.faultOf( new FileNotFoundException() );
+			// Assert
+			Assertions.assertSame( missing, output );
+			Assertions.assertSame( other, translator.faultOf( new IOException() ) );
+		}
+
+		@Test
+		void function_returnsNull() {
+			// Arrange
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, error -> null )
+				.build();
+			// Act
+			try {
+				translator.faultOf( new IOException() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void error_null() {
+			// Arrange
+			FaultTranslator translator = FaultTranslator.builder().build();
+			// Act
+			try {
+				translator.faultOf( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "error" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class translate {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, fault )
+				.build();
+			IOException error = new FileNotFoundException();
+			// Act
+			Throwable output = translator.translate( error );
+			// Assert
+			Assertions.assertEquals( IllegalStateException.class, output.getClass() );
+			Assertions.assertEquals( fault.getMessage(), output.getMessage() );
+			Assertions.assertSame( error, output.getCause() );
+		}
+
+		@Test
+		void unmapped() {
+			// Arrange
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, randomFault() )
+				.build();
+			UncheckedIOException error = new UncheckedIOException( new IOException() );
+			// Act
+			Throwable output = translator.translate( error );
+			// Assert
+			Assertions.assertSame( error, output );
+		}
+
+	}
+
+	@Nested
+	class isMapped {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			FaultTranslator translator = FaultTranslator.builder()
+				.map( IOException.class, randomFault() )
+				.build();
+			// Act
+			boolean output = translator.isMapped( FileNotFoundException.class );
+			// Assert
+			Assertions.assertTrue( output );
+			Assertions.assertFalse( translator.isMapped( RuntimeException.class ) );
+		}
+
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FingerprintAggregator.CAPACITY_TEMPLATE;
+
+class FingerprintAggregatorTest {
+
+	@Nested
+	class recordError {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			FingerprintAggregator aggregator = new FingerprintAggregator();
+			Fault<IllegalStateException> fault = randomFault();
+			long fingerprint = 0;
+			// Act
+			for ( int i = 0; i < 3; i++ ) fingerprint = aggregator.record( fault.build() );
+			// Assert
+			Assertions.assertEquals( 3, aggregator.count( fingerprint ) );
+			Assertions.assertEquals(
+				List.of( new FingerprintAggregator.Group(
+					fingerprint,
+					IllegalStateException.class.getName(),
+					fault.getMessage(),
+					3
+				) ),
+				aggregator.snapshot()
+			);
+		}
+
+		@Test
+		void bounded() {
+			// Arrange
+			FingerprintAggregator aggregator = new FingerprintAggregator( 0, 2 );
+			// Act
+			for ( int i = 0; i < 5; i++ ) aggregator.record( randomFault().build() );
+			// Assert
+			Assertions.assertEquals( 2, aggregator.snapshot().size() );
+			Assertions.assertEquals( 3, aggregator.overflow() );
+		}
+
+		@Test
+		void concurrent() throws InterruptedException {
+			// Arrange
+			int threads = 8;
+			int perThread = 1000;
+			FingerprintAggregator aggregator = new FingerprintAggregator( 0, 1 );
+			Fault<IllegalStateException> fault = randomFault();
+			List<Thread> workers = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				workers.add( new Thread( () -> {
+					for ( int i = 0; i < perThread; i++ ) aggregator.record( fault.buildLightweight() );
+				} ) );
+			}
+			// Act
+			for ( Thread worker : workers ) worker.start();
+			for ( Thread worker : workers ) worker.join();
+			// Assert
+			Assertions.assertEquals(
+				threads * perThread,
+				aggregator.count( FaultFingerprint.of( fault.buildLightweight(), 0 ) )
+			);
+			Assertions.assertEquals( 0, aggregator.overflow() );
+		}
+
+		@Test
+		void error_null() {
+			// Arrange
+			FingerprintAggregator aggregator = new FingerprintAggregator();
+			// Act
+			try {
+				aggregator.record( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "error" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class snapshot {
+
+		@Test
+		void ordered() {
+			// Arrange
+			FingerprintAggregator aggregator = new FingerprintAggregator( 0, FingerprintAggregator.DEFAULT_CAPACITY );
+			Fault<IllegalStateException> rare = randomFault();
+			Fault<IllegalStateException> common = randomFault();
+			aggregator.record( rare.build() );
+			for ( int i = 0; i < 3; i++ ) aggregator.record( common.build() );
+			// Act
+			List<FingerprintAggregator.Group> output = aggregator.snapshot();
+			// Assert
+			Assertions.assertEquals( common.getMessage(), output.get( 0 ).message() );
+			Assertions.assertEquals( 3, output.get( 0 ).count() );
+			Assertions.assertEquals( rare.getMessage(), output.get( 1 ).message() );
+			Assertions.assertEquals( 1, output.get( 1 ).count() );
+		}
+
+	}
+
+	@Nested
+	class reset {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			FingerprintAggregator aggregator = new FingerprintAggregator( 0, 1 );
+			long fingerprint = aggregator.record( randomFault().build() );
+			aggregator.record( randomFault().build() );
+			// Act
+			aggregator.reset();
+			// Assert
+			Assertions.assertEquals( 0, aggregator.count( fingerprint ) );
+			Assertions.assertEquals( 0, aggregator.overflow() );
+			Assertions.assertEquals( List.of(), aggregator.snapshot() );
+		}
+
+	}
+
+	@Nested
+	class constructor {
+
+		@Test
+		void capacity_zero() {
+			// Arrange
+			// Act
+			try {
+				new FingerprintAggregator( 1, 0 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( CAPACITY_TEMPLATE.formatted( 0 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultInjection.POINT_TYPE_TEMPLATE;
+import static com.herbmarshall.fault.InjectionSite.TYPE_MISMATCH_TEMPLATE;
+
+class InjectionPointTest {
+
+	@AfterEach
+	void tearDown() {
+		FaultInjection.disableAll();
+	}
+
+	@Nested
+	class named {
+
+		@Test
+		void same() {
+			// Arrange
+			String name = randomName();
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( name, RuntimeException.class );
+			// Act
+			InjectionPoint<RuntimeException> output = InjectionPoint.named( name, RuntimeException.class );
+			// Assert
+			Assertions.assertSame( point, output );
+		}
+
+		@Test
+		void type_different() {
+			// Arrange
+			String name = randomName();
+			InjectionPoint.named( name, RuntimeException.class );
+			// Act
+			try {
+				InjectionPoint.named( name, IOException.class );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					POINT_TYPE_TEMPLATE.formatted( name, RuntimeException.class.getName() ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void configuredBefore() {
+			// Arrange
+			String name = randomName();
+			Fault<IllegalStateException> fault = randomFault();
+			FaultInjection.enable( name, InjectionRule.every( fault, 1 ) );
+			// Act
+			InjectionPoint<RuntimeException> output = InjectionPoint.named( name, RuntimeException.class );
+			// Assert
+			try {
+				output.check();
+				Assertions.fail();
+			}
+			catch ( IllegalStateException e ) {
+				fault.validate( e );
+			}
+		}
+
+	}
+
+	@Nested
+	class check {
+
+		@Test
+		void disabled() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			// Act
+			for ( int i = 0; i < 1000; i++ ) point.check();
+			// Assert
+			Assertions.assertNull( point.getRule() );
+		}
+
+		@Test
+		void enabled() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class )
+				.enable( InjectionRule.every( fault, 2 ) );
+			point.check();
+			// Act
+			try {
+				point.check();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				fault.validate( e );
+			}
+		}
+
+		@Test
+		void checked() {
+			// Arrange
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			InjectionPoint<IOException> point = InjectionPoint.named( randomName(), IOException.class )
+				.enable( InjectionRule.every( fault, 1 ) );
+			// Act
+			try {
+				point.check();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IOException e ) {
+				fault.validate( e );
+			}
+		}
+
+		@Test
+		void disable() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class )
+				.enable( InjectionRule.every( randomFault(), 1 ) );
+			// Act
+			point.disable();
+			// Assert
+			point.check();
+			Assertions.assertNull( point.getRule() );
+		}
+
+	}
+
+	@Nested
+	class enable {
+
+		@Test
+		void type_mismatch() {
+			// Arrange
+			String name = randomName();
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( name, RuntimeException.class );
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			// Act
+			try {
+				point.enable( InjectionRule.every( fault, 1 ) );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					TYPE_MISMATCH_TEMPLATE.formatted( name, IOException.class.getName() ),
+					e.getMessage()
+				);
+				Assertions.assertNull( point.getRule() );
+			}
+		}
+
+		@Test
+		void rule_null() {
+			// Arrange
+			InjectionPoint<RuntimeException> point = InjectionPoint.named( randomName(), RuntimeException.class );
+			// Act
+			try {
+				point.enable( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "rule" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private String randomName() {
+		return UUID.randomUUID().toString();
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
@@ -0,0 +1,173 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.InjectionRule.INTERVAL_TEMPLATE;
+import static com.herbmarshall.fault.InjectionRule.LATENCY_TEMPLATE;
+import static com.herbmarshall.fault.InjectionRule.PROBABILITY_TEMPLATE;
+
+class InjectionRuleTest {
+
+	@Nested
+	class probability {
+
+		@Test
+		void always() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			InjectionRule rule = InjectionRule.probability( fault, 1 );
+			// Act
+			try {
+				rule.fire();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( Throwable e ) {
+				fault.validate( e );
+			}
+		}
+
+		@Test
+		void never() throws Throwable {
+			// Arrange
+			InjectionRule rule = InjectionRule.probability( randomFault(), 0 );
+			// Act
+			for ( int i = 0; i < 1000; i++ ) rule.fire();
+			// Assert
+		}
+
+		@Test
+		void outOfRange() {
+			// Arrange
+			// Act
+			try {
+				InjectionRule.probability( randomFault(), 1.5 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( PROBABILITY_TEMPLATE.formatted( 1.5 ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void notANumber() {
+			// Arrange
+			// Act
+			try {
+				InjectionRule.probability( randomFault(), Double.NaN );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( PROBABILITY_TEMPLATE.formatted( Double.NaN ), e.getMessage() );
+			}
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			// Act
+			try {
+				InjectionRule.probability( null, 1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class every {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			InjectionRule rule = InjectionRule.every( randomFault(), 3 );
+			int thrown = 0;
+			// Act
+			for ( int i = 1; i <= 9; i++ ) {
+				try {
+					rule.fire();
+				}
+				catch ( Throwable e ) {
+					Assertions.assertEquals( 0, i % 3 );
+					thrown++;
+				}
+			}
+			// Assert
+			Assertions.assertEquals( 3, thrown );
+		}
+
+		@Test
+		void notPositive() {
+			// Arrange
+			// Act
+			try {
+				InjectionRule.every( randomFault(), 0 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( INTERVAL_TEMPLATE.formatted( 0 ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class delay {
+
+		@Test
+		void happyPath() throws Throwable {
+			// Arrange
+			Duration latency = Duration.ofMillis( 20 );
+			InjectionRule rule = InjectionRule.delay( latency, 1 );
+			long start = System.nanoTime();
+			// Act
+			rule.fire();
+			// Assert
+			Assertions.assertTrue( System.nanoTime() - start >= latency.toNanos() );
+			Assertions.assertNull( rule.getFault() );
+		}
+
+		@Test
+		void interrupted() throws Throwable {
+			// Arrange
+			InjectionRule rule = InjectionRule.delay( Duration.ofHours( 1 ), 1 );
+			Thread.currentThread().interrupt();
+			// Act
+			rule.fire();
+			// Assert
+			Assertions.assertTrue( Thread.interrupted() );
+		}
+
+		@Test
+		void notPositive() {
+			// Arrange
+			// Act
+			try {
+				InjectionRule.delay( Duration.ZERO, 1 );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( LATENCY_TEMPLATE.formatted( Duration.ZERO ), e.getMessage() );
+			}
+		}
+
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
@@ -0,0 +1,267 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.FaultRecord.MALFORMED_TEMPLATE;
+import static com.herbmarshall.fault.JsonFaultCodec.MISSING_MEMBER_TEMPLATE;
+import static com.herbmarshall.fault.JsonFaultCodec.TRUNCATED;
+import static com.herbmarshall.fault.JsonFaultCodec.UNKNOWN_MEMBER_TEMPLATE;
+
+class JsonFaultCodecTest {
+
+	private static final int CAPACITY = 4096;
+
+	@Nested
+	class encode {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> fault = new Fault<>( IllegalStateException.class, "Bad \"state\"\n" )
+				.with( "tenant", "acme" );
+			IOException cause = new IOException( "disk\\full" );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			int written = JsonFaultCodec.encode( fault, cause, buffer );
+			// Assert
+			Assertions.assertEquals(
+				"{\"type\":\"java.lang.IllegalStateException\",\"message\":\"Bad \\\"state\\\"\\u000a\"," +
+					"\"context\":{\"tenant\":\"acme\"}," +
+					"\"causes\":[{\"type\":\"java.io.IOException\",\"message\":\"disk\\\\full\"}]}",
+				new String( buffer.array(), 0, written, StandardCharsets.UTF_8 )
+			);
+		}
+
+		@Test
+		void overflow() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( 32 );
+			buffer.put( ( byte ) ' ' );
+			// Act
+			try {
+				JsonFaultCodec.encode( randomFault(), buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( BufferOverflowException e ) {
+				Assertions.assertEquals( 1, buffer.position() );
+			}
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			try {
+				JsonFaultCodec.encode( null, buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class roundTrip {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			JsonFaultCodec.encode( fault, buffer );
+			// Assert
+			FaultRecord output = JsonFaultCodec.decode( buffer.flip() );
+			Assertions.assertEquals( fault, output.fault() );
+			Assertions.assertEquals( IllegalStateException.class, output.fault().getType() );
+			Assertions.assertEquals( List.of(), output.causes() );
+			Assertions.assertFalse( buffer.hasRemaining() );
+		}
+
+		@Test
+		void context() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault()
+				.with( "tenant", "acme" )
+				.with( "request", 42 )
+				.with( "empty", null );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			JsonFaultCodec.encode( fault, buffer );
+			// Assert
+			FaultContext output = JsonFaultCodec.decode( buffer.flip() ).fault().getContext();
+			Assertions.assertEquals( FaultContext.EMPTY.with( "tenant", "acme" )
+				.with( "request", "42" )
+				.with( "empty", null ), output );
+		}
+
+		@Test
+		void causes() {
+			// Arrange
+			IOException root = new IOException( randomString() );
+			UncheckedIOException cause = new UncheckedIOException( null, root );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			JsonFaultCodec.encode( randomFault(), cause, buffer );
+			// Assert
+			Assertions.assertEquals(
+				List.of(
+					new FaultRecord.Cause( UncheckedIOException.class.getName(), null ),
+					new FaultRecord.Cause( IOException.class.getName(), root.getMessage() )
+				),
+				JsonFaultCodec.decode( buffer.flip() ).causes()
+			);
+		}
+
+		@Test
+		void cyclicCauses() {
+			// Arrange
+			IllegalStateException first = new IllegalStateException( randomString() );
+			IllegalArgumentException second = new IllegalArgumentException( randomString(), first );
+			first.initCause( second );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			// Act
+			JsonFaultCodec.encode( randomFault(), first, buffer );
+			// Assert
+			List<FaultRecord.Cause> output = JsonFaultCodec.decode( buffer.flip() ).causes();
+			Assertions.assertEquals( FaultRecord.MAX_CAUSES, output.size() );
+			for ( int i = 0; i < output.size(); i++ ) {
+				Throwable expected = i % 2 == 0 ? first : second;
+				Assertions.assertEquals(
+					new FaultRecord.Cause( expected.getClass().getName(), expected.getMessage() ),
+					output.get( i )
+				);
+			}
+		}
+
+		@Test
+		void escapes() {
+			// Arrange
+			String message = "tab\tquote\"slash\\/ nul\u0000 caf\u00e9 \u20ac \ud83d\ude00";
+			Fault<IllegalStateException> fault = new Fault<>( IllegalStateException.class, message );
+			ByteBuffer buffer = ByteBuffer.allocateDirect( CAPACITY );
+			// Act
+			JsonFaultCodec.encode( fault, buffer );
+			// Assert
+			Assertions.assertEquals( message, JsonFaultCodec.decode( buffer.flip() ).fault().getMessage() );
+		}
+
+		@Test
+		void many() {
+			// Arrange
+			Fault<IllegalStateException> first = randomFault();
+			Fault<IllegalArgumentException> second = new Fault<>( IllegalArgumentException.class, randomString() );
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			JsonFaultCodec.encode( first, buffer );
+			JsonFaultCodec.encode( second, buffer );
+			buffer.flip();
+			// Act
+			FaultRecord output = JsonFaultCodec.decode( buffer );
+			// Assert
+			Assertions.assertEquals( first, output.fault() );
+			Assertions.assertEquals( second, JsonFaultCodec.decode( buffer ).fault() );
+		}
+
+	}
+
+	@Nested
+	class decode {
+
+		@Test
+		void whitespaceAndOrder() {
+			// Arrange
+			ByteBuffer buffer = utf8(
+				" { \"causes\" : [ ] ,\n\t\"message\" : \"a\\u00e9\\n\" , " +
+					"\"type\" : \"java.lang.IllegalStateException\" } "
+			);
+			// Act
+			FaultRecord output = JsonFaultCodec.decode( buffer );
+			// Assert
+			Assertions.assertEquals( new Fault<>( IllegalStateException.class, "a\u00e9\n" ), output.fault() );
+		}
+
+		@Test
+		void missingMember() {
+			// Arrange
+			ByteBuffer buffer = utf8( "{\"type\":\"java.lang.IllegalStateException\"}" );
+			// Act
+			try {
+				JsonFaultCodec.decode( buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					MALFORMED_TEMPLATE.formatted( buffer.limit(), MISSING_MEMBER_TEMPLATE.formatted( "message" ) ),
+					e.getMessage()
+				);
+				Assertions.assertEquals( 0, buffer.position() );
+			}
+		}
+
+		@Test
+		void unknownMember() {
+			// Arrange
+			ByteBuffer buffer = utf8( "{\"kind\":\"x\"}" );
+			// Act
+			try {
+				JsonFaultCodec.decode( buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals(
+					MALFORMED_TEMPLATE.formatted( 8, UNKNOWN_MEMBER_TEMPLATE.formatted( "kind" ) ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void truncated() {
+			// Arrange
+			ByteBuffer buffer = ByteBuffer.allocate( CAPACITY );
+			JsonFaultCodec.encode( randomFault(), buffer );
+			buffer.flip().limit( 20 );
+			// Act
+			try {
+				JsonFaultCodec.decode( buffer );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalArgumentException e ) {
+				Assertions.assertEquals( MALFORMED_TEMPLATE.formatted( 20, TRUNCATED ), e.getMessage() );
+				Assertions.assertEquals( 0, buffer.position() );
+			}
+		}
+
+	}
+
+	private static ByteBuffer utf8( String value ) {
+		return ByteBuffer.wrap( value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, randomString() );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,358 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.Outcome.NOT_FAILURE;
+import static com.herbmarshall.fault.Outcome.NOT_SUCCESS_TEMPLATE;
+import static com.herbmarshall.fault.Outcome.UNDECLARED_TEMPLATE;
+
+class OutcomeTest {
+
+	@Nested
+	class failure {
+
+		@Test
+		void shared() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			// Act
+			Outcome<String> outputA = Outcome.failure( fault );
+			Outcome<Integer> outputB = fault.failure();
+			// Assert
+			Assertions.assertSame( outputA, outputB );
+			Assertions.assertTrue( outputA.isFailure() );
+			Assertions.assertSame( fault, outputA.getFault() );
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			// Act
+			try {
+				Outcome.failure( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "fault" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class getValue {
+
+		@Test
+		void success() {
+			// Arrange
+			String value = UUID.randomUUID().toString();
+			// Act
+			String output = Outcome.success( value ).getValue();
+			// Assert
+			Assertions.assertEquals( value, output );
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.getValue();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				Assertions.assertEquals( NOT_SUCCESS_TEMPLATE.formatted( fault ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class getFault {
+
+		@Test
+		void success() {
+			// Arrange
+			Outcome<String> outcome = Outcome.success( "value" );
+			// Act
+			try {
+				outcome.getFault();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				Assertions.assertEquals( NOT_FAILURE, e.getMessage() );
+			}
+		}
+
+	}
+
+	@Nested
+	class map {
+
+		@Test
+		void success() {
+			// Arrange
+			Outcome<String> outcome = Outcome.success( "value" );
+			// Act
+			Outcome<Integer> output = outcome.map( String::length );
+			// Assert
+			Assertions.assertEquals( Outcome.success( 5 ), output );
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			Outcome<String> outcome = randomFault().failure();
+			// Act
+			Outcome<Integer> output = outcome.map( value -> {
+				throw new AssertionError( "Should not be called" );
+			} );
+			// Assert
+			Assertions.assertSame( outcome, output );
+		}
+
+	}
+
+	@Nested
+	class flatMap {
+
+		@Test
+		void success() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			Outcome<String> outcome = Outcome.success( "value" );
+			// Act
+			Outcome<Integer> output = outcome.flatMap( value -> fault.failure() );
+			// Assert
+			Assertions.assertSame( fault.failure(), output );
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			Outcome<String> outcome = randomFault().failure();
+			// Act
+			Outcome<Integer> output = outcome.flatMap( value -> Outcome.success( 1 ) );
+			// Assert
+			Assertions.assertSame( outcome, output );
+		}
+
+	}
+
+	@Nested
+	class recover {
+
+		@Test
+		void success() {
+			// Arrange
+			Outcome<String> outcome = Outcome.success( "value" );
+			// Act
+			Outcome<String> output = outcome.recover( Fault::getMessage );
+			// Assert
+			Assertions.assertSame( outcome, output );
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			Outcome<String> outcome = fault.failure();
+			// Act
+			Outcome<String> output = outcome.recover( Fault::getMessage );
+			// Assert
+			Assertions.assertEquals( Outcome.success( fault.getMessage() ), output );
+		}
+
+	}
+
+	@Nested
+	class orElse {
+
+		@Test
+		void success() {
+			// Arrange
+			// Act
+			String output = Outcome.success( "value" ).orElse( "other" );
+			// Assert
+			Assertions.assertEquals( "value", output );
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			Outcome<String> outcome = randomFault().failure();
+			// Act
+			String output = outcome.orElseGet( () -> "other" );
+			// Assert
+			Assertions.assertEquals( "other", output );
+			Assertions.assertEquals( "other", outcome.orElse( "other" ) );
+		}
+
+	}
+
+	@Nested
+	class orElseThrow {
+
+		@Test
+		void success() {
+			// Arrange
+			// Act
+			String output = Outcome.success( "value" ).orElseThrow();
+			// Assert
+			Assertions.assertEquals( "value", output );
+		}
+
+		@Test
+		void failure() {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.orElseThrow();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				fault.validate( e );
+			}
+		}
+
+		@Test
+		void checked() {
+			// Arrange
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.orElseThrow();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UndeclaredThrowableException e ) {
+				Assertions.assertEquals( UNDECLARED_TEMPLATE.formatted( fault ), e.getMessage() );
+				fault.validate( e.getCause() );
+			}
+		}
+
+		@Test
+		void error() {
+			// Arrange
+			Fault<AssertionError> fault = new Fault<>( AssertionError.class, UUID.randomUUID().toString() );
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.orElseThrow();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				fault.validate( e );
+			}
+		}
+
+	}
+
+	@Nested
+	class orElseThrow_Class {
+
+		@Test
+		void success() throws IOException {
+			// Arrange
+			// Act
+			String output = Outcome.success( "value" ).orElseThrow( IOException.class );
+			// Assert
+			Assertions.assertEquals( "value", output );
+		}
+
+		@Test
+		void checked() {
+			// Arrange
+			Fault<IOException> fault = new Fault<>( IOException.class, UUID.randomUUID().toString() );
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.orElseThrow( IOException.class );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IOException e ) {
+				fault.validate( e );
+			}
+		}
+
+		@Test
+		void unchecked() throws IOException {
+			// Arrange
+			Fault<IllegalStateException> fault = randomFault();
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.orElseThrow( IOException.class );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException e ) {
+				fault.validate( e );
+			}
+		}
+
+		@Test
+		void otherChecked() throws IOException {
+			// Arrange
+			Fault<Exception> fault = new Fault<>( Exception.class, UUID.randomUUID().toString() );
+			Outcome<String> outcome = fault.failure();
+			// Act
+			try {
+				outcome.orElseThrow( IOException.class );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UndeclaredThrowableException e ) {
+				fault.validate( e.getCause() );
+			}
+		}
+
+		@Test
+		void type_null() {
+			// Arrange
+			Outcome<String> outcome = Outcome.success( "value" );
+			// Act
+			try {
+				outcome.orElseThrow( null );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( NullPointerException e ) {
+				Assertions.assertEquals( Fault.nullPointerError( "type" ), e.getMessage() );
+			}
+		}
+
+	}
+
+	@Test
+	void toString_() {
+		// Arrange
+		Fault<IllegalStateException> fault = randomFault();
+		// Act
+		// Assert
+		Assertions.assertEquals( "Success(value)", Outcome.success( "value" ).toString() );
+		Assertions.assertEquals( "Failure" + fault, fault.failure().toString() );
+	}
+
+	private Fault<IllegalStateException> randomFault() {
+		return new Fault<>( IllegalStateException.class, UUID.randomUUID().toString() );
+	}
+
+}
@@ -0,0 +1,509 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.herbmarshall.fault.ConstructorResolver.CONSTRUCTOR_NOT_FOUND_TEMPLATE;
+import static com.herbmarshall.fault.ConstructorResolver.INSTANTIATION_FAILURE_TEMPLATE;
+
+@SuppressWarnings( "unused" )
+class ThrowableFactoryTest {
+
+	private static final List<Class<? extends Throwable>> types = List.of(
+		Exception.class,
+		Throwable.class,
+		IllegalArgumentException.class,
+		RuntimeException.class,
+		UnsupportedOperationException.class,
+		IllegalStateException.class,
+		AssertionError.class,
+		ObjectConstructor.class
+	);
+
+	@Nested
+	class of {
+
+		@Test
+		void sameType() {
+			// Arrange
+			// Act
+			ThrowableFactory<IllegalStateException> outputA = ThrowableFactory.of( IllegalStateException.class );
+			ThrowableFactory<IllegalStateException> outputB = ThrowableFactory.of( IllegalStateException.class );
+			// Assert
+			Assertions.assertSame( outputA, outputB );
+		}
+
+		@Test
+		void differentType() {
+			// Arrange
+			// Act
+			ThrowableFactory<?> outputA = ThrowableFactory.of( IllegalStateException.class );
+			ThrowableFactory<?> outputB = ThrowableFactory.of( IllegalArgumentException.class );
+			// Assert
+			Assertions.assertNotSame( outputA, outputB );
+		}
+
+	}
+
+	@Nested
+	class create_String {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<IllegalStateException> factory = ThrowableFactory.of( IllegalStateException.class );
+			// Act
+			IllegalStateException output = factory.create( message );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertNull( output.getCause() );
+		}
+
+		@Test
+		void repeated() {
+			// Arrange
+			String messageA = randomString();
+			String messageB = randomString();
+			ThrowableFactory<IllegalStateException> factory = ThrowableFactory.of( IllegalStateException.class );
+			// Act
+			IllegalStateException outputA = factory.create( messageA );
+			IllegalStateException outputB = factory.create( messageB );
+			// Assert
+			Assertions.assertNotSame( outputA, outputB );
+			Assertions.assertEquals( messageA, outputA.getMessage() );
+			Assertions.assertEquals( messageB, outputB.getMessage() );
+		}
+
+		@Test
+		void objectConstructor() {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<ObjectConstructor> factory = ThrowableFactory.of( ObjectConstructor.class );
+			// Act
+			ObjectConstructor output = factory.create( message );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+		}
+
+		@Test
+		void supertypeConstructor() {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<SupertypeConstructor> factory = ThrowableFactory.of( SupertypeConstructor.class );
+			// Act
+			SupertypeConstructor output = factory.create( message );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+		}
+
+		@Test
+		void privateConstructor() {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<PrivateConstructor> factory = ThrowableFactory.of( PrivateConstructor.class );
+			// Act
+			PrivateConstructor output = factory.create( message );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+		}
+
+		@Test
+		void constructorNotFound() {
+			// Arrange
+			ThrowableFactory<NoArgConstructor> factory = ThrowableFactory.of( NoArgConstructor.class );
+			// Act
+			for ( int i = 0; i < 2; i++ ) {
+				try {
+					factory.create( randomString() );
+					Assertions.fail();
+				}
+			// Assert
+				catch ( UnsupportedOperationException e ) {
+					Assertions.assertEquals(
+						CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( NoArgConstructor.class ),
+						e.getMessage()
+					);
+				}
+			}
+		}
+
+		@Test
+		void constructorNotFound_cached() {
+			// Arrange
+			ThrowableFactory<NoArgConstructor> factory = new ThrowableFactory<>( NoArgConstructor.class, true );
+			UnsupportedOperationException first = null;
+			try {
+				factory.create( randomString() );
+				Assertions.fail();
+			}
+			catch ( UnsupportedOperationException e ) {
+				first = e;
+			}
+			// Act
+			try {
+				factory.create( randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertTrue( factory.isMessageResolved() );
+				Assertions.assertNotSame( first, e );
+				Assertions.assertSame( first.getCause(), e.getCause() );
+			}
+		}
+
+		@Test
+		void failingConstructor() {
+			// Arrange
+			ThrowableFactory<FailingConstructor> factory = ThrowableFactory.of( FailingConstructor.class );
+			// Act
+			try {
+				factory.create( randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					INSTANTIATION_FAILURE_TEMPLATE.formatted( FailingConstructor.class ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void errorConstructor() {
+			// Arrange
+			ThrowableFactory<ErrorConstructor> factory = ThrowableFactory.of( ErrorConstructor.class );
+			// Act
+			try {
+				factory.create( randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( ExpectedError e ) {
+				Assertions.assertNull( e.getCause() );
+			}
+		}
+
+	}
+
+	@Nested
+	class create_String_Throwable {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String message = randomString();
+			Throwable cause = new Exception();
+			ThrowableFactory<IllegalStateException> factory = ThrowableFactory.of( IllegalStateException.class );
+			// Act
+			IllegalStateException output = factory.create( message, cause );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertSame( cause, output.getCause() );
+		}
+
+		@Test
+		void objectConstructor() {
+			// Arrange
+			String message = randomString();
+			Throwable cause = new Exception();
+			ThrowableFactory<ObjectConstructor> factory = ThrowableFactory.of( ObjectConstructor.class );
+			// Act
+			ObjectConstructor output = factory.create( message, cause );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertSame( cause, output.getCause() );
+		}
+
+		@Test
+		void narrowerCause() {
+			// Arrange
+			String message = randomString();
+			IllegalStateException cause = new IllegalStateException();
+			ThrowableFactory<NarrowCauseConstructor> factory = ThrowableFactory.of( NarrowCauseConstructor.class );
+			// Act
+			NarrowCauseConstructor output = factory.create( message, cause );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertSame( cause, output.getCause() );
+		}
+
+		@Test
+		void narrowerCause_notApplicable() {
+			// Arrange
+			ThrowableFactory<NarrowCauseConstructor> factory = ThrowableFactory.of( NarrowCauseConstructor.class );
+			// Act
+			try {
+				factory.create( randomString(), new Exception() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( NarrowCauseConstructor.class ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void narrowerCause_error() {
+			// Arrange
+			ThrowableFactory<NarrowErrorConstructor> factory = ThrowableFactory.of( NarrowErrorConstructor.class );
+			// Act
+			try {
+				factory.create( randomString(), new IllegalStateException() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( ExpectedError e ) {
+				Assertions.assertNull( e.getCause() );
+			}
+		}
+
+		@Test
+		void constructorNotFound() {
+			// Arrange
+			ThrowableFactory<MessageOnlyConstructor> factory = ThrowableFactory.of( MessageOnlyConstructor.class );
+			// Act
+			try {
+				factory.create( randomString(), new Exception() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					CONSTRUCTOR_NOT_FOUND_TEMPLATE.formatted( MessageOnlyConstructor.class ),
+					e.getMessage()
+				);
+			}
+		}
+
+	}
+
+	@Nested
+	class createLightweight {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<LightweightConstructor> factory = ThrowableFactory.of( LightweightConstructor.class );
+			// Act
+			LightweightConstructor output = factory.createLightweight( message, null );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertNull( output.getCause() );
+			Assertions.assertEquals( 0, output.getStackTrace().length );
+		}
+
+		@Test
+		void cause() {
+			// Arrange
+			String message = randomString();
+			Throwable cause = new Exception();
+			ThrowableFactory<LightweightConstructor> factory = ThrowableFactory.of( LightweightConstructor.class );
+			// Act
+			LightweightConstructor output = factory.createLightweight( message, cause );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertSame( cause, output.getCause() );
+			Assertions.assertEquals( 0, output.getStackTrace().length );
+		}
+
+		@Test
+		void suppressionDisabled() {
+			// Arrange
+			ThrowableFactory<LightweightConstructor> factory = ThrowableFactory.of( LightweightConstructor.class );
+			LightweightConstructor output = factory.createLightweight( randomString(), null );
+			// Act
+			output.addSuppressed( new Exception() );
+			// Assert
+			Assertions.assertEquals( 0, output.getSuppressed().length );
+		}
+
+		@Test
+		void noLightweightConstructor() {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<MessageOnlyConstructor> factory = ThrowableFactory.of( MessageOnlyConstructor.class );
+			// Act
+			MessageOnlyConstructor output = factory.createLightweight( message, null );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertNotEquals( 0, output.getStackTrace().length );
+		}
+
+		@Test
+		void inaccessibleLightweightConstructor() {
+			// Arrange
+			String message = randomString();
+			Throwable cause = new Exception();
+			ThrowableFactory<IllegalStateException> factory = ThrowableFactory.of( IllegalStateException.class );
+			// Act
+			IllegalStateException output = factory.createLightweight( message, cause );
+			// Assert
+			Assertions.assertEquals( message, output.getMessage() );
+			Assertions.assertSame( cause, output.getCause() );
+		}
+
+	}
+
+	@Nested
+	class fallback {
+
+		@Test
+		void message() {
+			types.forEach( this::message );
+		}
+
+		private <E extends Throwable> void message( Class<E> type ) {
+			// Arrange
+			String message = randomString();
+			ThrowableFactory<E> spun = new ThrowableFactory<>( type, true );
+			ThrowableFactory<E> fallback = new ThrowableFactory<>( type, false );
+			// Act
+			E expected = spun.create( message );
+			E output = fallback.create( message );
+			// Assert
+			throwableIsEqual( expected, output );
+		}
+
+		@Test
+		void caused() {
+			types.forEach( this::caused );
+		}
+
+		private <E extends Throwable> void caused( Class<E> type ) {
+			// Arrange
+			String message = randomString();
+			Throwable cause = new Exception();
+			ThrowableFactory<E> spun = new ThrowableFactory<>( type, true );
+			ThrowableFactory<E> fallback = new ThrowableFactory<>( type, false );
+			// Act
+			E expected = spun.create( message, cause );
+			E output = fallback.create( message, cause );
+			// Assert
+			throwableIsEqual( expected, output );
+		}
+
+		@Test
+		void failingConstructor() {
+			// Arrange
+			ThrowableFactory<FailingConstructor> factory = new ThrowableFactory<>( FailingConstructor.class, false );
+			// Act
+			try {
+				factory.create( randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( UnsupportedOperationException e ) {
+				Assertions.assertEquals(
+					INSTANTIATION_FAILURE_TEMPLATE.formatted( FailingConstructor.class ),
+					e.getMessage()
+				);
+			}
+		}
+
+		@Test
+		void errorConstructor() {
+			// Arrange
+			ThrowableFactory<ErrorConstructor> factory = new ThrowableFactory<>( ErrorConstructor.class, false );
+			// Act
+			try {
+				factory.create( randomString() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( ExpectedError e ) {
+				Assertions.assertNull( e.getCause() );
+			}
+		}
+
+	}
+
+	private void throwableIsEqual( Throwable expected, Throwable actual ) {
+		Assertions.assertEquals( expected.getClass(), actual.getClass() );
+		Assertions.assertEquals( expected.getMessage(), actual.getMessage() );
+		Assertions.assertSame( expected.getCause(), actual.getCause() );
+	}
+
+	private String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class ObjectConstructor extends Exception {
+		public ObjectConstructor( Object message ) {
+			super( String.valueOf( message ) );
+		}
+		public ObjectConstructor( Object message, Throwable cause ) {
+			super( String.valueOf( message ), cause );
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class MessageOnlyConstructor extends Exception {
+		public MessageOnlyConstructor( String message ) {
+			super( message );
+		}
+	}
+
+	static class LightweightConstructor extends RuntimeException {
+		protected LightweightConstructor( String message, Throwable cause, boolean suppression, boolean writable ) {
+			super( message, cause, suppression, writable );
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class SupertypeConstructor extends Exception {
+		public SupertypeConstructor( CharSequence message ) {
+			super( String.valueOf( message ) );
+		}
+	}
+
+	static final class PrivateConstructor extends Exception {
+		private PrivateConstructor( String message ) {
+			super( message );
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class NarrowCauseConstructor extends Exception {
+		public NarrowCauseConstructor( String message, IllegalStateException cause ) {
+			super( message, cause );
+		}
+	}
+
+	static class NoArgConstructor extends Exception {}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class FailingConstructor extends Exception {
+		public FailingConstructor( String message ) {
+			throw new RuntimeException( "Expected Failure" );
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class ErrorConstructor extends Exception {
+		public ErrorConstructor( String message ) {
+			throw new ExpectedError();
+		}
+	}
+
+	@SuppressWarnings( "checkstyle:RedundantModifier" )
+	static class NarrowErrorConstructor extends Exception {
+		public NarrowErrorConstructor( String message, IllegalStateException cause ) {
+			throw new ExpectedError();
+		}
+	}
+
+	static class ExpectedError extends Error {}
+
+}
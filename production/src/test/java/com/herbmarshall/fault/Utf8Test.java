@@ -0,0 +1,78 @@
+package com.herbmarshall.fault;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+class Utf8Test {
+
+	private static final List<String> SAMPLES = List.of(
+		"",
+		"plain ascii",
+		"caf\u00e9",
+		"\u20ac and \u4e2d\u6587",
+		"emoji \ud83d\ude00 pair",
+		"unpaired \ud83d high",
+		"unpaired \ude00 low",
+		"trailing \ud83d"
+	);
+
+	@Nested
+	class write {
+
+		@Test
+		void matchesString() {
+			for ( String sample : SAMPLES ) {
+				// Arrange
+				ByteBuffer buffer = ByteBuffer.allocate( 64 );
+				// Act
+				int output = Utf8.write( buffer, sample );
+				// Assert
+				byte[] expected = sample.getBytes( StandardCharsets.UTF_8 );
+				Assertions.assertEquals( expected.length, output, sample );
+				Assertions.assertArrayEquals( expected, Arrays.copyOf( buffer.array(), output ), sample );
+			}
+		}
+
+		@Test
+		void range() {
+			// Arrange
+			String sample = "ab\u00e9cd";
+			ByteBuffer buffer = ByteBuffer.allocate( 16 );
+			// Act
+			int output = Utf8.write( buffer, sample, 1, 4 );
+			// Assert
+			byte[] expected = "b\u00e9c".getBytes( StandardCharsets.UTF_8 );
+			Assertions.assertArrayEquals( expected, Arrays.copyOf( buffer.array(), output ) );
+		}
+
+	}
+
+	@Nested
+	class read {
+
+		@Test
+		void roundTrip() {
+			for ( String sample : SAMPLES.subList( 0, 5 ) ) {
+				// Arrange
+				ByteBuffer heap = ByteBuffer.allocate( 64 );
+				ByteBuffer direct = ByteBuffer.allocateDirect( 64 );
+				int length = Utf8.write( heap, sample );
+				Utf8.write( direct, sample );
+				// Act
+				String output = Utf8.read( heap.flip(), length );
+				// Assert
+				Assertions.assertEquals( sample, output );
+				Assertions.assertEquals( sample, Utf8.read( direct.flip(), length ) );
+				Assertions.assertFalse( heap.hasRemaining() );
+			}
+		}
+
+	}
+
+}